@@ -13,6 +13,7 @@ import io.github.khshourov.dictionaryscraper.models.IpaInfo;
 import io.github.khshourov.dictionaryscraper.models.WordMeaning;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -258,4 +259,17 @@ class DefaultDictionaryScraperTest {
 
     assertNull(dictionaryWord);
   }
+
+  @Test
+  void searchAsyncShouldReturnSameDataAsSearch() throws ExecutionException, InterruptedException {
+    String validSingleCategoryWord = "hello";
+
+    DictionaryWord expectedDictionaryWord =
+        dictionaryScraper.search(validSingleCategoryWord, BaseSource.CAMBRIDGE);
+    DictionaryWord actualDictionaryWord =
+        dictionaryScraper.searchAsync(validSingleCategoryWord, BaseSource.CAMBRIDGE).get();
+
+    assertNotNull(actualDictionaryWord);
+    assertEquals(expectedDictionaryWord, actualDictionaryWord);
+  }
 }
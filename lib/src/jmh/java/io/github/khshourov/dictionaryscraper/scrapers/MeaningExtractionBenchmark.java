@@ -0,0 +1,62 @@
+package io.github.khshourov.dictionaryscraper.scrapers;
+
+import io.github.khshourov.dictionaryscraper.enums.MeaningExtraction;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import io.github.khshourov.dictionaryscraper.models.WordMeaning;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link MeaningExtraction} modes on a meaning page captured from the Cambridge
+ * Dictionary.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MeaningExtractionBenchmark {
+  private static final String PAGE =
+      "/io/github/khshourov/dictionaryscraper/cambridge/meaning/present.html";
+
+  @Param({"FULL_PAGE", "UK_SECTION"})
+  public MeaningExtraction meaningExtraction;
+
+  private CambridgeScraper scraper;
+  private ReaderResponse page;
+
+  /**
+   * Loads the page and builds a scraper extracting it in the benchmarked mode.
+   *
+   * @throws IOException if the captured page can't be read
+   */
+  @Setup
+  public void setUp() throws IOException {
+    this.page = CambridgeScraper.resourceOf(PAGE);
+    this.scraper = new CambridgeScraper();
+    this.scraper.setMeaningExtraction(this.meaningExtraction);
+  }
+
+  /**
+   * Extracts the meanings of the page.
+   *
+   * @return the meanings, so that the extraction is not optimized away
+   */
+  @Benchmark
+  public List<WordMeaning> extractMeanings() {
+    return this.scraper.extractMeanings(this.page);
+  }
+}
@@ -0,0 +1,71 @@
+package io.github.khshourov.dictionaryscraper.scrapers;
+
+import io.github.khshourov.dictionaryscraper.enums.Region;
+import io.github.khshourov.dictionaryscraper.models.IpaInfo;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import io.github.khshourov.dictionaryscraper.models.WordMeaning;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the extraction of pages captured from the Cambridge Dictionary, i.e. the work done once
+ * per page in bulk jobs. Run with the {@code gc} profiler, which the build enables, {@code
+ * gc.alloc.rate.norm} is the allocation per page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageExtractionBenchmark {
+  private static final String PAGES = "/io/github/khshourov/dictionaryscraper/cambridge/";
+
+  private CambridgeScraper scraper;
+  private ReaderResponse pronunciation;
+  private ReaderResponse meaning;
+
+  /**
+   * Loads the captured pages.
+   *
+   * @throws IOException if a captured page can't be read
+   */
+  @Setup
+  public void setUp() throws IOException {
+    this.scraper = new CambridgeScraper();
+    this.pronunciation = CambridgeScraper.resourceOf(PAGES + "pronunciation/hello.html");
+    this.meaning = CambridgeScraper.resourceOf(PAGES + "meaning/hello.html");
+  }
+
+  /**
+   * Extracts the pronunciations of the captured pronunciation page.
+   *
+   * @return the pronunciations, so that the extraction is not optimized away
+   */
+  @Benchmark
+  public Map<Region, List<IpaInfo>> extractPronunciations() {
+    return this.scraper.streamIpaListings(this.pronunciation);
+  }
+
+  /**
+   * Extracts the meanings of the captured meaning page.
+   *
+   * @return the meanings, so that the extraction is not optimized away
+   */
+  @Benchmark
+  public List<WordMeaning> extractMeanings() {
+    return this.scraper.extractMeanings(this.meaning);
+  }
+}
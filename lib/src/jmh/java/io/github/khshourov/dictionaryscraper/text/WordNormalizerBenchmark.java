@@ -0,0 +1,89 @@
+package io.github.khshourov.dictionaryscraper.text;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Normalizes every word of a word list, against the regular expression the words used to be cleaned
+ * with. The list is the one bundled with the benchmarks by default, the words of the captured
+ * meaning pages; another one, one word per line, can be given with {@code -p wordList=<path>}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WordNormalizerBenchmark {
+  private static final String BUNDLED_WORD_LIST =
+      "/io/github/khshourov/dictionaryscraper/text/words.txt";
+
+  @Param({""})
+  public String wordList;
+
+  private String[] words;
+
+  /**
+   * Reads the word list, the bundled one unless a path is given.
+   *
+   * @throws IOException if the word list can't be read
+   */
+  @Setup
+  public void setUp() throws IOException {
+    if (!this.wordList.isEmpty()) {
+      this.words =
+          Files.readAllLines(Path.of(this.wordList), StandardCharsets.UTF_8).toArray(String[]::new);
+      return;
+    }
+
+    try (InputStream bundled =
+        WordNormalizerBenchmark.class.getResourceAsStream(BUNDLED_WORD_LIST)) {
+      if (bundled == null) {
+        throw new IOException(BUNDLED_WORD_LIST + " is not bundled");
+      }
+
+      this.words =
+          new String(bundled.readAllBytes(), StandardCharsets.UTF_8).lines().toArray(String[]::new);
+    }
+  }
+
+  /**
+   * Normalizes every word with the {@link WordNormalizer}.
+   *
+   * @param blackhole consumes the keys, so that the normalization is not optimized away
+   */
+  @Benchmark
+  public void normalize(Blackhole blackhole) {
+    for (String word : this.words) {
+      blackhole.consume(WordNormalizer.normalize(word));
+    }
+  }
+
+  /**
+   * Cleans every word with the regular expression, as the baseline.
+   *
+   * @param blackhole consumes the cleaned words, so that the cleaning is not optimized away
+   */
+  @Benchmark
+  public void replaceAll(Blackhole blackhole) {
+    for (String word : this.words) {
+      blackhole.consume(word.replaceAll("[^a-zA-Z]", "").toLowerCase());
+    }
+  }
+}
@@ -2,20 +2,37 @@ package io.github.khshourov.dictionaryscraper;
 
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
+import io.github.khshourov.dictionaryscraper.caches.DictionaryEntryCache;
+import io.github.khshourov.dictionaryscraper.caches.NegativeCache;
+import io.github.khshourov.dictionaryscraper.concurrent.BlockingAdapter;
+import io.github.khshourov.dictionaryscraper.concurrent.CircuitBreaker;
+import io.github.khshourov.dictionaryscraper.concurrent.SingleFlight;
+import io.github.khshourov.dictionaryscraper.enums.CircuitState;
+import io.github.khshourov.dictionaryscraper.enums.ExecutionMode;
+import io.github.khshourov.dictionaryscraper.exceptions.CircuitOpenException;
+import io.github.khshourov.dictionaryscraper.http.AudioPrefetcher;
 import io.github.khshourov.dictionaryscraper.interfaces.DictionaryScraper;
 import io.github.khshourov.dictionaryscraper.interfaces.Scraper;
 import io.github.khshourov.dictionaryscraper.interfaces.Source;
+import io.github.khshourov.dictionaryscraper.models.CircuitBreakerSettings;
 import io.github.khshourov.dictionaryscraper.models.DictionaryEntry;
 import io.github.khshourov.dictionaryscraper.models.DictionaryWord;
+import io.github.khshourov.dictionaryscraper.models.IpaInfo;
+import io.github.khshourov.dictionaryscraper.models.WordKey;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 
 /**
  * DefaultDictionaryScraper is a concrete implementation of the DictionaryScraper interface. It
@@ -34,10 +51,39 @@ import java.util.Optional;
  * <p>The class maintains a mapping of sources to associated scrapers, and ensures that only one
  * scraper is registered per source. Additionally, scrapers can only be used if they have been
  * registered to the relevant source.
+ *
+ * <p>Every source is guarded by a {@link CircuitBreaker}: once a source fails or slows down
+ * repeatedly, searches against it return {@code null} right away instead of waiting for it, until
+ * probe searches show that it has recovered.
+ *
+ * <p>Concurrent searches for the same word in the same source, after the word has been normalized
+ * by the source's scraper into its {@link WordKey} (so "Hello" and "hello!" count as the same
+ * word), share a single scrape. With a {@link DictionaryEntryCache} set, their entries are also
+ * kept for later searches, and with a {@link NegativeCache} set, so are the words the source
+ * doesn't know. With an {@link AudioPrefetcher} set, the audio files of their entries are
+ * downloaded into a local store after the entries have been returned, and the cached entries are
+ * replaced by copies that carry the local files once the downloads have finished.
+ *
+ * <p>{@link #searchAll(Collection, Source)} runs its searches concurrently on the threads of the
+ * {@link ExecutionMode} of the scraper. How many of them are in flight at once is bounded by a
+ * semaphore rather than by the size of a thread pool, so with {@link ExecutionMode#VIRTUAL_THREADS}
+ * the bound can be raised to the number of connections the sources tolerate without paying for as
+ * many platform threads.
  */
 public class DefaultDictionaryScraper implements DictionaryScraper {
+  private static final int DEFAULT_MAX_CONCURRENT_SEARCHES = 64;
+
   private final Map<Source, Scraper> scrapers = new HashMap<>();
   private final List<Source> sources = new ArrayList<>();
+  private final Map<Source, CircuitBreaker> circuitBreakers = new HashMap<>();
+  private final SingleFlight<SearchKey, DictionaryEntry> searches = new SingleFlight<>();
+  private CircuitBreakerSettings circuitBreakerSettings = CircuitBreakerSettings.defaults();
+  private DictionaryEntryCache dictionaryEntryCache;
+  private NegativeCache negativeCache;
+  private AudioPrefetcher audioPrefetcher;
+  private ExecutionMode executionMode = ExecutionMode.PLATFORM_THREADS;
+  private Semaphore searchPermits = new Semaphore(DEFAULT_MAX_CONCURRENT_SEARCHES);
+  private volatile boolean ready;
 
   /**
    * Initializes a new instance of the {@code DefaultDictionaryScraper} class. This constructor
@@ -47,9 +93,9 @@ public class DefaultDictionaryScraper implements DictionaryScraper {
    * the current {@code DefaultDictionaryScraper} instance.
    *
    * <p>The initialization process involves the following: - Scans the specified package for classes
-   * implementing the {@code Scraper} interface. - Instantiates each scraper using its first
-   * declared constructor. - Registers instantiated scrapers with the current dictionary scraper via
-   * their {@code register} method.
+   * implementing the {@code Scraper} interface. - Instantiates each scraper using its no-arg
+   * constructor; classes without one are skipped. - Registers instantiated scrapers with the
+   * current dictionary scraper via their {@code register} method.
    *
    * <p>This constructor leverages the ClassGraph library for classpath scanning and dynamic
    * loading. Any errors encountered during scraper instantiation or registration result in an
@@ -68,22 +114,36 @@ public class DefaultDictionaryScraper implements DictionaryScraper {
 
       classes.forEach(
           cls -> {
-            try {
-              Optional<Constructor<?>> constructor =
-                  Arrays.stream(cls.getDeclaredConstructors()).findFirst();
-              if (constructor.isPresent()) {
-                Scraper scraper = (Scraper) constructor.get().newInstance();
-                scraper.register(this);
-              }
-            } catch (InstantiationException
-                | IllegalAccessException
-                | InvocationTargetException e) {
-              throw new IllegalStateException(e);
+            Scraper scraper = newScraper(cls);
+            if (scraper != null) {
+              scraper.register(this);
             }
           });
     }
   }
 
+  /**
+   * Creates a scraper through its no-arg constructor. The declared constructors come in no
+   * particular order, so the no-arg one is looked up rather than the first one taken.
+   *
+   * @return the scraper, or null if the class has no no-arg constructor
+   * @throws IllegalStateException if the scraper can't be instantiated
+   */
+  static Scraper newScraper(Class<?> cls) {
+    Constructor<?> constructor;
+    try {
+      constructor = cls.getDeclaredConstructor();
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+
+    try {
+      return (Scraper) constructor.newInstance();
+    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
   /**
    * Retrieves the list of sources that have been registered with the dictionary scraper.
    *
@@ -116,12 +176,164 @@ public class DefaultDictionaryScraper implements DictionaryScraper {
       this.sources.add(source);
     }
     this.scrapers.put(source, scraper);
+    this.circuitBreakers.put(source, new CircuitBreaker(this.circuitBreakerSettings));
+    // The new scraper hasn't been warmed up.
+    this.ready = false;
+  }
+
+  /**
+   * Sets the thresholds of the circuit breakers guarding the sources. Every circuit breaker,
+   * including those of the sources registered already, starts over closed.
+   *
+   * @param circuitBreakerSettings the settings of the circuit breakers; must not be null
+   * @throws IllegalArgumentException if circuitBreakerSettings is null
+   */
+  public void setCircuitBreakerSettings(CircuitBreakerSettings circuitBreakerSettings) {
+    if (circuitBreakerSettings == null) {
+      throw new IllegalArgumentException("circuitBreakerSettings can not be null");
+    }
+
+    this.circuitBreakerSettings = circuitBreakerSettings;
+    this.circuitBreakers.replaceAll(
+        (source, circuitBreaker) -> new CircuitBreaker(circuitBreakerSettings));
+  }
+
+  /**
+   * Sets the cache the scraped entries are kept in. Searches served from the cache don't contact
+   * the source at all; there is no cache by default.
+   *
+   * @param dictionaryEntryCache the cache of scraped entries; must not be null
+   * @throws IllegalArgumentException if dictionaryEntryCache is null
+   */
+  public void setDictionaryEntryCache(DictionaryEntryCache dictionaryEntryCache) {
+    if (dictionaryEntryCache == null) {
+      throw new IllegalArgumentException("dictionaryEntryCache can not be null");
+    }
+
+    this.dictionaryEntryCache = dictionaryEntryCache;
+  }
+
+  /**
+   * Sets the cache the words a source doesn't know are remembered in. Searches for such words
+   * return {@code null} without contacting the source. A word is only remembered when its scraper
+   * returned {@code null}, i.e. the source answered that it doesn't know the word; failed searches,
+   * including refusals to serve the page, are never remembered as misses. There is no cache by
+   * default.
+   *
+   * @param negativeCache the cache of unknown words; must not be null
+   * @throws IllegalArgumentException if negativeCache is null
+   */
+  public void setNegativeCache(NegativeCache negativeCache) {
+    if (negativeCache == null) {
+      throw new IllegalArgumentException("negativeCache can not be null");
+    }
+
+    this.negativeCache = negativeCache;
+  }
+
+  /**
+   * Sets the prefetcher that downloads the audio files of scraped entries, so that their
+   * pronunciations carry the paths of local copies next to the remote URLs (see {@link
+   * IpaInfo#localAudio()}). Searches don't wait for the downloads: an entry is returned with the
+   * local copies of the files downloaded before, and once the rest have been downloaded the cached
+   * entry, if any, is replaced by a copy with all local copies. Entries are not prefetched by
+   * default.
+   *
+   * @param audioPrefetcher the prefetcher of audio files; must not be null
+   * @throws IllegalArgumentException if audioPrefetcher is null
+   */
+  public void setAudioPrefetcher(AudioPrefetcher audioPrefetcher) {
+    if (audioPrefetcher == null) {
+      throw new IllegalArgumentException("audioPrefetcher can not be null");
+    }
+
+    this.audioPrefetcher = audioPrefetcher;
+  }
+
+  /**
+   * Sets the kind of threads the searches of {@link #searchAll(Collection, Source)} run on. With
+   * {@link ExecutionMode#VIRTUAL_THREADS}, {@link #searchAsync(String, Source)} also runs the
+   * blocking search on a virtual thread instead of chaining the scraper's non-blocking reads.
+   * {@link ExecutionMode#PLATFORM_THREADS} by default.
+   *
+   * @param executionMode the kind of threads to search on; must not be null
+   * @throws IllegalArgumentException if executionMode is null
+   */
+  public void setExecutionMode(ExecutionMode executionMode) {
+    if (executionMode == null) {
+      throw new IllegalArgumentException("executionMode can not be null");
+    }
+
+    this.executionMode = executionMode;
+  }
+
+  /**
+   * Sets how many searches started by {@link #searchAll(Collection, Source)}, and by {@link
+   * #searchAsync(String, Source)} with {@link ExecutionMode#VIRTUAL_THREADS}, can be in flight at
+   * once; 64 by default. Searches already in flight are not affected.
+   *
+   * @param maxConcurrentSearches the number of concurrent searches; must be positive
+   * @throws IllegalArgumentException if maxConcurrentSearches is not positive
+   */
+  public void setMaxConcurrentSearches(int maxConcurrentSearches) {
+    if (maxConcurrentSearches < 1) {
+      throw new IllegalArgumentException("maxConcurrentSearches must be positive");
+    }
+
+    this.searchPermits = new Semaphore(maxConcurrentSearches);
+  }
+
+  /**
+   * Prepares every registered scraper for its first searches, so that they don't pay the cold-start
+   * penalty: each scraper connects to its source and, if asked for, runs its bundled sample pages
+   * through its extraction. The scrapers are warmed up concurrently; {@link #isReady()} reports
+   * readiness once all of them are done.
+   *
+   * @param extractSamples whether the scrapers run their bundled sample pages through their
+   *     extraction
+   * @return a {@link CompletableFuture} that completes once every scraper is prepared, or
+   *     exceptionally with an {@link IOException} if a source could not be reached, in which case
+   *     the scraper is not ready and the warm-up can be run again
+   */
+  @Override
+  public CompletableFuture<Void> warmUp(boolean extractSamples) {
+    CompletableFuture<?>[] warmUps =
+        this.sources.stream()
+            .map(source -> this.scrapers.get(source).warmUp(extractSamples))
+            .toArray(CompletableFuture[]::new);
+
+    return CompletableFuture.allOf(warmUps).thenRun(() -> this.ready = true);
+  }
+
+  /**
+   * Tells whether every registered scraper has been prepared by {@link #warmUp(boolean)}. A scraper
+   * registered afterwards makes the dictionary scraper not ready until it is warmed up again.
+   *
+   * @return {@code true} once the warm-up of every registered scraper is done
+   */
+  @Override
+  public boolean isReady() {
+    return this.ready;
+  }
+
+  /**
+   * Retrieves the state of the circuit breaker guarding the specified source.
+   *
+   * @param source the registered source
+   * @return the {@link CircuitState} of the source; searches against an {@link CircuitState#OPEN}
+   *     source return {@code null} without contacting it
+   * @throws IllegalArgumentException if no scraper is registered for the specified source
+   */
+  @Override
+  public CircuitState getCircuitState(Source source) {
+    return this.circuitBreakerOf(source).getState();
   }
 
   /**
    * Searches for a word in the specified source using a registered scraper. If the source does not
    * have a registered scraper, an {@link IllegalArgumentException} is thrown. If the word cannot be
-   * found or an exception occurs during scraping, {@code null} is returned.
+   * found, an exception occurs during scraping or the circuit breaker of the source is open, {@code
+   * null} is returned.
    *
    * @param word the word to search for
    * @param source the source from which the word is retrieved
@@ -131,13 +343,26 @@ public class DefaultDictionaryScraper implements DictionaryScraper {
    */
   @Override
   public DictionaryWord search(String word, Source source) {
-    if (!this.scrapers.containsKey(source)) {
-      throw new IllegalArgumentException(
-          "No scraper has been registered for this source: " + source);
+    SearchKey searchKey = this.searchKeyOf(source, word);
+
+    DictionaryEntry cached = this.cachedEntryOf(searchKey);
+    if (cached != null) {
+      return new DictionaryWord(source, word, cached);
+    }
+    if (this.isKnownMiss(searchKey)) {
+      return null;
     }
 
     try {
-      DictionaryEntry dictionaryEntry = this.scrapers.get(source).scrape(word);
+      DictionaryEntry dictionaryEntry =
+          searchKey == null
+              ? this.prefetchAudio(null, this.withStoredAudio(this.scrape(source, word)))
+              : this.searches.run(
+                  searchKey,
+                  () -> {
+                    DictionaryEntry scraped = this.withStoredAudio(this.scrape(source, word));
+                    return this.prefetchAudio(searchKey, this.remember(searchKey, scraped));
+                  });
       if (dictionaryEntry == null) {
         return null;
       }
@@ -147,4 +372,291 @@ public class DefaultDictionaryScraper implements DictionaryScraper {
       return null;
     }
   }
+
+  /**
+   * Searches for a word in the specified source using a registered scraper without blocking the
+   * calling thread. The outcome follows the same rules as {@link #search(String, Source)}: the
+   * future completes with {@code null} if the word cannot be found, an I/O error occurs or the
+   * circuit breaker of the source is open.
+   *
+   * @param word the word to search for
+   * @param source the source from which the word is retrieved
+   * @return a {@link CompletableFuture} that completes with the {@link DictionaryWord}, or {@code
+   *     null} if the word cannot be found or an error occurs
+   * @throws IllegalArgumentException if no scraper is registered for the specified source
+   */
+  @Override
+  public CompletableFuture<DictionaryWord> searchAsync(String word, Source source) {
+    SearchKey searchKey = this.searchKeyOf(source, word);
+
+    DictionaryEntry cached = this.cachedEntryOf(searchKey);
+    if (cached != null) {
+      return CompletableFuture.completedFuture(new DictionaryWord(source, word, cached));
+    }
+    if (this.isKnownMiss(searchKey)) {
+      return CompletableFuture.completedFuture(null);
+    }
+    if (this.executionMode == ExecutionMode.VIRTUAL_THREADS) {
+      Semaphore permits = this.searchPermits;
+      return BlockingAdapter.supplyAsync(
+          () -> {
+            permits.acquire();
+            try {
+              return this.search(word, source);
+            } finally {
+              permits.release();
+            }
+          },
+          ExecutionMode.VIRTUAL_THREADS);
+    }
+
+    CompletableFuture<DictionaryEntry> dictionaryEntryFuture =
+        searchKey == null
+            ? this.scrapeAsync(source, word)
+                .thenApply(this::withStoredAudio)
+                .thenApply(dictionaryEntry -> this.prefetchAudio(null, dictionaryEntry))
+            : this.searches.runAsync(
+                searchKey,
+                () ->
+                    this.scrapeAsync(source, word)
+                        .thenApply(this::withStoredAudio)
+                        .thenApply(dictionaryEntry -> this.remember(searchKey, dictionaryEntry))
+                        .thenApply(
+                            dictionaryEntry -> this.prefetchAudio(searchKey, dictionaryEntry)));
+
+    return dictionaryEntryFuture.handle(
+        (dictionaryEntry, throwable) -> {
+          if (throwable != null) {
+            Throwable cause = BlockingAdapter.unwrap(throwable);
+            if (cause instanceof IOException) {
+              return null;
+            }
+            throw new CompletionException(cause);
+          }
+
+          return dictionaryEntry == null ? null : new DictionaryWord(source, word, dictionaryEntry);
+        });
+  }
+
+  /**
+   * Searches for several words in the specified source concurrently, blocking until every search
+   * has finished. Each word is searched like {@link #search(String, Source)} does, on the threads
+   * of the {@link ExecutionMode} of the scraper; no more searches than the maximum number of
+   * concurrent searches are in flight at once, further words wait for a search to finish. Words
+   * with the same {@link WordKey}, e.g. "Hello" and "hello", are searched once.
+   *
+   * @param words the words to search for; must not be null
+   * @param source the source from which the words are retrieved
+   * @return the results keyed by word, in the order of the words; a word that cannot be found or
+   *     whose search failed maps to {@code null}
+   * @throws IllegalArgumentException if words is null or no scraper is registered for the specified
+   *     source
+   * @throws InterruptedException if the thread is interrupted while waiting for the searches; the
+   *     searches in flight are left to finish
+   */
+  @Override
+  public Map<String, DictionaryWord> searchAll(Collection<String> words, Source source)
+      throws InterruptedException {
+    if (words == null) {
+      throw new IllegalArgumentException("words can not be null");
+    }
+    this.circuitBreakerOf(source);
+
+    Semaphore permits = this.searchPermits;
+    ExecutionMode mode = this.executionMode;
+    Map<String, CompletableFuture<DictionaryWord>> searches = new LinkedHashMap<>();
+    Map<SearchKey, CompletableFuture<DictionaryWord>> searchesByKey = new HashMap<>();
+    for (String word : words) {
+      if (searches.containsKey(word)) {
+        continue;
+      }
+
+      SearchKey searchKey = this.searchKeyOf(source, word);
+      CompletableFuture<DictionaryWord> shared =
+          searchKey == null ? null : searchesByKey.get(searchKey);
+      if (shared != null) {
+        // E.g. "Hello" after "hello": the word takes the result of the search under its own name.
+        searches.put(
+            word,
+            shared.thenApply(
+                found -> found == null ? null : new DictionaryWord(source, word, found.entry())));
+        continue;
+      }
+
+      permits.acquire();
+      CompletableFuture<DictionaryWord> search =
+          BlockingAdapter.supplyAsync(() -> this.search(word, source), mode);
+      search.whenComplete((dictionaryWord, throwable) -> permits.release());
+      searches.put(word, search);
+      if (searchKey != null) {
+        searchesByKey.put(searchKey, search);
+      }
+    }
+
+    Map<String, DictionaryWord> results = new LinkedHashMap<>();
+    for (Map.Entry<String, CompletableFuture<DictionaryWord>> search : searches.entrySet()) {
+      try {
+        results.put(search.getKey(), search.getValue().get());
+      } catch (ExecutionException e) {
+        Throwable cause = BlockingAdapter.unwrap(e);
+        if (cause instanceof RuntimeException runtimeException) {
+          throw runtimeException;
+        }
+        throw new IllegalStateException(cause);
+      }
+    }
+
+    return results;
+  }
+
+  private DictionaryEntry scrape(Source source, String word) throws IOException {
+    CircuitBreaker.Permit permit = this.circuitBreakers.get(source).tryAcquire();
+    if (permit == null) {
+      throw new CircuitOpenException(source.getValue());
+    }
+
+    long start = System.nanoTime();
+    try {
+      DictionaryEntry dictionaryEntry = this.scrapers.get(source).scrape(word);
+      permit.onSuccess(Duration.ofNanos(System.nanoTime() - start));
+      return dictionaryEntry;
+    } catch (IOException e) {
+      permit.onFailure();
+      throw e;
+    } finally {
+      permit.onIgnored();
+    }
+  }
+
+  private CompletableFuture<DictionaryEntry> scrapeAsync(Source source, String word) {
+    CircuitBreaker.Permit permit = this.circuitBreakers.get(source).tryAcquire();
+    if (permit == null) {
+      return CompletableFuture.failedFuture(new CircuitOpenException(source.getValue()));
+    }
+
+    long start = System.nanoTime();
+    CompletableFuture<DictionaryEntry> dictionaryEntryFuture;
+    try {
+      dictionaryEntryFuture = this.scrapers.get(source).scrapeAsync(word);
+    } catch (RuntimeException e) {
+      permit.onIgnored();
+      throw e;
+    }
+
+    return dictionaryEntryFuture.whenComplete(
+        (dictionaryEntry, throwable) -> {
+          if (throwable == null) {
+            permit.onSuccess(Duration.ofNanos(System.nanoTime() - start));
+          } else if (BlockingAdapter.unwrap(throwable) instanceof IOException) {
+            permit.onFailure();
+          } else {
+            permit.onIgnored();
+          }
+        });
+  }
+
+  private DictionaryEntry cachedEntryOf(SearchKey searchKey) {
+    DictionaryEntryCache cache = this.dictionaryEntryCache;
+    if (cache == null || searchKey == null) {
+      return null;
+    }
+
+    return cache.get(searchKey.source(), searchKey.word().value());
+  }
+
+  private boolean isKnownMiss(SearchKey searchKey) {
+    NegativeCache cache = this.negativeCache;
+    return cache != null
+        && searchKey != null
+        && cache.contains(searchKey.source(), searchKey.word().value());
+  }
+
+  /**
+   * Caches the outcome of a completed scrape. Only called with what the scraper returned: failures,
+   * including rejections by an open circuit, never get here and so are never cached as misses.
+   */
+  private DictionaryEntry remember(SearchKey searchKey, DictionaryEntry dictionaryEntry) {
+    if (dictionaryEntry != null) {
+      DictionaryEntryCache cache = this.dictionaryEntryCache;
+      if (cache != null) {
+        cache.put(searchKey.source(), searchKey.word().value(), dictionaryEntry);
+      }
+    } else {
+      NegativeCache cache = this.negativeCache;
+      if (cache != null) {
+        cache.put(searchKey.source(), searchKey.word().value());
+      }
+    }
+
+    return dictionaryEntry;
+  }
+
+  /** Attaches the local copies of audio files downloaded before, if there is a prefetcher. */
+  private DictionaryEntry withStoredAudio(DictionaryEntry dictionaryEntry) {
+    AudioPrefetcher prefetcher = this.audioPrefetcher;
+    if (prefetcher == null || dictionaryEntry == null) {
+      return dictionaryEntry;
+    }
+
+    return prefetcher.withStoredAudio(dictionaryEntry);
+  }
+
+  /**
+   * Starts downloading the audio files of a scraped entry, if there is a prefetcher, and returns
+   * the entry without waiting for them. The downloads start after the scrape has been reported to
+   * the circuit breaker, so they don't count toward the health of the source; once they have
+   * finished, the copy with the local files replaces the cached entry.
+   */
+  private DictionaryEntry prefetchAudio(SearchKey searchKey, DictionaryEntry dictionaryEntry) {
+    AudioPrefetcher prefetcher = this.audioPrefetcher;
+    if (prefetcher == null || dictionaryEntry == null) {
+      return dictionaryEntry;
+    }
+
+    prefetcher
+        .prefetch(dictionaryEntry)
+        .thenAccept(
+            prefetched -> {
+              DictionaryEntryCache cache = this.dictionaryEntryCache;
+              if (cache != null && searchKey != null) {
+                cache.put(searchKey.source(), searchKey.word().value(), prefetched);
+              }
+            });
+
+    return dictionaryEntry;
+  }
+
+  private CircuitBreaker circuitBreakerOf(Source source) {
+    CircuitBreaker circuitBreaker = this.circuitBreakers.get(source);
+    if (circuitBreaker == null) {
+      throw new IllegalArgumentException(
+          "No scraper has been registered for this source: " + source);
+    }
+
+    return circuitBreaker;
+  }
+
+  /**
+   * Identifies the searches that can share a scrape and its cached outcome.
+   *
+   * @return the key, or {@code null} if the word doesn't normalize to anything; such searches are
+   *     left to the scraper to reject and are neither shared nor cached
+   * @throws IllegalArgumentException if no scraper is registered for the specified source
+   */
+  private SearchKey searchKeyOf(Source source, String word) {
+    Scraper scraper = this.scrapers.get(source);
+    if (scraper == null) {
+      throw new IllegalArgumentException(
+          "No scraper has been registered for this source: " + source);
+    }
+
+    WordKey wordKey = scraper.normalize(word);
+    if (wordKey == null || wordKey.isEmpty()) {
+      return null;
+    }
+
+    return new SearchKey(source, wordKey);
+  }
+
+  private record SearchKey(Source source, WordKey word) {}
 }
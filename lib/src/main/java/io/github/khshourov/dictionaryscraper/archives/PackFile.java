@@ -0,0 +1,139 @@
+package io.github.khshourov.dictionaryscraper.archives;
+
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * The PackFile serves the pages packed by a {@link PackFileBuilder} straight from memory-mapped
+ * file regions, without a system call per page.
+ *
+ * <p>A pack file starts with a fixed header, followed by the concatenated page bodies and an index
+ * of the pages sorted by key ({@code purpose/word}). The index is loaded into memory when the pack
+ * is opened and searched with a binary search; the bodies are mapped in segments of at most {@value
+ * #SEGMENT_SIZE} bytes, each overlapping the next by the length of the largest page, so that every
+ * page lies within the segment its offset falls into.
+ *
+ * <p>Lookups don't modify any shared state, so a pack file can be used by many threads at once.
+ * Mapped regions are released by the garbage collector once the pack file becomes unreachable.
+ */
+public class PackFile implements Closeable {
+  static final long MAGIC = 0x4453_5041_434B_3031L; // "DSPACK01"
+  static final int HEADER_SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES + Long.BYTES;
+  static final long SEGMENT_SIZE = 1L << 30;
+
+  private final FileChannel channel;
+  private final long segmentSize;
+  private final MappedByteBuffer[] segments;
+  private final String[] keys;
+  private final long[] offsets;
+  private final int[] lengths;
+
+  /**
+   * Opens and maps the given pack file.
+   *
+   * @param file the pack file to read; must not be null
+   * @throws IllegalArgumentException if file is null
+   * @throws IOException if the file can't be read or is not a pack file
+   */
+  public PackFile(Path file) throws IOException {
+    this(file, SEGMENT_SIZE);
+  }
+
+  PackFile(Path file, long segmentSize) throws IOException {
+    if (file == null) {
+      throw new IllegalArgumentException("file can not be null");
+    }
+
+    this.channel = FileChannel.open(file, StandardOpenOption.READ);
+    this.segmentSize = segmentSize;
+    try {
+      ByteBuffer header = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+      if (header.getLong() != MAGIC) {
+        throw new IOException(file + " is not a pack file");
+      }
+
+      int count = header.getInt();
+      int maxLength = header.getInt();
+      long indexOffset = header.getLong();
+
+      this.keys = new String[count];
+      this.offsets = new long[count];
+      this.lengths = new int[count];
+      this.loadIndex(indexOffset);
+
+      int segmentCount = (int) ((indexOffset - HEADER_SIZE + segmentSize - 1) / segmentSize);
+      this.segments = new MappedByteBuffer[segmentCount];
+      for (int i = 0; i < segmentCount; i++) {
+        long start = HEADER_SIZE + i * segmentSize;
+        long end = Math.min(indexOffset, start + segmentSize + maxLength);
+        this.segments[i] = this.channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+      }
+    } catch (IOException | RuntimeException e) {
+      this.channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Retrieves the body of the page of the given word and purpose.
+   *
+   * @param word the word of the page
+   * @param purpose the purpose the page was read for
+   * @return a read-only buffer of the UTF-8 encoded body of the page, mapped from the file, or
+   *     {@code null} if the page is not in the pack
+   */
+  public ByteBuffer get(String word, ReadingPurpose purpose) {
+    int i = Arrays.binarySearch(this.keys, keyOf(word, purpose));
+    if (i < 0) {
+      return null;
+    }
+
+    long offset = this.offsets[i] - HEADER_SIZE;
+    ByteBuffer segment = this.segments[(int) (offset / this.segmentSize)];
+    return segment.slice((int) (offset % this.segmentSize), this.lengths[i]);
+  }
+
+  /**
+   * Retrieves the number of pages in the pack.
+   *
+   * @return the number of pages
+   */
+  public int size() {
+    return this.keys.length;
+  }
+
+  /**
+   * Closes the pack file.
+   *
+   * @throws IOException if the file can't be closed
+   */
+  @Override
+  public void close() throws IOException {
+    this.channel.close();
+  }
+
+  static String keyOf(String word, ReadingPurpose purpose) {
+    return purpose.getValue() + "/" + word;
+  }
+
+  private void loadIndex(long indexOffset) throws IOException {
+    ByteBuffer index =
+        this.channel.map(
+            FileChannel.MapMode.READ_ONLY, indexOffset, this.channel.size() - indexOffset);
+    for (int i = 0; i < this.keys.length; i++) {
+      byte[] key = new byte[index.getShort() & 0xFFFF];
+      index.get(key);
+      this.keys[i] = new String(key, StandardCharsets.UTF_8);
+      this.offsets[i] = index.getLong();
+      this.lengths[i] = index.getInt();
+    }
+  }
+}
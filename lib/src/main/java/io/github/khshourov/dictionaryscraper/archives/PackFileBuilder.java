@@ -0,0 +1,132 @@
+package io.github.khshourov.dictionaryscraper.archives;
+
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The PackFileBuilder packs a directory of stored pages into a single {@link PackFile}.
+ *
+ * <p>The directory is laid out as {@code <purpose>/<word>.html}, one subdirectory per {@link
+ * ReadingPurpose} value; other files are skipped. It can be run as a tool:
+ *
+ * <pre>{@code
+ * java io.github.khshourov.dictionaryscraper.archives.PackFileBuilder <directory> <pack file>
+ * }</pre>
+ */
+public class PackFileBuilder {
+  private static final String PAGE_SUFFIX = ".html";
+
+  private PackFileBuilder() {}
+
+  /**
+   * Packs the pages of the given directory into the given file, replacing it if it exists.
+   *
+   * @param directory the directory of the pages; must not be null
+   * @param file the pack file to write; must not be null
+   * @return the number of packed pages
+   * @throws IllegalArgumentException if directory or file is null
+   * @throws IOException if a page can't be read or the pack file can't be written
+   */
+  public static int build(Path directory, Path file) throws IOException {
+    if (directory == null) {
+      throw new IllegalArgumentException("directory can not be null");
+    }
+
+    if (file == null) {
+      throw new IllegalArgumentException("file can not be null");
+    }
+
+    List<Entry> entries = new ArrayList<>();
+    int maxLength = 0;
+    try (FileChannel channel =
+        FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      long offset = PackFile.HEADER_SIZE;
+      for (ReadingPurpose purpose : ReadingPurpose.values()) {
+        Path purposeDirectory = directory.resolve(purpose.getValue());
+        if (!Files.isDirectory(purposeDirectory)) {
+          continue;
+        }
+
+        try (DirectoryStream<Path> pages =
+            Files.newDirectoryStream(purposeDirectory, "*" + PAGE_SUFFIX)) {
+          for (Path page : pages) {
+            String fileName = page.getFileName().toString();
+            String word = fileName.substring(0, fileName.length() - PAGE_SUFFIX.length());
+            byte[] body = Files.readAllBytes(page);
+
+            writeFully(channel, ByteBuffer.wrap(body), offset);
+            entries.add(new Entry(PackFile.keyOf(word, purpose), offset, body.length));
+            offset += body.length;
+            maxLength = Math.max(maxLength, body.length);
+          }
+        }
+      }
+
+      entries.sort(Comparator.comparing(Entry::key));
+      writeFully(channel, indexOf(entries), offset);
+
+      ByteBuffer header = ByteBuffer.allocate(PackFile.HEADER_SIZE);
+      header.putLong(PackFile.MAGIC).putInt(entries.size()).putInt(maxLength).putLong(offset);
+      writeFully(channel, header.flip(), 0);
+    }
+
+    return entries.size();
+  }
+
+  /**
+   * Packs the directory given as the first argument into the file given as the second one.
+   *
+   * @param args the directory of the pages and the pack file
+   * @throws IOException if the pages can't be packed
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Usage: PackFileBuilder <directory> <pack file>");
+      System.exit(1);
+    }
+
+    int count = build(Path.of(args[0]), Path.of(args[1]));
+    System.out.printf("Packed %d pages into %s%n", count, args[1]);
+  }
+
+  private static ByteBuffer indexOf(List<Entry> entries) {
+    List<byte[]> keys = new ArrayList<>(entries.size());
+    int size = 0;
+    for (Entry entry : entries) {
+      byte[] key = entry.key().getBytes(StandardCharsets.UTF_8);
+      keys.add(key);
+      size += Short.BYTES + key.length + Long.BYTES + Integer.BYTES;
+    }
+
+    ByteBuffer index = ByteBuffer.allocate(size);
+    for (int i = 0; i < entries.size(); i++) {
+      index.putShort((short) keys.get(i).length).put(keys.get(i));
+      index.putLong(entries.get(i).offset()).putInt(entries.get(i).length());
+    }
+
+    return index.flip();
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+
+  private record Entry(String key, long offset, int length) {}
+}
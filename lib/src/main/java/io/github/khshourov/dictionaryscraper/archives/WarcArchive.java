@@ -0,0 +1,234 @@
+package io.github.khshourov.dictionaryscraper.archives;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The WarcArchive serves the pages recorded in an uncompressed WARC (Web ARChive, ISO 28500) file,
+ * such as the ones written by {@link WarcWriter}, by URL.
+ *
+ * <p>Opening the archive scans it once and indexes its {@code response} records; bodies stay on
+ * disk and are read when a page is requested, so archives larger than the memory can be served.
+ * When a URL has been recorded more than once, the last record wins.
+ */
+public class WarcArchive implements Closeable {
+  private final FileChannel channel;
+  private final Map<String, Page> pages = new HashMap<>();
+
+  /**
+   * Opens and indexes the given archive.
+   *
+   * @param file the WARC file to read; must not be null
+   * @throws IllegalArgumentException if file is null
+   * @throws IOException if the file can't be read or is not a valid WARC file
+   */
+  public WarcArchive(Path file) throws IOException {
+    if (file == null) {
+      throw new IllegalArgumentException("file can not be null");
+    }
+
+    this.channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      this.index();
+    } catch (IOException | RuntimeException e) {
+      this.channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Retrieves the response headers recorded for the given URL.
+   *
+   * @param url the URL of the page
+   * @return the headers keyed by name, or {@code null} if the URL has not been recorded
+   */
+  public Map<String, List<String>> headersOf(String url) {
+    Page page = this.pages.get(url);
+    return page == null ? null : page.headers();
+  }
+
+  /**
+   * Retrieves the HTTP status code recorded for the given URL.
+   *
+   * @param url the URL of the page
+   * @return the status code, or {@code -1} if the URL has not been recorded
+   */
+  public int statusOf(String url) {
+    Page page = this.pages.get(url);
+    return page == null ? -1 : page.statusCode();
+  }
+
+  /**
+   * Reads the body recorded for the given URL.
+   *
+   * @param url the URL of the page
+   * @return the body, or {@code null} if the URL has not been recorded
+   * @throws IOException if the body can't be read
+   */
+  public ByteBuffer bodyOf(String url) throws IOException {
+    Page page = this.pages.get(url);
+    if (page == null) {
+      return null;
+    }
+
+    ByteBuffer body = ByteBuffer.allocate(page.bodyLength());
+    long position = page.bodyOffset();
+    while (body.hasRemaining()) {
+      int read = this.channel.read(body, position);
+      if (read < 0) {
+        throw new EOFException("Truncated record of " + url);
+      }
+      position += read;
+    }
+
+    return body.flip();
+  }
+
+  /**
+   * Retrieves the number of pages in the archive.
+   *
+   * @return the number of distinct recorded URLs
+   */
+  public int size() {
+    return this.pages.size();
+  }
+
+  /**
+   * Closes the archive.
+   *
+   * @throws IOException if the file can't be closed
+   */
+  @Override
+  public void close() throws IOException {
+    this.channel.close();
+  }
+
+  private void index() throws IOException {
+    PositionedInput input =
+        new PositionedInput(new BufferedInputStream(Channels.newInputStream(this.channel)));
+
+    String versionLine;
+    while ((versionLine = input.readLine()) != null) {
+      if (versionLine.isEmpty()) {
+        // Blank lines separating records.
+        continue;
+      }
+      if (!versionLine.startsWith("WARC/")) {
+        throw new IOException("Not a WARC record at offset " + input.position());
+      }
+
+      Map<String, String> fields = new HashMap<>();
+      String line;
+      while ((line = input.readLine()) != null && !line.isEmpty()) {
+        int colon = line.indexOf(':');
+        if (colon > 0) {
+          fields.put(
+              line.substring(0, colon).trim().toLowerCase(Locale.ROOT),
+              line.substring(colon + 1).trim());
+        }
+      }
+
+      long blockLength = Long.parseLong(fields.getOrDefault("content-length", "0"));
+      long blockEnd = input.position() + blockLength;
+      String contentType = fields.getOrDefault("content-type", "");
+      if ("response".equals(fields.get("warc-type"))
+          && fields.containsKey("warc-target-uri")
+          && contentType.startsWith("application/http")) {
+        this.pages.put(fields.get("warc-target-uri"), readPage(input, blockEnd));
+      }
+
+      input.skipTo(blockEnd);
+    }
+  }
+
+  private static Page readPage(PositionedInput input, long blockEnd) throws IOException {
+    String statusLine = input.readLine();
+    String[] status = statusLine == null ? new String[0] : statusLine.split(" ", 3);
+    if (status.length < 2 || !status[0].startsWith("HTTP/")) {
+      throw new IOException("Not an HTTP response at offset " + input.position());
+    }
+    int statusCode;
+    try {
+      statusCode = Integer.parseInt(status[1]);
+    } catch (NumberFormatException e) {
+      throw new IOException("Not an HTTP status code at offset " + input.position(), e);
+    }
+
+    Map<String, List<String>> headers = new LinkedHashMap<>();
+    String line;
+    while ((line = input.readLine()) != null && !line.isEmpty()) {
+      int colon = line.indexOf(':');
+      if (colon > 0) {
+        headers
+            .computeIfAbsent(line.substring(0, colon).trim(), name -> new ArrayList<>())
+            .add(line.substring(colon + 1).trim());
+      }
+    }
+    headers.replaceAll((name, values) -> List.copyOf(values));
+
+    long bodyOffset = input.position();
+    return new Page(
+        statusCode, bodyOffset, Math.toIntExact(blockEnd - bodyOffset), Map.copyOf(headers));
+  }
+
+  private record Page(
+      int statusCode, long bodyOffset, int bodyLength, Map<String, List<String>> headers) {}
+
+  /** An input stream that knows its offset in the file and reads CRLF-terminated lines. */
+  private static final class PositionedInput {
+    private final InputStream input;
+    private long position;
+
+    private PositionedInput(InputStream input) {
+      this.input = input;
+    }
+
+    private long position() {
+      return this.position;
+    }
+
+    private String readLine() throws IOException {
+      ByteArrayOutputStream line = new ByteArrayOutputStream();
+      int next;
+      while ((next = this.input.read()) != -1) {
+        this.position++;
+        if (next == '\n') {
+          break;
+        }
+        line.write(next);
+      }
+      if (next == -1 && line.size() == 0) {
+        return null;
+      }
+
+      String text = line.toString(StandardCharsets.UTF_8);
+      return text.endsWith("\r") ? text.substring(0, text.length() - 1) : text;
+    }
+
+    private void skipTo(long offset) throws IOException {
+      while (this.position < offset) {
+        long skipped = this.input.skip(offset - this.position);
+        if (skipped <= 0) {
+          throw new EOFException("Truncated WARC record");
+        }
+        this.position += skipped;
+      }
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package io.github.khshourov.dictionaryscraper.archives;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The WarcWriter appends HTTP responses to an uncompressed WARC (Web ARChive, ISO 28500) file, one
+ * {@code response} record per page, so that the pages can be replayed later by a {@link
+ * WarcArchive} or by any other WARC tool.
+ *
+ * <p>A new file starts with a {@code warcinfo} record; an existing file is appended to. Bodies are
+ * recorded decoded, so the {@code Content-Encoding} and {@code Transfer-Encoding} headers are left
+ * out and {@code Content-Length} is set to the length of the recorded body.
+ */
+public class WarcWriter implements Closeable {
+  static final String CRLF = "\r\n";
+  static final String WARC_VERSION = "WARC/1.1";
+
+  private static final Set<String> DROPPED_HEADERS =
+      Set.of("content-encoding", "transfer-encoding", "content-length");
+  private static final Map<Integer, String> REASON_PHRASES = Map.of(200, "OK", 304, "Not Modified");
+
+  private final FileChannel channel;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /**
+   * Opens the given file for appending, creating it if needed.
+   *
+   * @param file the WARC file to write to; must not be null
+   * @throws IllegalArgumentException if file is null
+   * @throws IOException if the file can't be opened or written
+   */
+  public WarcWriter(Path file) throws IOException {
+    if (file == null) {
+      throw new IllegalArgumentException("file can not be null");
+    }
+
+    this.channel =
+        FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    if (this.channel.size() == 0) {
+      this.writeRecord(
+          "warcinfo",
+          null,
+          "application/warc-fields",
+          ("software: dictionaryscraper" + CRLF + "format: WARC File Format 1.1" + CRLF)
+              .getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  /**
+   * Appends a response of the given page with the given status, e.g. {@code 304 Not Modified} for a
+   * stored page the source confirmed, whose body is then the stored one.
+   *
+   * @param url the URL the page was read from
+   * @param statusCode the HTTP status code of the response
+   * @param headers the response headers, keyed by name
+   * @param body the decoded body of the page; its remaining bytes are written
+   * @throws IOException if the record can't be written
+   */
+  public void writeResponse(
+      String url, int statusCode, Map<String, List<String>> headers, ByteBuffer body)
+      throws IOException {
+    byte[] bodyBytes = new byte[body.remaining()];
+    body.duplicate().get(bodyBytes);
+
+    StringBuilder http =
+        new StringBuilder("HTTP/1.1 ")
+            .append(statusCode)
+            .append(' ')
+            .append(REASON_PHRASES.getOrDefault(statusCode, ""))
+            .append(CRLF);
+    headers.forEach(
+        (name, values) -> {
+          if (!name.startsWith(":") && !DROPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+            values.forEach(value -> http.append(name).append(": ").append(value).append(CRLF));
+          }
+        });
+    http.append("Content-Length: ").append(bodyBytes.length).append(CRLF).append(CRLF);
+
+    ByteArrayOutputStream block = new ByteArrayOutputStream();
+    block.writeBytes(http.toString().getBytes(StandardCharsets.ISO_8859_1));
+    block.writeBytes(bodyBytes);
+
+    this.writeRecord("response", url, "application/http;msgtype=response", block.toByteArray());
+  }
+
+  /**
+   * Closes the file.
+   *
+   * @throws IOException if the file can't be closed
+   */
+  @Override
+  public void close() throws IOException {
+    this.channel.close();
+  }
+
+  private void writeRecord(String type, String url, String contentType, byte[] block)
+      throws IOException {
+    this.lock.lock();
+    try {
+      StringBuilder header = new StringBuilder(WARC_VERSION).append(CRLF);
+      header.append("WARC-Type: ").append(type).append(CRLF);
+      header
+          .append("WARC-Record-ID: <urn:uuid:")
+          .append(UUID.randomUUID())
+          .append('>')
+          .append(CRLF);
+      header
+          .append("WARC-Date: ")
+          .append(Instant.now().truncatedTo(ChronoUnit.SECONDS))
+          .append(CRLF);
+      if (url != null) {
+        header.append("WARC-Target-URI: ").append(url).append(CRLF);
+      }
+      header.append("Content-Type: ").append(contentType).append(CRLF);
+      header.append("Content-Length: ").append(block.length).append(CRLF).append(CRLF);
+
+      ByteArrayOutputStream warcRecord = new ByteArrayOutputStream();
+      warcRecord.writeBytes(header.toString().getBytes(StandardCharsets.UTF_8));
+      warcRecord.writeBytes(block);
+      warcRecord.writeBytes((CRLF + CRLF).getBytes(StandardCharsets.US_ASCII));
+
+      // One write per record, so that records of concurrent reads never interleave.
+      ByteBuffer buffer = ByteBuffer.wrap(warcRecord.toByteArray());
+      while (buffer.hasRemaining()) {
+        this.channel.write(buffer);
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+}
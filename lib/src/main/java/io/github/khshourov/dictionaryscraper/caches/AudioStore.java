@@ -0,0 +1,102 @@
+package io.github.khshourov.dictionaryscraper.caches;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * The AudioStore keeps audio files in a local directory, addressed by their content: every file is
+ * named after the SHA-256 digest of its bytes, so that the same audio is stored once, whichever
+ * URLs it was downloaded from. Files are spread over subdirectories named after the first two hex
+ * digits of the digest, so that no directory grows too large.
+ *
+ * <p>Files are written to a temporary file first and then renamed into place, so a reader, even in
+ * another process sharing the directory, sees either no file or the whole file. Stored files are
+ * never modified nor evicted.
+ */
+public class AudioStore {
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private final Path directory;
+
+  /**
+   * Opens the store in the given directory, creating the directory if needed.
+   *
+   * @param directory the directory the audio files are kept in; must not be null
+   * @throws IllegalArgumentException if directory is null
+   * @throws IOException if the directory can't be created
+   */
+  public AudioStore(Path directory) throws IOException {
+    if (directory == null) {
+      throw new IllegalArgumentException("directory can not be null");
+    }
+
+    this.directory = Files.createDirectories(directory);
+  }
+
+  /**
+   * Retrieves the directory of the store.
+   *
+   * @return the directory the audio files are kept in
+   */
+  public Path getDirectory() {
+    return this.directory;
+  }
+
+  /**
+   * Stores the given audio, unless the same content is stored already.
+   *
+   * @param content the bytes of the audio file; must not be null
+   * @param extension the extension of the file, e.g. {@code "mp3"}; may be empty
+   * @return the path of the stored file
+   * @throws IllegalArgumentException if content or extension is null
+   * @throws IOException if the file can't be written
+   */
+  public Path put(byte[] content, String extension) throws IOException {
+    if (content == null) {
+      throw new IllegalArgumentException("content can not be null");
+    }
+    if (extension == null) {
+      throw new IllegalArgumentException("extension can not be null");
+    }
+
+    String digest = digestOf(content);
+    Path file =
+        this.directory
+            .resolve(digest.substring(0, 2))
+            .resolve(extension.isEmpty() ? digest : digest + "." + extension);
+    if (Files.exists(file)) {
+      return file;
+    }
+
+    Files.createDirectories(file.getParent());
+    Path temp = Files.createTempFile(file.getParent(), digest, TEMP_SUFFIX);
+    try {
+      Files.write(temp, content);
+      try {
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+
+    return file;
+  }
+
+  private static String digestOf(byte[] content) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256.
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,226 @@
+package io.github.khshourov.dictionaryscraper.caches;
+
+import io.github.khshourov.dictionaryscraper.interfaces.Source;
+import io.github.khshourov.dictionaryscraper.models.CacheStats;
+import io.github.khshourov.dictionaryscraper.models.CategoryMeaningEntry;
+import io.github.khshourov.dictionaryscraper.models.DictionaryEntry;
+import io.github.khshourov.dictionaryscraper.models.DictionaryEntryCacheSettings;
+import io.github.khshourov.dictionaryscraper.models.IpaInfo;
+import io.github.khshourov.dictionaryscraper.models.WordMeaning;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * The DictionaryEntryCache keeps scraped {@link DictionaryEntry} objects in memory, keyed by source
+ * and cleaned word.
+ *
+ * <p>The cache is bounded by the total weight of its entries (see {@link
+ * DictionaryEntryCacheSettings#maxWeight()}), so a few large entries take the room of many small
+ * ones. When it is full, the least recently used entries make room for a new one only if the new
+ * one has been looked up more often recently than each of them (TinyLFU admission); a burst of
+ * words looked up once can't flush the popular ones. Entries expire after the time-to-live of the
+ * cache.
+ */
+public class DictionaryEntryCache {
+  private static final int AVERAGE_WEIGHT = 2048;
+
+  private final long maxWeight;
+  private final long timeToLive;
+  private final LongSupplier clock;
+  private final FrequencySketch sketch;
+  private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final ReentrantLock lock = new ReentrantLock();
+  private long weight;
+  private long hits;
+  private long misses;
+  private long evictions;
+  private long rejections;
+
+  /**
+   * Initializes an empty cache.
+   *
+   * @param settings the bound and time-to-live of the cache; must not be null
+   * @throws IllegalArgumentException if settings is null
+   */
+  public DictionaryEntryCache(DictionaryEntryCacheSettings settings) {
+    this(settings, System::nanoTime);
+  }
+
+  DictionaryEntryCache(DictionaryEntryCacheSettings settings, LongSupplier clock) {
+    if (settings == null) {
+      throw new IllegalArgumentException("settings can not be null");
+    }
+
+    this.maxWeight = settings.maxWeight();
+    this.timeToLive = settings.timeToLive().toNanos();
+    this.clock = clock;
+    this.sketch =
+        new FrequencySketch((int) Math.min(1 << 20, settings.maxWeight() / AVERAGE_WEIGHT));
+  }
+
+  /**
+   * Retrieves the entry cached for the given word.
+   *
+   * @param source the source the entry was scraped from
+   * @param cleanedWord the word, as cleaned by the scraper of the source
+   * @return the cached entry, or {@code null} if there is none or it has expired
+   */
+  public DictionaryEntry get(Source source, String cleanedWord) {
+    this.lock.lock();
+    try {
+      Key key = new Key(source, cleanedWord);
+      this.sketch.increment(key);
+
+      Entry entry = this.entries.get(key);
+      if (entry != null && this.clock.getAsLong() - entry.expiresAt() >= 0) {
+        this.remove(key);
+        this.evictions++;
+        entry = null;
+      }
+
+      if (entry == null) {
+        this.misses++;
+        return null;
+      }
+
+      this.hits++;
+      return entry.dictionaryEntry();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Caches the entry of the given word, if it is admitted.
+   *
+   * @param source the source the entry was scraped from
+   * @param cleanedWord the word, as cleaned by the scraper of the source
+   * @param dictionaryEntry the entry to cache; must not be null
+   * @throws IllegalArgumentException if dictionaryEntry is null
+   */
+  public void put(Source source, String cleanedWord, DictionaryEntry dictionaryEntry) {
+    this.lock.lock();
+    try {
+      if (dictionaryEntry == null) {
+        throw new IllegalArgumentException("dictionaryEntry can not be null");
+      }
+
+      Key key = new Key(source, cleanedWord);
+      long entryWeight = weightOf(dictionaryEntry);
+      if (entryWeight > this.maxWeight) {
+        this.rejections++;
+        return;
+      }
+
+      boolean resident = this.remove(key);
+      List<Key> victims = this.victimsFor(entryWeight);
+      if (!resident) {
+        int frequency = this.sketch.frequency(key);
+        for (Key victim : victims) {
+          if (this.sketch.frequency(victim) >= frequency) {
+            this.rejections++;
+            return;
+          }
+        }
+      }
+
+      for (Key victim : victims) {
+        this.remove(victim);
+        this.evictions++;
+      }
+      this.entries.put(
+          key, new Entry(dictionaryEntry, entryWeight, this.clock.getAsLong() + this.timeToLive));
+      this.weight += entryWeight;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Retrieves the counters of the cache.
+   *
+   * @return a snapshot of the {@link CacheStats}
+   */
+  public CacheStats stats() {
+    this.lock.lock();
+    try {
+      return new CacheStats(this.hits, this.misses, this.evictions, this.rejections);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Retrieves the total weight of the cached entries.
+   *
+   * @return the weight, in characters
+   */
+  public long weight() {
+    this.lock.lock();
+    try {
+      return this.weight;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private List<Key> victimsFor(long entryWeight) {
+    List<Key> victims = new ArrayList<>();
+    long freed = 0;
+    Iterator<Map.Entry<Key, Entry>> eldest = this.entries.entrySet().iterator();
+    while (this.weight - freed + entryWeight > this.maxWeight && eldest.hasNext()) {
+      Map.Entry<Key, Entry> victim = eldest.next();
+      victims.add(victim.getKey());
+      freed += victim.getValue().weight();
+    }
+
+    return victims;
+  }
+
+  private boolean remove(Key key) {
+    Entry entry = this.entries.remove(key);
+    if (entry == null) {
+      return false;
+    }
+
+    this.weight -= entry.weight();
+    return true;
+  }
+
+  private static long weightOf(DictionaryEntry dictionaryEntry) {
+    long weight = 0;
+    for (String link : dictionaryEntry.sourceLinks()) {
+      weight += lengthOf(link);
+    }
+    for (List<IpaInfo> ipaInfos : dictionaryEntry.ipaListings().values()) {
+      for (IpaInfo ipaInfo : ipaInfos) {
+        weight +=
+            lengthOf(ipaInfo.category()) + lengthOf(ipaInfo.ipa()) + lengthOf(ipaInfo.audio());
+      }
+    }
+    for (WordMeaning wordMeaning : dictionaryEntry.meanings()) {
+      weight += lengthOf(wordMeaning.categories());
+      for (CategoryMeaningEntry entry : wordMeaning.entries()) {
+        weight += lengthOf(entry.meaning());
+        for (String example : entry.examples()) {
+          weight += lengthOf(example);
+        }
+      }
+    }
+
+    return Math.max(1, weight);
+  }
+
+  private static int lengthOf(String text) {
+    return text == null ? 0 : text.length();
+  }
+
+  private record Key(Source source, String cleanedWord) {}
+
+  private record Entry(DictionaryEntry dictionaryEntry, long weight, long expiresAt) {}
+}
@@ -0,0 +1,217 @@
+package io.github.khshourov.dictionaryscraper.caches;
+
+import io.github.khshourov.dictionaryscraper.models.DiskCacheSettings;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The DiskCache keeps values as files in a local directory, one file per key, named after the
+ * SHA-256 digest of the key.
+ *
+ * <p>A file expires once it is older than the time-to-live of the cache. The total size of the
+ * files is kept below a bound by deleting the least recently used ones; files written by earlier
+ * runs are picked up when the cache is opened, the oldest counting as least recently used.
+ *
+ * <p>Files are written to a temporary file first and then renamed into place, so a reader, even in
+ * another process sharing the directory, sees either the old or the new file, never a partially
+ * written one.
+ */
+public class DiskCache {
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private final Path directory;
+  private final long timeToLive;
+  private final long maxBytes;
+  private final Map<String, Long> sizes = new LinkedHashMap<>(16, 0.75f, true);
+  private final ReentrantLock lock = new ReentrantLock();
+  private long totalBytes;
+
+  /**
+   * Opens the cache in the directory of the given settings, creating the directory if needed.
+   *
+   * @param settings the settings of the cache; must not be null
+   * @throws IllegalArgumentException if settings is null
+   * @throws IOException if the directory can't be created or listed
+   */
+  public DiskCache(DiskCacheSettings settings) throws IOException {
+    if (settings == null) {
+      throw new IllegalArgumentException("settings can not be null");
+    }
+
+    this.directory = Files.createDirectories(settings.directory());
+    this.timeToLive = settings.timeToLive().toMillis();
+    this.maxBytes = settings.maxBytes();
+
+    this.loadIndex();
+  }
+
+  /**
+   * Retrieves the value stored under the given key.
+   *
+   * @param key the key of the value
+   * @return the stored value, or {@code null} if there is none or it has expired
+   * @throws IOException if the file exists but can't be read
+   */
+  public byte[] get(String key) throws IOException {
+    String fileName = fileNameOf(key);
+    Path file = this.directory.resolve(fileName);
+
+    try {
+      if (this.isExpired(Files.getLastModifiedTime(file).toMillis())) {
+        Files.deleteIfExists(file);
+        this.forget(fileName);
+        return null;
+      }
+
+      byte[] value = Files.readAllBytes(file);
+      this.remember(fileName, value.length);
+
+      return value;
+    } catch (NoSuchFileException e) {
+      this.forget(fileName);
+      return null;
+    }
+  }
+
+  /**
+   * Stores the value under the given key, replacing the previous one. Values larger than the size
+   * bound of the cache are not stored.
+   *
+   * @param key the key of the value
+   * @param value the value to store
+   * @throws IOException if the file can't be written
+   */
+  public void put(String key, byte[] value) throws IOException {
+    if (value.length > this.maxBytes) {
+      return;
+    }
+
+    String fileName = fileNameOf(key);
+    Path temp = Files.createTempFile(this.directory, fileName, TEMP_SUFFIX);
+    try {
+      Files.write(temp, value);
+      try {
+        Files.move(
+            temp,
+            this.directory.resolve(fileName),
+            StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, this.directory.resolve(fileName), StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+
+    this.remember(fileName, value.length);
+    this.evict();
+  }
+
+  /**
+   * Retrieves the total size of the files known to the cache.
+   *
+   * @return the size in bytes
+   */
+  public long size() {
+    this.lock.lock();
+    try {
+      return this.totalBytes;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private boolean isExpired(long lastModified) {
+    return Instant.now().toEpochMilli() - lastModified > this.timeToLive;
+  }
+
+  private void remember(String fileName, long size) {
+    this.lock.lock();
+    try {
+      Long previous = this.sizes.put(fileName, size);
+      this.totalBytes += size - (previous == null ? 0L : previous);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private void forget(String fileName) {
+    this.lock.lock();
+    try {
+      Long previous = this.sizes.remove(fileName);
+      if (previous != null) {
+        this.totalBytes -= previous;
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private void evict() throws IOException {
+    List<String> evicted = new ArrayList<>();
+    this.lock.lock();
+    try {
+      Iterator<Map.Entry<String, Long>> eldest = this.sizes.entrySet().iterator();
+      // The most recently used file is the one just written; it always stays.
+      while (this.totalBytes > this.maxBytes && this.sizes.size() > 1) {
+        Map.Entry<String, Long> entry = eldest.next();
+        this.totalBytes -= entry.getValue();
+        evicted.add(entry.getKey());
+        eldest.remove();
+      }
+    } finally {
+      this.lock.unlock();
+    }
+
+    for (String fileName : evicted) {
+      Files.deleteIfExists(this.directory.resolve(fileName));
+    }
+  }
+
+  private void loadIndex() throws IOException {
+    Map<String, BasicFileAttributes> files = new HashMap<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory)) {
+      for (Path file : stream) {
+        String fileName = file.getFileName().toString();
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        if (attributes.isRegularFile() && !fileName.endsWith(TEMP_SUFFIX)) {
+          files.put(fileName, attributes);
+        }
+      }
+    }
+
+    files.entrySet().stream()
+        .sorted(Comparator.comparing(file -> file.getValue().lastModifiedTime()))
+        .forEach(file -> this.remember(file.getKey(), file.getValue().size()));
+    this.evict();
+  }
+
+  private static String fileNameOf(String key) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256.
+      throw new IllegalStateException(e);
+    }
+  }
+}
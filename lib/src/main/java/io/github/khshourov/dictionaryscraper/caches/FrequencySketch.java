@@ -0,0 +1,66 @@
+package io.github.khshourov.dictionaryscraper.caches;
+
+/**
+ * A count-min sketch that estimates how often keys have been seen recently, in a fixed amount of
+ * memory.
+ *
+ * <p>Each key is counted in one 4-bit counter per row; its estimate is the smallest of them. Once
+ * as many keys have been counted as ten times the expected number of entries, every counter is
+ * halved, so that keys that used to be popular fade away.
+ */
+class FrequencySketch {
+  private static final int DEPTH = 4;
+  private static final int MAX_COUNT = 15;
+  private static final int[] SEEDS = {0x97cb3127, 0xb7e15162, 0x243f6a88, 0x85a308d3};
+
+  private final byte[][] counters;
+  private final int mask;
+  private final int sampleSize;
+  private int additions;
+
+  FrequencySketch(int expectedEntries) {
+    int width = Integer.highestOneBit(Math.max(16, expectedEntries - 1) << 1);
+    this.counters = new byte[DEPTH][width];
+    this.mask = width - 1;
+    this.sampleSize = 10 * width;
+  }
+
+  void increment(Object key) {
+    int hash = key.hashCode();
+    for (int row = 0; row < DEPTH; row++) {
+      byte[] rowCounters = this.counters[row];
+      int index = this.indexOf(hash, row);
+      if (rowCounters[index] < MAX_COUNT) {
+        rowCounters[index]++;
+      }
+    }
+
+    if (++this.additions >= this.sampleSize) {
+      this.age();
+    }
+  }
+
+  int frequency(Object key) {
+    int hash = key.hashCode();
+    int frequency = MAX_COUNT;
+    for (int row = 0; row < DEPTH; row++) {
+      frequency = Math.min(frequency, this.counters[row][this.indexOf(hash, row)]);
+    }
+
+    return frequency;
+  }
+
+  private int indexOf(int hash, int row) {
+    int mixed = (hash ^ SEEDS[row]) * 0x9e3779b9;
+    return (mixed ^ (mixed >>> 16)) & this.mask;
+  }
+
+  private void age() {
+    for (byte[] rowCounters : this.counters) {
+      for (int i = 0; i < rowCounters.length; i++) {
+        rowCounters[i] >>= 1;
+      }
+    }
+    this.additions /= 2;
+  }
+}
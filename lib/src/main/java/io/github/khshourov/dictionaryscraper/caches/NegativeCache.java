@@ -0,0 +1,119 @@
+package io.github.khshourov.dictionaryscraper.caches;
+
+import io.github.khshourov.dictionaryscraper.interfaces.Source;
+import io.github.khshourov.dictionaryscraper.models.CacheStats;
+import io.github.khshourov.dictionaryscraper.models.NegativeCacheSettings;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * The NegativeCache remembers the words a source doesn't know, keyed by source and cleaned word, so
+ * that repeated searches for a misspelling don't reach the source each time.
+ *
+ * <p>Only genuine "not found" outcomes belong here; failures to reach the source say nothing about
+ * the word. The cache is bounded by the number of words, evicting the least recently used one, and
+ * forgets a word after its own time-to-live, usually shorter than the one of the {@link
+ * DictionaryEntryCache}, since a source may add the word later.
+ */
+public class NegativeCache {
+  private final long timeToLive;
+  private final LongSupplier clock;
+  private final Map<Key, Long> expirations;
+  private final ReentrantLock lock = new ReentrantLock();
+  private long hits;
+  private long misses;
+  private long evictions;
+
+  /**
+   * Initializes an empty cache.
+   *
+   * @param settings the bound and time-to-live of the cache; must not be null
+   * @throws IllegalArgumentException if settings is null
+   */
+  public NegativeCache(NegativeCacheSettings settings) {
+    this(settings, System::nanoTime);
+  }
+
+  NegativeCache(NegativeCacheSettings settings, LongSupplier clock) {
+    if (settings == null) {
+      throw new IllegalArgumentException("settings can not be null");
+    }
+
+    this.timeToLive = settings.timeToLive().toNanos();
+    this.clock = clock;
+    this.expirations =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, Long> eldest) {
+            boolean full = this.size() > settings.maxEntries();
+            if (full) {
+              NegativeCache.this.evictions++;
+            }
+            return full;
+          }
+        };
+  }
+
+  /**
+   * Checks whether the given word is remembered as not found.
+   *
+   * @param source the source that didn't find the word
+   * @param cleanedWord the word, as cleaned by the scraper of the source
+   * @return {@code true} if the source didn't find the word within the time-to-live
+   */
+  public boolean contains(Source source, String cleanedWord) {
+    this.lock.lock();
+    try {
+      Key key = new Key(source, cleanedWord);
+      Long expiresAt = this.expirations.get(key);
+      if (expiresAt != null && this.clock.getAsLong() - expiresAt >= 0) {
+        this.expirations.remove(key);
+        this.evictions++;
+        expiresAt = null;
+      }
+
+      if (expiresAt == null) {
+        this.misses++;
+        return false;
+      }
+
+      this.hits++;
+      return true;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Remembers that the source doesn't know the given word.
+   *
+   * @param source the source that didn't find the word
+   * @param cleanedWord the word, as cleaned by the scraper of the source
+   */
+  public void put(Source source, String cleanedWord) {
+    this.lock.lock();
+    try {
+      this.expirations.put(new Key(source, cleanedWord), this.clock.getAsLong() + this.timeToLive);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Retrieves the counters of the cache; words are never rejected.
+   *
+   * @return a snapshot of the {@link CacheStats}
+   */
+  public CacheStats stats() {
+    this.lock.lock();
+    try {
+      return new CacheStats(this.hits, this.misses, this.evictions, 0);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private record Key(Source source, String cleanedWord) {}
+}
@@ -0,0 +1,122 @@
+package io.github.khshourov.dictionaryscraper.concurrent;
+
+import io.github.khshourov.dictionaryscraper.enums.ExecutionMode;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The BlockingAdapter bridges blocking operations, such as {@code Reader.read}, into the
+ * non-blocking {@link CompletableFuture} based API.
+ *
+ * <p>Blocking tasks are run on a dedicated pool of daemon threads so that they never occupy the
+ * common fork-join pool, which is reserved for CPU-bound work. In {@link
+ * ExecutionMode#VIRTUAL_THREADS}, every task gets its own virtual thread instead.
+ */
+public final class BlockingAdapter {
+  private static final ExecutorService EXECUTOR =
+      Executors.newCachedThreadPool(
+          Thread.ofPlatform().name("blocking-adapter-", 0).daemon().factory());
+  private static final ExecutorService VIRTUAL_EXECUTOR =
+      Executors.newThreadPerTaskExecutor(
+          Thread.ofVirtual().name("blocking-adapter-virtual-", 0).factory());
+
+  private BlockingAdapter() {}
+
+  /**
+   * Runs the given blocking task asynchronously.
+   *
+   * @param task the blocking task to run
+   * @param <T> the type of the task's result
+   * @return a {@link CompletableFuture} that completes with the result of the task, or
+   *     exceptionally with the exception thrown by the task
+   */
+  public static <T> CompletableFuture<T> supplyAsync(Callable<T> task) {
+    return supplyAsync(task, ExecutionMode.PLATFORM_THREADS);
+  }
+
+  /**
+   * Runs the given blocking task asynchronously on the threads of the given execution mode.
+   *
+   * @param task the blocking task to run
+   * @param mode the kind of thread to run the task on
+   * @param <T> the type of the task's result
+   * @return a {@link CompletableFuture} that completes with the result of the task, or
+   *     exceptionally with the exception thrown by the task
+   */
+  public static <T> CompletableFuture<T> supplyAsync(Callable<T> task, ExecutionMode mode) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try {
+            return task.call();
+          } catch (RuntimeException e) {
+            throw e;
+          } catch (Exception e) {
+            throw new CompletionException(e);
+          }
+        },
+        executorOf(mode));
+  }
+
+  /**
+   * Retrieves the executor blocking tasks of the given execution mode run on. The executor is
+   * shared and must not be shut down.
+   *
+   * @param mode the kind of thread to run the tasks on
+   * @return the executor of the mode
+   */
+  public static Executor executorOf(ExecutionMode mode) {
+    return mode == ExecutionMode.VIRTUAL_THREADS ? VIRTUAL_EXECUTOR : EXECUTOR;
+  }
+
+  /**
+   * Unwraps the exception a {@link CompletableFuture} has been completed with, i.e. strips the
+   * {@link CompletionException} and {@link ExecutionException} wrappers.
+   *
+   * @param throwable the exception to unwrap
+   * @return the original cause
+   */
+  public static Throwable unwrap(Throwable throwable) {
+    Throwable cause = throwable;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+        && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+
+    return cause;
+  }
+
+  /**
+   * Blocks until the given future completes, turning its failure back into the exception a blocking
+   * call would have thrown. If the thread is interrupted while waiting, the future is cancelled.
+   *
+   * @param future the future to wait for
+   * @param <T> the type of the future's result
+   * @return the result of the future
+   * @throws IOException if the future failed with an {@link IOException} or a checked exception, or
+   *     if the thread is interrupted while waiting
+   */
+  public static <T> T await(CompletableFuture<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } catch (ExecutionException e) {
+      Throwable cause = unwrap(e);
+      if (cause instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IOException(cause);
+    }
+  }
+}
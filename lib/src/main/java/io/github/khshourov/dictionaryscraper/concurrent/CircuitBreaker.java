@@ -0,0 +1,228 @@
+package io.github.khshourov.dictionaryscraper.concurrent;
+
+import io.github.khshourov.dictionaryscraper.enums.CircuitState;
+import io.github.khshourov.dictionaryscraper.models.CircuitBreakerSettings;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * The CircuitBreaker stops calls to a failing dependency so that callers fail fast instead of
+ * waiting for timeouts.
+ *
+ * <p>While {@link CircuitState#CLOSED}, the outcomes of the most recent calls are tracked; once
+ * enough of them failed or were slow, the circuit opens. While {@link CircuitState#OPEN}, every
+ * call is rejected. After the open period, the circuit turns {@link CircuitState#HALF_OPEN} and a
+ * few probe calls are let through: if all of them succeed in time, the circuit closes; if any of
+ * them fails, it opens again.
+ *
+ * <p>The outcome of every permitted call has to be reported through its {@link Permit}.
+ */
+public class CircuitBreaker {
+  private static final byte SUCCESS = 0;
+  private static final byte SLOW = 1;
+  private static final byte FAILURE = 2;
+  private static final byte IGNORED = 3;
+
+  private final CircuitBreakerSettings settings;
+  private final LongSupplier clock;
+  private final byte[] outcomes;
+  private final ReentrantLock lock = new ReentrantLock();
+  private int next;
+  private int count;
+  private int failures;
+  private int slowCalls;
+  private CircuitState state = CircuitState.CLOSED;
+  private int epoch;
+  private long openUntil;
+  private int probesInFlight;
+  private int probesSucceeded;
+
+  /**
+   * Initializes a closed circuit breaker.
+   *
+   * @param settings the thresholds of the circuit breaker; must not be null
+   * @throws IllegalArgumentException if settings is null
+   */
+  public CircuitBreaker(CircuitBreakerSettings settings) {
+    this(settings, System::nanoTime);
+  }
+
+  CircuitBreaker(CircuitBreakerSettings settings, LongSupplier clock) {
+    if (settings == null) {
+      throw new IllegalArgumentException("settings can not be null");
+    }
+
+    this.settings = settings;
+    this.clock = clock;
+    this.outcomes = new byte[settings.windowSize()];
+  }
+
+  /**
+   * Retrieves the current state of the circuit.
+   *
+   * @return the {@link CircuitState}; an open circuit whose open period is over is reported as
+   *     {@link CircuitState#HALF_OPEN}
+   */
+  public CircuitState getState() {
+    this.lock.lock();
+    try {
+      if (this.state == CircuitState.OPEN && this.clock.getAsLong() - this.openUntil >= 0) {
+        this.halfOpen();
+      }
+
+      return this.state;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Asks for permission to make a call.
+   *
+   * @return a {@link Permit} the outcome of the call has to be reported through, or {@code null} if
+   *     the call has to be rejected
+   */
+  public Permit tryAcquire() {
+    this.lock.lock();
+    try {
+      return switch (this.getState()) {
+        case CLOSED -> new Permit(this.epoch, false);
+        case OPEN -> null;
+        case HALF_OPEN -> {
+          if (this.probesInFlight + this.probesSucceeded >= this.settings.probes()) {
+            yield null;
+          }
+          this.probesInFlight++;
+          yield new Permit(this.epoch, true);
+        }
+      };
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private void report(Permit permit, byte outcome) {
+    this.lock.lock();
+    try {
+      if (permit.epoch != this.epoch) {
+        // The call was permitted before the last state change; its outcome is no longer of
+        // interest.
+        return;
+      }
+
+      if (!permit.probe) {
+        if (outcome != IGNORED) {
+          this.track(outcome);
+        }
+        return;
+      }
+
+      this.probesInFlight--;
+      if (outcome == FAILURE || outcome == SLOW) {
+        this.open();
+      } else if (outcome == SUCCESS && ++this.probesSucceeded >= this.settings.probes()) {
+        this.close();
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private void track(byte outcome) {
+    if (this.count == this.outcomes.length) {
+      this.forget(this.outcomes[this.next]);
+    } else {
+      this.count++;
+    }
+    this.outcomes[this.next] = outcome;
+    this.next = (this.next + 1) % this.outcomes.length;
+    if (outcome == FAILURE) {
+      this.failures++;
+    } else if (outcome == SLOW) {
+      this.slowCalls++;
+    }
+
+    if (this.count >= this.settings.minSearches()
+        && ((double) this.failures / this.count >= this.settings.failureRateThreshold()
+            || (double) this.slowCalls / this.count >= this.settings.slowSearchRateThreshold())) {
+      this.open();
+    }
+  }
+
+  private void forget(byte outcome) {
+    if (outcome == FAILURE) {
+      this.failures--;
+    } else if (outcome == SLOW) {
+      this.slowCalls--;
+    }
+  }
+
+  private void open() {
+    this.epoch++;
+    this.state = CircuitState.OPEN;
+    this.openUntil = this.clock.getAsLong() + this.settings.openDuration().toNanos();
+  }
+
+  private void halfOpen() {
+    this.epoch++;
+    this.state = CircuitState.HALF_OPEN;
+    this.probesInFlight = 0;
+    this.probesSucceeded = 0;
+  }
+
+  private void close() {
+    this.epoch++;
+    this.state = CircuitState.CLOSED;
+    this.next = 0;
+    this.count = 0;
+    this.failures = 0;
+    this.slowCalls = 0;
+  }
+
+  /**
+   * The permission to make one call. Its outcome is reported through exactly one of {@link
+   * #onSuccess(Duration)}, {@link #onFailure()} or {@link #onIgnored()}; later reports are ignored.
+   */
+  public final class Permit {
+    private final int epoch;
+    private final boolean probe;
+    private final AtomicBoolean reported = new AtomicBoolean();
+
+    private Permit(int epoch, boolean probe) {
+      this.epoch = epoch;
+      this.probe = probe;
+    }
+
+    /**
+     * Reports that the call succeeded.
+     *
+     * @param latency how long the call took; calls slower than the slow-call threshold count
+     *     against the circuit
+     */
+    public void onSuccess(Duration latency) {
+      boolean slow = latency.compareTo(CircuitBreaker.this.settings.slowSearchThreshold()) > 0;
+      this.report(slow ? SLOW : SUCCESS);
+    }
+
+    /** Reports that the call failed. */
+    public void onFailure() {
+      this.report(FAILURE);
+    }
+
+    /**
+     * Reports that the outcome of the call says nothing about the health of the dependency, e.g.
+     * because it was rejected as invalid or cancelled.
+     */
+    public void onIgnored() {
+      this.report(IGNORED);
+    }
+
+    private void report(byte outcome) {
+      if (this.reported.compareAndSet(false, true)) {
+        CircuitBreaker.this.report(this, outcome);
+      }
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package io.github.khshourov.dictionaryscraper.concurrent;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The SingleFlight coalesces concurrent calls for the same key: while a call is in flight, every
+ * other call for its key waits for it and receives its outcome instead of doing the same work
+ * again.
+ *
+ * <p>Only calls that overlap are coalesced; once a call completes, the next one for the same key
+ * does the work anew. Callers get their own view of the shared outcome, so one caller cancelling
+ * its future doesn't affect the others.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the results
+ */
+public class SingleFlight<K, V> {
+  private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * Runs the given blocking task on the calling thread, unless a call for the same key is in flight
+   * already, in which case its outcome is waited for.
+   *
+   * @param key the key identifying the work
+   * @param task the work to do if no call for the key is in flight
+   * @return the result of the task, or of the call in flight
+   * @throws IOException if the task, or the call in flight, failed with an {@link IOException} or a
+   *     checked exception, or if the thread is interrupted while waiting
+   */
+  public V run(K key, Callable<V> task) throws IOException {
+    CompletableFuture<V> flight = new CompletableFuture<>();
+    CompletableFuture<V> leader = this.inFlight.putIfAbsent(key, flight);
+    if (leader != null) {
+      return BlockingAdapter.await(leader.copy());
+    }
+
+    V result;
+    try {
+      result = task.call();
+    } catch (Exception e) {
+      this.land(key, flight, null, e);
+      if (e instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (e instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IOException(e);
+    } catch (Error e) {
+      this.land(key, flight, null, e);
+      throw e;
+    }
+
+    this.land(key, flight, result, null);
+    return result;
+  }
+
+  /**
+   * Starts the given non-blocking task, unless a call for the same key is in flight already, in
+   * which case its outcome is shared.
+   *
+   * @param key the key identifying the work
+   * @param task starts the work if no call for the key is in flight
+   * @return a {@link CompletableFuture} that completes with the outcome of the task, or of the call
+   *     in flight
+   */
+  public CompletableFuture<V> runAsync(K key, Supplier<CompletableFuture<V>> task) {
+    CompletableFuture<V> flight = new CompletableFuture<>();
+    CompletableFuture<V> leader = this.inFlight.putIfAbsent(key, flight);
+    if (leader != null) {
+      return leader.copy();
+    }
+
+    try {
+      task.get()
+          .whenComplete((result, throwable) -> this.land(key, flight, result, throwable));
+    } catch (RuntimeException | Error e) {
+      this.land(key, flight, null, e);
+      throw e;
+    }
+
+    return flight.copy();
+  }
+
+  private void land(K key, CompletableFuture<V> flight, V result, Throwable throwable) {
+    // Removed first, so that calls arriving after the outcome is known start a new flight.
+    this.inFlight.remove(key, flight);
+
+    if (throwable == null) {
+      flight.complete(result);
+    } else {
+      flight.completeExceptionally(BlockingAdapter.unwrap(throwable));
+    }
+  }
+}
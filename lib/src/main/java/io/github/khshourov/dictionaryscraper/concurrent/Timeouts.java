@@ -0,0 +1,42 @@
+package io.github.khshourov.dictionaryscraper.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The Timeouts class bounds how long a {@link CompletableFuture} may stay incomplete.
+ *
+ * <p>Unlike {@link CompletableFuture#orTimeout}, the future fails with an exception of the caller's
+ * choosing, e.g. an {@link java.net.http.HttpTimeoutException} that callers already treat as an I/O
+ * failure. The timer is cancelled as soon as the future completes, so nothing is retained after a
+ * timely completion.
+ */
+public final class Timeouts {
+  private Timeouts() {}
+
+  /**
+   * Fails the given future with the supplied exception unless it completes within the timeout.
+   *
+   * @param future the future to bound
+   * @param timeout how long the future may take
+   * @param failure supplies the exception the future fails with on timeout
+   * @param <T> the type of the future's result
+   * @return the given future, for chaining
+   */
+  public static <T> CompletableFuture<T> failAfter(
+      CompletableFuture<T> future, Duration timeout, Supplier<? extends Throwable> failure) {
+    CompletableFuture<Void> timer =
+        new CompletableFuture<Void>().orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    timer.whenComplete(
+        (ignored, throwable) -> {
+          if (throwable != null) {
+            future.completeExceptionally(failure.get());
+          }
+        });
+    future.whenComplete((result, throwable) -> timer.complete(null));
+
+    return future;
+  }
+}
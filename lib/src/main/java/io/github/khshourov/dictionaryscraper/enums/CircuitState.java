@@ -0,0 +1,18 @@
+package io.github.khshourov.dictionaryscraper.enums;
+
+/**
+ * Represents the state of the circuit breaker guarding a source.
+ *
+ * <p>Enum Constants: - {@code CLOSED}: Searches go through and their outcomes are tracked. - {@code
+ * OPEN}: The source is failing; searches are rejected without contacting it. - {@code HALF_OPEN}:
+ * The open period is over; a few probe searches are let through to find out whether the source has
+ * recovered.
+ */
+public enum CircuitState {
+  /** Searches go through to the source and their outcomes are tracked. */
+  CLOSED,
+  /** Searches are rejected right away, without contacting the failing source. */
+  OPEN,
+  /** A limited number of probe searches are let through to test whether the source recovered. */
+  HALF_OPEN
+}
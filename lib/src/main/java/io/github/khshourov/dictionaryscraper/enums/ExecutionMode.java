@@ -0,0 +1,17 @@
+package io.github.khshourov.dictionaryscraper.enums;
+
+/**
+ * Represents the kind of threads blocking work, such as searches and reads, is run on.
+ *
+ * <p>Enum Constants: - {@code PLATFORM_THREADS}: Blocking work runs on a pool of platform threads.
+ * - {@code VIRTUAL_THREADS}: Every blocking task gets its own virtual thread.
+ */
+public enum ExecutionMode {
+  /** Blocking work runs on a cached pool of platform threads, one thread per task in flight. */
+  PLATFORM_THREADS,
+  /**
+   * Every blocking task runs on a new virtual thread, which gives up its carrier thread while it
+   * waits for I/O, so that thousands of tasks can be in flight at once.
+   */
+  VIRTUAL_THREADS
+}
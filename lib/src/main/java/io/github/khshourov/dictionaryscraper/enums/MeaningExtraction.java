@@ -0,0 +1,18 @@
+package io.github.khshourov.dictionaryscraper.enums;
+
+/**
+ * Represents how much of a meaning page is parsed to extract the meanings of a word.
+ *
+ * <p>Enum Constants: - {@code FULL_PAGE}: The whole page is parsed, then the UK dictionary section
+ * is selected. - {@code UK_SECTION}: Only the first UK dictionary section is parsed.
+ */
+public enum MeaningExtraction {
+  /** The whole page is parsed into a DOM, then the UK dictionary section is selected from it. */
+  FULL_PAGE,
+  /**
+   * The page is streamed: everything before the first UK dictionary section is dropped as soon as
+   * it is parsed, and parsing stops once the section is complete, so that the American and business
+   * dictionaries that follow it are never parsed.
+   */
+  UK_SECTION
+}
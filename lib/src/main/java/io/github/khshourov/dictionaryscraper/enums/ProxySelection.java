@@ -0,0 +1,17 @@
+package io.github.khshourov.dictionaryscraper.enums;
+
+/**
+ * Represents how a proxy pool picks the proxy a request goes out through.
+ *
+ * <p>Enum Constants: - {@code ROUND_ROBIN}: The healthy proxies take turns. - {@code LEAST_LOADED}:
+ * The healthy proxy with the fewest requests in flight is picked.
+ */
+public enum ProxySelection {
+  /** The healthy proxies take turns, one request each. */
+  ROUND_ROBIN,
+  /**
+   * The healthy proxy with the fewest requests in flight, including those waiting for its budget,
+   * is picked; proxies equally loaded take turns.
+   */
+  LEAST_LOADED
+}
@@ -31,7 +31,7 @@ public enum ReadingPurpose {
   /**
    * Represents the intent of learning both pronunciation and meaning of a word. This {@code
    * ReadingPurpose} combines the purposes of understanding how a word is pronounced and its
-   * definition or context.
+   * definition or context; scrapers read both pages concurrently for it.
    */
   BOTH("both");
 
@@ -0,0 +1,30 @@
+package io.github.khshourov.dictionaryscraper.exceptions;
+
+import java.io.IOException;
+
+/**
+ * Signals that a page was abandoned because its body grew beyond the maximum size a reader accepts
+ * for a single response.
+ */
+public class BodyTooLargeException extends IOException {
+  private final long maxBytes;
+
+  /**
+   * Creates the exception for the given limit.
+   *
+   * @param maxBytes the maximum number of bytes a body may have
+   */
+  public BodyTooLargeException(long maxBytes) {
+    super(String.format("Response body exceeds %d bytes", maxBytes));
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Retrieves the limit the body exceeded.
+   *
+   * @return the maximum number of bytes a body may have
+   */
+  public long getMaxBytes() {
+    return this.maxBytes;
+  }
+}
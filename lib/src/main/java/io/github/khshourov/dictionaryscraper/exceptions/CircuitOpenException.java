@@ -0,0 +1,18 @@
+package io.github.khshourov.dictionaryscraper.exceptions;
+
+import java.io.IOException;
+
+/**
+ * Signals that a search was rejected without contacting the source, because the circuit breaker
+ * guarding the source is open.
+ */
+public class CircuitOpenException extends IOException {
+  /**
+   * Creates the exception for the given source.
+   *
+   * @param source the value of the source whose circuit is open
+   */
+  public CircuitOpenException(String source) {
+    super("Circuit of " + source + " is open");
+  }
+}
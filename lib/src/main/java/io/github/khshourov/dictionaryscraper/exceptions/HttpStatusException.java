@@ -0,0 +1,56 @@
+package io.github.khshourov.dictionaryscraper.exceptions;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Signals that the online dictionary answered with an HTTP status other than the requested page,
+ * either a transient failure, such as {@code 429 Too Many Requests} or {@code 503 Service
+ * Unavailable}, or a refusal, such as a {@code 403 Forbidden} block page.
+ */
+public class HttpStatusException extends IOException {
+  private final int statusCode;
+  private final transient Duration retryAfter;
+
+  /**
+   * Creates the exception for the given response.
+   *
+   * @param url the URL of the request
+   * @param statusCode the HTTP status code of the response
+   * @param retryAfter how long the server asked to wait before retrying (from the {@code
+   *     Retry-After} header); may be null
+   */
+  public HttpStatusException(String url, int statusCode, Duration retryAfter) {
+    super(String.format("%s responded with HTTP %d", url, statusCode));
+    this.statusCode = statusCode;
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * Retrieves the HTTP status code of the response.
+   *
+   * @return the HTTP status code
+   */
+  public int getStatusCode() {
+    return this.statusCode;
+  }
+
+  /**
+   * Retrieves how long the server asked to wait before retrying.
+   *
+   * @return the {@code Retry-After} delay, or {@code null} if the server didn't send one
+   */
+  public Duration getRetryAfter() {
+    return this.retryAfter;
+  }
+
+  /**
+   * Checks whether the server asked the client to slow down, i.e. answered with {@code 429} or
+   * {@code 503}.
+   *
+   * @return {@code true} if the response is a throttling signal
+   */
+  public boolean isThrottled() {
+    return this.statusCode == 429 || this.statusCode == 503;
+  }
+}
@@ -0,0 +1,271 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import io.github.khshourov.dictionaryscraper.caches.AudioStore;
+import io.github.khshourov.dictionaryscraper.concurrent.BlockingAdapter;
+import io.github.khshourov.dictionaryscraper.concurrent.SingleFlight;
+import io.github.khshourov.dictionaryscraper.enums.ExecutionMode;
+import io.github.khshourov.dictionaryscraper.enums.Region;
+import io.github.khshourov.dictionaryscraper.exceptions.HttpStatusException;
+import io.github.khshourov.dictionaryscraper.models.AudioPrefetchSettings;
+import io.github.khshourov.dictionaryscraper.models.DictionaryEntry;
+import io.github.khshourov.dictionaryscraper.models.IpaInfo;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * The AudioPrefetcher downloads the audio files the pronunciations of an entry refer to into an
+ * {@link AudioStore}, so that clients can serve them locally instead of fetching them from the
+ * source one at a time.
+ *
+ * <p>The files of an entry are downloaded concurrently on virtual threads, but no more downloads
+ * than the settings allow are in flight at once, across every entry. If a {@link
+ * RateLimiterRegistry} is given, each download also draws from the request budget of its host.
+ * Every file is downloaded once: entries that refer to a file being downloaded wait for that
+ * download, and a file that has been stored is not downloaded again while it stays in the store and
+ * among the files the settings allow to be remembered.
+ *
+ * <p>Prefetching is best effort: a file that can't be downloaded leaves its pronunciations without
+ * a local copy, and the entry is completed all the same.
+ */
+public class AudioPrefetcher implements Closeable {
+  private final AudioStore store;
+  private final AudioPrefetchSettings settings;
+  // Null if the downloads are not paced.
+  private final RateLimiterRegistry rateLimiters;
+  private final HttpClient client;
+  private final Semaphore downloads;
+  private final SingleFlight<String, Path> inFlight = new SingleFlight<>();
+  private final Map<String, Path> stored;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /**
+   * Initializes the prefetcher with {@link AudioPrefetchSettings#defaults()}. The downloads are
+   * only bounded by the settings, not paced.
+   *
+   * @param store the store the audio files are kept in; must not be null
+   * @throws IllegalArgumentException if store is null
+   */
+  public AudioPrefetcher(AudioStore store) {
+    this(store, AudioPrefetchSettings.defaults());
+  }
+
+  /**
+   * Initializes the prefetcher with the given settings. The downloads are only bounded by the
+   * settings, not paced.
+   *
+   * @param store the store the audio files are kept in; must not be null
+   * @param settings the prefetch settings; must not be null
+   * @throws IllegalArgumentException if store or settings is null
+   */
+  public AudioPrefetcher(AudioStore store, AudioPrefetchSettings settings) {
+    this(store, settings, null, false);
+  }
+
+  /**
+   * Initializes the prefetcher with the given settings, drawing from the budgets of the given
+   * registry.
+   *
+   * @param store the store the audio files are kept in; must not be null
+   * @param settings the prefetch settings; must not be null
+   * @param rateLimiters the registry whose budgets the downloads draw from; must not be null
+   * @throws IllegalArgumentException if store, settings or rateLimiters is null
+   */
+  public AudioPrefetcher(
+      AudioStore store, AudioPrefetchSettings settings, RateLimiterRegistry rateLimiters) {
+    this(store, settings, rateLimiters, true);
+  }
+
+  private AudioPrefetcher(
+      AudioStore store,
+      AudioPrefetchSettings settings,
+      RateLimiterRegistry rateLimiters,
+      boolean paced) {
+    if (store == null) {
+      throw new IllegalArgumentException("store can not be null");
+    }
+    if (settings == null) {
+      throw new IllegalArgumentException("settings can not be null");
+    }
+    if (paced && rateLimiters == null) {
+      throw new IllegalArgumentException("rateLimiters can not be null");
+    }
+
+    this.store = store;
+    this.settings = settings;
+    this.rateLimiters = rateLimiters;
+    this.client =
+        HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(settings.timeout())
+            .build();
+    this.downloads = new Semaphore(settings.maxConcurrentDownloads());
+    this.stored =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Path> eldest) {
+            return this.size() > settings.maxStoredFiles();
+          }
+        };
+  }
+
+  /**
+   * Downloads the audio files of the given entry that have no local copy yet.
+   *
+   * @param entry the entry whose audio files are downloaded; must not be null
+   * @return a {@link CompletableFuture} that completes with a copy of the entry whose
+   *     pronunciations carry the paths of their local copies, once every download has finished; it
+   *     doesn't complete exceptionally
+   * @throws IllegalArgumentException if entry is null
+   */
+  public CompletableFuture<DictionaryEntry> prefetch(DictionaryEntry entry) {
+    if (entry == null) {
+      throw new IllegalArgumentException("entry can not be null");
+    }
+
+    // Keyed by URL, so that pronunciations sharing a file share its download.
+    Map<String, CompletableFuture<Path>> audioFiles = new LinkedHashMap<>();
+    for (List<IpaInfo> ipaInfos : entry.ipaListings().values()) {
+      for (IpaInfo ipaInfo : ipaInfos) {
+        if (ipaInfo.audio() != null && ipaInfo.localAudio() == null) {
+          audioFiles.computeIfAbsent(ipaInfo.audio(), this::download);
+        }
+      }
+    }
+    if (audioFiles.isEmpty()) {
+      return CompletableFuture.completedFuture(entry);
+    }
+
+    return CompletableFuture.allOf(audioFiles.values().toArray(CompletableFuture[]::new))
+        .thenApply(ignored -> withLocalAudio(entry, url -> audioFiles.get(url).getNow(null)));
+  }
+
+  /**
+   * Attaches the local copies of the audio files of the given entry that have been downloaded
+   * already, without downloading any.
+   *
+   * @param entry the entry whose pronunciations get their local copies; must not be null
+   * @return a copy of the entry whose pronunciations carry the paths of the local copies known
+   * @throws IllegalArgumentException if entry is null
+   */
+  public DictionaryEntry withStoredAudio(DictionaryEntry entry) {
+    if (entry == null) {
+      throw new IllegalArgumentException("entry can not be null");
+    }
+
+    return withLocalAudio(entry, this::storedPathOf);
+  }
+
+  /** Shuts down the client. Downloads that are still in flight are allowed to complete. */
+  @Override
+  public void close() {
+    this.client.close();
+  }
+
+  /** Downloads the file, completing with {@code null} instead of failing. */
+  private CompletableFuture<Path> download(String url) {
+    Path path = this.storedPathOf(url);
+    if (path != null) {
+      return CompletableFuture.completedFuture(path);
+    }
+
+    return this.inFlight
+        .runAsync(
+            url,
+            () -> BlockingAdapter.supplyAsync(() -> this.fetch(url), ExecutionMode.VIRTUAL_THREADS))
+        .exceptionally(throwable -> null);
+  }
+
+  private Path fetch(String url) throws IOException, InterruptedException {
+    this.downloads.acquire();
+    try {
+      if (this.rateLimiters != null) {
+        this.rateLimiters.bucketOf(url).acquire();
+      }
+
+      HttpRequest request =
+          HttpRequest.newBuilder(URI.create(url)).timeout(this.settings.timeout()).GET().build();
+      HttpResponse<InputStream> response =
+          this.client.send(request, BoundedBodySubscriber.handler(this.settings.maxBytes()));
+      try (InputStream body = response.body()) {
+        if (response.statusCode() != 200) {
+          throw new HttpStatusException(url, response.statusCode(), null);
+        }
+
+        Path path = this.store.put(body.readAllBytes(), extensionOf(url));
+        this.lock.lock();
+        try {
+          this.stored.put(url, path);
+        } finally {
+          this.lock.unlock();
+        }
+        return path;
+      }
+    } finally {
+      this.downloads.release();
+    }
+  }
+
+  /** The local copy of the file the URL points to, or {@code null} if it is not known. */
+  private Path storedPathOf(String url) {
+    Path path;
+    this.lock.lock();
+    try {
+      path = this.stored.get(url);
+    } finally {
+      this.lock.unlock();
+    }
+
+    return path != null && Files.exists(path) ? path : null;
+  }
+
+  private static DictionaryEntry withLocalAudio(
+      DictionaryEntry entry, Function<String, Path> localCopyOf) {
+    Map<Region, List<IpaInfo>> ipaListings = new EnumMap<>(Region.class);
+    for (Map.Entry<Region, List<IpaInfo>> listing : entry.ipaListings().entrySet()) {
+      List<IpaInfo> ipaInfos = new ArrayList<>(listing.getValue().size());
+      for (IpaInfo ipaInfo : listing.getValue()) {
+        Path path =
+            ipaInfo.audio() == null || ipaInfo.localAudio() != null
+                ? null
+                : localCopyOf.apply(ipaInfo.audio());
+        ipaInfos.add(path == null ? ipaInfo : ipaInfo.withLocalAudio(path.toString()));
+      }
+      ipaListings.put(listing.getKey(), ipaInfos);
+    }
+
+    return new DictionaryEntry(entry.sourceLinks(), ipaListings, entry.meanings());
+  }
+
+  /** The extension of the file the URL points to, e.g. {@code "mp3"}, or an empty string. */
+  private static String extensionOf(String url) {
+    String path = URI.create(url).getPath();
+    if (path == null) {
+      return "";
+    }
+
+    int dot = path.lastIndexOf('.');
+    if (dot < path.lastIndexOf('/') + 1) {
+      return "";
+    }
+
+    String extension = path.substring(dot + 1).toLowerCase(Locale.ROOT);
+    return extension.matches("[a-z0-9]{1,5}") ? extension : "";
+  }
+}
@@ -0,0 +1,118 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import io.github.khshourov.dictionaryscraper.exceptions.BodyTooLargeException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * The BoundedBodySubscriber collects the body of an asynchronous {@link java.net.http.HttpClient}
+ * response as the buffers the client delivers, without joining them into one array, and gives it
+ * out as a stream over those buffers.
+ *
+ * <p>Once more than the maximum number of bytes has arrived, the subscription is cancelled, which
+ * aborts the exchange, and the body completes with a {@link BodyTooLargeException}.
+ */
+public final class BoundedBodySubscriber implements HttpResponse.BodySubscriber<InputStream> {
+  private final long maxBytes;
+  private final List<ByteBuffer> buffers = new ArrayList<>();
+  private final CompletableFuture<InputStream> body = new CompletableFuture<>();
+  private Flow.Subscription subscription;
+  private long received;
+
+  private BoundedBodySubscriber(long maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Creates a handler whose bodies are bounded by the given number of bytes.
+   *
+   * @param maxBytes the maximum number of bytes a body may have; must be positive
+   * @return a {@link HttpResponse.BodyHandler} of bounded bodies
+   * @throws IllegalArgumentException if maxBytes is not positive
+   */
+  public static HttpResponse.BodyHandler<InputStream> handler(long maxBytes) {
+    if (maxBytes < 1) {
+      throw new IllegalArgumentException("maxBytes must be at least 1");
+    }
+
+    return responseInfo -> new BoundedBodySubscriber(maxBytes);
+  }
+
+  @Override
+  public CompletionStage<InputStream> getBody() {
+    return this.body;
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    this.subscription = subscription;
+    subscription.request(Long.MAX_VALUE);
+  }
+
+  @Override
+  public void onNext(List<ByteBuffer> items) {
+    if (this.body.isDone()) {
+      return;
+    }
+
+    for (ByteBuffer item : items) {
+      this.received += item.remaining();
+    }
+    if (this.received > this.maxBytes) {
+      this.subscription.cancel();
+      this.buffers.clear();
+      this.body.completeExceptionally(new BodyTooLargeException(this.maxBytes));
+      return;
+    }
+
+    this.buffers.addAll(items);
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    this.buffers.clear();
+    this.body.completeExceptionally(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+    List<InputStream> streams = new ArrayList<>(this.buffers.size());
+    for (ByteBuffer buffer : this.buffers) {
+      streams.add(new ByteBufferInputStream(buffer));
+    }
+
+    this.body.complete(new SequenceInputStream(Collections.enumeration(streams)));
+  }
+
+  private static final class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    private ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (!this.buffer.hasRemaining()) {
+        return length == 0 ? 0 : -1;
+      }
+
+      int count = Math.min(length, this.buffer.remaining());
+      this.buffer.get(bytes, offset, count);
+      return count;
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import io.github.khshourov.dictionaryscraper.exceptions.BodyTooLargeException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The BufferPool reads response bodies through reusable, fixed-size chunks, so that reading a page
+ * allocates exactly one array of the size of the page instead of a series of ever larger ones.
+ *
+ * <p>A body is read chunk by chunk until the stream ends, then copied once into an array of its
+ * exact size, and the chunks go back to the pool. At most a fixed number of idle chunks is kept;
+ * chunks beyond that are left to the garbage collector. {@link #shared()} provides a process-wide
+ * pool for callers that don't manage their own.
+ */
+public class BufferPool {
+  private static final BufferPool SHARED = new BufferPool(16 * 1024, 256);
+
+  private final int chunkSize;
+  private final int maxIdleChunks;
+  private final ConcurrentLinkedQueue<byte[]> idleChunks = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger idleCount = new AtomicInteger();
+
+  /**
+   * Initializes the pool.
+   *
+   * @param chunkSize the size of each chunk in bytes; must be positive
+   * @param maxIdleChunks how many unused chunks the pool keeps; must not be negative
+   * @throws IllegalArgumentException if chunkSize is not positive or maxIdleChunks is negative
+   */
+  public BufferPool(int chunkSize, int maxIdleChunks) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("chunkSize must be at least 1");
+    }
+
+    if (maxIdleChunks < 0) {
+      throw new IllegalArgumentException("maxIdleChunks can not be negative");
+    }
+
+    this.chunkSize = chunkSize;
+    this.maxIdleChunks = maxIdleChunks;
+  }
+
+  /**
+   * Retrieves the process-wide pool, which keeps up to 256 chunks of 16 KiB.
+   *
+   * @return the shared {@code BufferPool}
+   */
+  public static BufferPool shared() {
+    return SHARED;
+  }
+
+  /**
+   * Reads the given stream to its end. The stream is not closed.
+   *
+   * @param input the stream to read
+   * @param maxBytes the maximum number of bytes to accept
+   * @return a buffer wrapping an array of exactly the bytes read
+   * @throws BodyTooLargeException if the stream holds more than maxBytes bytes
+   * @throws IOException if the stream can't be read
+   */
+  public ByteBuffer readFully(InputStream input, long maxBytes) throws IOException {
+    List<byte[]> chunks = new ArrayList<>();
+    try {
+      long total = 0;
+      int filled = this.chunkSize;
+      while (true) {
+        if (filled == this.chunkSize) {
+          chunks.add(this.acquire());
+          filled = 0;
+        }
+
+        int read = input.read(chunks.get(chunks.size() - 1), filled, this.chunkSize - filled);
+        if (read < 0) {
+          break;
+        }
+
+        filled += read;
+        total += read;
+        if (total > maxBytes) {
+          throw new BodyTooLargeException(maxBytes);
+        }
+      }
+
+      byte[] body = new byte[Math.toIntExact(total)];
+      int offset = 0;
+      for (byte[] chunk : chunks) {
+        int length = (int) Math.min(this.chunkSize, total - offset);
+        System.arraycopy(chunk, 0, body, offset, length);
+        offset += length;
+      }
+
+      return ByteBuffer.wrap(body);
+    } finally {
+      chunks.forEach(this::release);
+    }
+  }
+
+  /**
+   * Retrieves the number of unused chunks kept by the pool.
+   *
+   * @return the number of idle chunks
+   */
+  public int idleChunks() {
+    return this.idleCount.get();
+  }
+
+  private byte[] acquire() {
+    byte[] chunk = this.idleChunks.poll();
+    if (chunk == null) {
+      return new byte[this.chunkSize];
+    }
+
+    this.idleCount.decrementAndGet();
+    return chunk;
+  }
+
+  private void release(byte[] chunk) {
+    if (this.idleCount.incrementAndGet() <= this.maxIdleChunks) {
+      this.idleChunks.offer(chunk);
+    } else {
+      this.idleCount.decrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import io.github.khshourov.dictionaryscraper.interfaces.ContentDecoder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The ContentDecoders is a registry of {@link ContentDecoder}s keyed by their {@code
+ * Content-Encoding} token.
+ *
+ * <p>gzip and deflate are supported out of the box through {@code java.util.zip}. Other encodings,
+ * e.g. br or zstd, can be plugged in with {@link #register(String, ContentDecoder)}. The {@code
+ * Accept-Encoding} header is derived from the registered decoders only, so a server is never
+ * invited to send an encoding that can't be decoded; a response with an unknown encoding is
+ * rejected instead of being parsed as garbage.
+ */
+public class ContentDecoders {
+  private static final String IDENTITY = "identity";
+
+  private volatile Map<String, ContentDecoder> decoders;
+  private volatile String acceptEncoding;
+
+  /** Initializes the registry with the gzip and deflate decoders. */
+  public ContentDecoders() {
+    Map<String, ContentDecoder> defaults = new LinkedHashMap<>();
+    defaults.put("gzip", GZIPInputStream::new);
+    defaults.put("deflate", ContentDecoders::inflate);
+    this.update(defaults);
+  }
+
+  /**
+   * Registers a decoder, replacing the existing one of the same encoding.
+   *
+   * @param encoding the {@code Content-Encoding} token, e.g. {@code br}; case-insensitive
+   * @param decoder the decoder of the encoding
+   * @throws IllegalArgumentException if encoding is null, empty or identity, or decoder is null
+   */
+  public synchronized void register(String encoding, ContentDecoder decoder) {
+    if (encoding == null || encoding.isBlank()) {
+      throw new IllegalArgumentException("encoding can not be null or empty");
+    }
+
+    if (decoder == null) {
+      throw new IllegalArgumentException("decoder can not be null");
+    }
+
+    String token = encoding.trim().toLowerCase(Locale.ROOT);
+    if (IDENTITY.equals(token)) {
+      throw new IllegalArgumentException("identity encoding can not be registered");
+    }
+
+    Map<String, ContentDecoder> updated = new LinkedHashMap<>(this.decoders);
+    updated.put(token, decoder);
+    this.update(updated);
+  }
+
+  /**
+   * Retrieves the value of the {@code Accept-Encoding} request header, listing every registered
+   * encoding.
+   *
+   * @return the {@code Accept-Encoding} header value, e.g. {@code gzip, deflate}
+   */
+  public String acceptEncoding() {
+    return this.acceptEncoding;
+  }
+
+  /**
+   * Wraps the response body into a stream of decoded bytes according to the {@code
+   * Content-Encoding} header. Multiple encodings are undone in reverse order of application.
+   *
+   * @param body the raw response body
+   * @param contentEncoding the value of the {@code Content-Encoding} header; may be null or empty
+   * @return a stream of decoded bytes
+   * @throws IOException if one of the encodings is not supported or the body can't be decoded
+   */
+  public InputStream decode(InputStream body, String contentEncoding) throws IOException {
+    if (contentEncoding == null || contentEncoding.isBlank()) {
+      return body;
+    }
+
+    Map<String, ContentDecoder> registered = this.decoders;
+    String[] encodings = contentEncoding.split(",");
+    InputStream decoded = body;
+    for (int i = encodings.length - 1; i >= 0; i--) {
+      String token = encodings[i].trim().toLowerCase(Locale.ROOT);
+      if (token.isEmpty() || IDENTITY.equals(token)) {
+        continue;
+      }
+
+      ContentDecoder decoder = registered.get(token);
+      if (decoder == null) {
+        throw new IOException("Unsupported Content-Encoding: " + token);
+      }
+      decoded = decoder.decode(decoded);
+    }
+
+    return decoded;
+  }
+
+  private void update(Map<String, ContentDecoder> updated) {
+    this.decoders = Collections.unmodifiableMap(new LinkedHashMap<>(updated));
+    this.acceptEncoding = String.join(", ", updated.keySet());
+  }
+
+  /**
+   * HTTP deflate is supposed to be zlib-wrapped, but some servers send raw deflate data; the zlib
+   * header is checked to tell both apart.
+   */
+  private static InputStream inflate(InputStream encoded) throws IOException {
+    PushbackInputStream input = new PushbackInputStream(encoded, 2);
+    byte[] header = input.readNBytes(2);
+    input.unread(header);
+
+    boolean zlibWrapped =
+        header.length == 2
+            && (header[0] & 0x0F) == 8
+            && (((header[0] & 0xFF) << 8) | (header[1] & 0xFF)) % 31 == 0;
+
+    return new InflaterInputStream(input, new Inflater(!zlibWrapped)) {
+      @Override
+      public void close() throws IOException {
+        super.close();
+        // The inflater has been passed in, so the stream doesn't release it by itself.
+        this.inf.end();
+      }
+    };
+  }
+}
@@ -0,0 +1,272 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import io.github.khshourov.dictionaryscraper.concurrent.BlockingAdapter;
+import io.github.khshourov.dictionaryscraper.enums.ExecutionMode;
+import io.github.khshourov.dictionaryscraper.models.ConnectionPoolSettings;
+import java.io.Closeable;
+import java.net.http.HttpClient;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The HttpClientPool keeps one long-lived {@link HttpClient} per base URI so that readers pointing
+ * at the same online dictionary share their TCP/TLS connections (and HTTP/2 streams) instead of
+ * paying a fresh handshake for every page.
+ *
+ * <p>A client is borrowed through a {@link Lease}, which must be closed once the response body has
+ * been consumed. The number of leases that can be held concurrently for a base URI is bounded by
+ * {@link ConnectionPoolSettings#maxConnections()}; further callers block until a lease is returned.
+ * A client that has not been leased for longer than {@link ConnectionPoolSettings#idleTimeout()} is
+ * shut down and replaced on the next lease.
+ *
+ * <p>The pool is meant to be shared, e.g. between several readers passed to {@code
+ * Scraper.setReader}, and must be closed by its owner once it is no longer needed.
+ */
+public class HttpClientPool implements Closeable {
+  private final ConnectionPoolSettings settings;
+  private final ExecutionMode executionMode;
+  private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+  private volatile boolean closed;
+
+  /** Initializes the pool with {@link ConnectionPoolSettings#defaults()}. */
+  public HttpClientPool() {
+    this(ConnectionPoolSettings.defaults());
+  }
+
+  /**
+   * Initializes the pool with the given settings.
+   *
+   * @param settings the pool settings; must not be null
+   * @throws IllegalArgumentException if settings is null
+   */
+  public HttpClientPool(ConnectionPoolSettings settings) {
+    this(settings, ExecutionMode.PLATFORM_THREADS);
+  }
+
+  /**
+   * Initializes the pool with the given settings. The pooled clients run their I/O and their
+   * dependent tasks on the threads of the given execution mode.
+   *
+   * @param settings the pool settings; must not be null
+   * @param executionMode the kind of threads the clients run on; must not be null
+   * @throws IllegalArgumentException if settings or executionMode is null
+   */
+  public HttpClientPool(ConnectionPoolSettings settings, ExecutionMode executionMode) {
+    if (settings == null) {
+      throw new IllegalArgumentException("settings can not be null");
+    }
+
+    if (executionMode == null) {
+      throw new IllegalArgumentException("executionMode can not be null");
+    }
+
+    this.settings = settings;
+    this.executionMode = executionMode;
+  }
+
+  /**
+   * Retrieves the settings of this pool.
+   *
+   * @return the pool settings
+   */
+  public ConnectionPoolSettings getSettings() {
+    return this.settings;
+  }
+
+  /**
+   * Borrows the shared client of the given base URI, blocking while the maximum number of
+   * connections for that base URI are in use.
+   *
+   * @param baseUri the base URI the client will be used against
+   * @return a {@link Lease} that has to be closed after the response has been consumed
+   * @throws InterruptedException if the thread is interrupted while waiting for a connection
+   * @throws IllegalStateException if the pool has been closed
+   */
+  public Lease lease(String baseUri) throws InterruptedException {
+    CompletableFuture<Lease> lease = this.leaseAsync(baseUri);
+    try {
+      return lease.get();
+    } catch (InterruptedException e) {
+      if (!lease.cancel(false)) {
+        lease.join().close();
+      }
+      throw e;
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Borrows the shared client of the given base URI without blocking. The returned future completes
+   * once a connection for that base URI is available; cancelling it gives up the place in the
+   * queue.
+   *
+   * @param baseUri the base URI the client will be used against
+   * @return a {@link CompletableFuture} that completes with a {@link Lease} that has to be closed
+   *     after the response has been consumed
+   * @throws IllegalStateException if the pool has been closed
+   */
+  public CompletableFuture<Lease> leaseAsync(String baseUri) {
+    PooledClient pooledClient = this.acquire(baseUri);
+    CompletableFuture<Lease> lease = pooledClient.requestPermit();
+    lease.whenComplete(
+        (acquired, throwable) -> {
+          if (lease.isCancelled()) {
+            pooledClient.release(false);
+          }
+        });
+
+    return lease;
+  }
+
+  /**
+   * Shuts down every pooled client. Requests that are still in flight are allowed to complete.
+   * Leasing from a closed pool throws an {@link IllegalStateException}.
+   */
+  @Override
+  public void close() {
+    this.closed = true;
+    this.clients.values().forEach(pooledClient -> pooledClient.client.close());
+    this.clients.clear();
+  }
+
+  private PooledClient acquire(String baseUri) {
+    if (this.closed) {
+      throw new IllegalStateException("client pool is closed");
+    }
+
+    long now = System.nanoTime();
+    return this.clients.compute(
+        baseUri,
+        (key, existing) -> {
+          if (existing != null && !existing.isIdle(now)) {
+            existing.retain(now);
+            return existing;
+          }
+
+          if (existing != null) {
+            // Dropping the idle client also drops its (probably stale) connections.
+            existing.client.shutdown();
+          }
+
+          PooledClient pooledClient = new PooledClient(this.newClient());
+          pooledClient.retain(now);
+          return pooledClient;
+        });
+  }
+
+  private HttpClient newClient() {
+    HttpClient.Builder builder =
+        HttpClient.newBuilder()
+            .version(this.settings.version())
+            .connectTimeout(this.settings.connectTimeout());
+    if (this.executionMode == ExecutionMode.VIRTUAL_THREADS) {
+      builder.executor(BlockingAdapter.executorOf(ExecutionMode.VIRTUAL_THREADS));
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * A borrowed pooled client. Closing the lease returns the connection slot to the pool; closing it
+   * more than once has no effect.
+   */
+  public static final class Lease implements AutoCloseable {
+    private final PooledClient pooledClient;
+    private boolean released;
+
+    private Lease(PooledClient pooledClient) {
+      this.pooledClient = pooledClient;
+    }
+
+    /**
+     * Retrieves the shared client.
+     *
+     * @return the {@link HttpClient} to send requests with
+     */
+    public HttpClient client() {
+      return this.pooledClient.client;
+    }
+
+    @Override
+    public void close() {
+      if (!this.released) {
+        this.released = true;
+        this.pooledClient.release(true);
+      }
+    }
+  }
+
+  private final class PooledClient {
+    private final HttpClient client;
+    private final Deque<CompletableFuture<Lease>> waiters = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicInteger holders = new AtomicInteger();
+    private int permits = settings.maxConnections();
+    private volatile long lastUsed;
+
+    private PooledClient(HttpClient client) {
+      this.client = client;
+    }
+
+    private void retain(long now) {
+      this.holders.incrementAndGet();
+      this.lastUsed = now;
+    }
+
+    private CompletableFuture<Lease> requestPermit() {
+      this.lock.lock();
+      try {
+        if (this.permits > 0) {
+          this.permits--;
+          return CompletableFuture.completedFuture(new Lease(this));
+        }
+
+        CompletableFuture<Lease> waiter = new CompletableFuture<>();
+        this.waiters.add(waiter);
+        return waiter;
+      } finally {
+        this.lock.unlock();
+      }
+    }
+
+    private void release(boolean permitHeld) {
+      if (permitHeld) {
+        this.handOverPermit();
+      }
+      this.lastUsed = System.nanoTime();
+      this.holders.decrementAndGet();
+    }
+
+    private void handOverPermit() {
+      while (true) {
+        CompletableFuture<Lease> waiter;
+        this.lock.lock();
+        try {
+          waiter = this.waiters.poll();
+          if (waiter == null) {
+            this.permits++;
+            return;
+          }
+        } finally {
+          this.lock.unlock();
+        }
+
+        // A cancelled waiter doesn't take the permit; try the next one.
+        if (waiter.complete(new Lease(this))) {
+          return;
+        }
+      }
+    }
+
+    private boolean isIdle(long now) {
+      return this.holders.get() == 0 && now - this.lastUsed > settings.idleTimeout().toNanos();
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The LatencyTracker keeps the most recent response times of a reader and reports their
+ * percentiles.
+ *
+ * <p>Only a sliding window of samples is kept, so the percentiles follow the current behaviour of
+ * the server instead of its whole history.
+ */
+public class LatencyTracker {
+  private final long[] samples;
+  private final int minSamples;
+  private final ReentrantLock lock = new ReentrantLock();
+  private int next;
+  private int count;
+
+  /**
+   * Initializes the tracker.
+   *
+   * @param windowSize how many of the most recent samples are kept; must be at least 1
+   * @param minSamples how many samples are needed before a percentile is reported; must be between
+   *     1 and windowSize
+   * @throws IllegalArgumentException if windowSize or minSamples is out of range
+   */
+  public LatencyTracker(int windowSize, int minSamples) {
+    if (windowSize < 1) {
+      throw new IllegalArgumentException("windowSize must be at least 1");
+    }
+    if (minSamples < 1 || minSamples > windowSize) {
+      throw new IllegalArgumentException("minSamples must be between 1 and windowSize");
+    }
+
+    this.samples = new long[windowSize];
+    this.minSamples = minSamples;
+  }
+
+  /**
+   * Records a response time.
+   *
+   * @param latency the time the response took
+   */
+  public void record(Duration latency) {
+    this.lock.lock();
+    try {
+      this.samples[this.next] = latency.toNanos();
+      this.next = (this.next + 1) % this.samples.length;
+      this.count = Math.min(this.count + 1, this.samples.length);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Computes the given percentile of the recorded response times (nearest-rank).
+   *
+   * @param percentile the percentile, greater than 0 and at most 100
+   * @return the response time below which the given percentage of the samples fall, or {@code null}
+   *     if fewer samples than required have been recorded
+   * @throws IllegalArgumentException if percentile is out of range
+   */
+  public Duration percentile(double percentile) {
+    if (!(percentile > 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("percentile must be in (0, 100]");
+    }
+
+    long[] sorted;
+    this.lock.lock();
+    try {
+      if (this.count < this.minSamples) {
+        return null;
+      }
+      sorted = Arrays.copyOf(this.samples, this.count);
+    } finally {
+      this.lock.unlock();
+    }
+
+    Arrays.sort(sorted);
+    int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+    return Duration.ofNanos(sorted[Math.max(0, rank - 1)]);
+  }
+}
@@ -0,0 +1,386 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import io.github.khshourov.dictionaryscraper.concurrent.BlockingAdapter;
+import io.github.khshourov.dictionaryscraper.concurrent.CircuitBreaker;
+import io.github.khshourov.dictionaryscraper.enums.CircuitState;
+import io.github.khshourov.dictionaryscraper.enums.ExecutionMode;
+import io.github.khshourov.dictionaryscraper.enums.ProxySelection;
+import io.github.khshourov.dictionaryscraper.exceptions.CircuitOpenException;
+import io.github.khshourov.dictionaryscraper.exceptions.HttpStatusException;
+import io.github.khshourov.dictionaryscraper.models.ProxyPoolSettings;
+import java.io.Closeable;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The ProxyPool spreads requests across several forward proxies, so that a crawl goes out through
+ * several egress points instead of one.
+ *
+ * <p>Every proxy has a long-lived {@link HttpClient} routed through it, a {@link TokenBucket} of
+ * its own, so that the budget of the pool grows with the number of proxies, and a {@link
+ * CircuitBreaker} that tracks its health. A proxy that fails or slows down repeatedly is ejected
+ * from the pool; once its open period is over, a few requests probe it and it is taken back if they
+ * succeed. Of the healthy proxies, the next one is picked by the {@link ProxySelection} of the
+ * settings.
+ *
+ * <p>A proxy is borrowed through a {@link Lease}. The outcome of the request has to be reported
+ * through the lease, and the lease closed once the response has been consumed.
+ *
+ * <p>The clients run their I/O and their dependent tasks on the threads of the {@link
+ * ExecutionMode} of the pool, like those of a {@link HttpClientPool}.
+ */
+public class ProxyPool implements Closeable {
+  private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+  private static final int HTTP_PROXY_AUTHENTICATION_REQUIRED = 407;
+
+  private final ProxyPoolSettings settings;
+  private final ExecutionMode executionMode;
+  private final List<Proxy> proxies;
+  private final AtomicInteger next = new AtomicInteger();
+
+  /**
+   * Initializes the pool over the given proxies with {@link ProxyPoolSettings#defaults()}.
+   *
+   * @param proxies the addresses of the proxies; must not be null nor empty
+   * @throws IllegalArgumentException if proxies is null or empty, or contains null
+   */
+  public ProxyPool(List<InetSocketAddress> proxies) {
+    this(proxies, ProxyPoolSettings.defaults());
+  }
+
+  /**
+   * Initializes the pool over the given proxies with the given settings.
+   *
+   * @param proxies the addresses of the proxies; must not be null nor empty
+   * @param settings the pool settings; must not be null
+   * @throws IllegalArgumentException if proxies is null or empty, or contains null, or if settings
+   *     is null
+   */
+  public ProxyPool(List<InetSocketAddress> proxies, ProxyPoolSettings settings) {
+    this(proxies, settings, ExecutionMode.PLATFORM_THREADS);
+  }
+
+  /**
+   * Initializes the pool over the given proxies with the given settings. The clients of the proxies
+   * run their I/O and their dependent tasks on the threads of the given execution mode.
+   *
+   * @param proxies the addresses of the proxies; must not be null nor empty
+   * @param settings the pool settings; must not be null
+   * @param executionMode the kind of threads the clients run on; must not be null
+   * @throws IllegalArgumentException if proxies is null or empty, or contains null, or if settings
+   *     or executionMode is null
+   */
+  public ProxyPool(
+      List<InetSocketAddress> proxies, ProxyPoolSettings settings, ExecutionMode executionMode) {
+    if (proxies == null || proxies.isEmpty()) {
+      throw new IllegalArgumentException("proxies can not be null or empty");
+    }
+
+    if (proxies.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("proxies can not contain null");
+    }
+
+    if (settings == null) {
+      throw new IllegalArgumentException("settings can not be null");
+    }
+
+    if (executionMode == null) {
+      throw new IllegalArgumentException("executionMode can not be null");
+    }
+
+    this.settings = settings;
+    this.executionMode = executionMode;
+    this.proxies = proxies.stream().map(Proxy::new).toList();
+  }
+
+  /**
+   * Retrieves the settings of this pool.
+   *
+   * @return the pool settings
+   */
+  public ProxyPoolSettings getSettings() {
+    return this.settings;
+  }
+
+  /**
+   * Retrieves the health of the given proxy.
+   *
+   * @param address the address of a proxy of the pool
+   * @return the {@link CircuitState} of the proxy; an {@link CircuitState#OPEN} proxy is ejected
+   * @throws IllegalArgumentException if the proxy is not in the pool
+   */
+  public CircuitState getState(InetSocketAddress address) {
+    return this.proxies.stream()
+        .filter(proxy -> proxy.address.equals(address))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("No such proxy in the pool: " + address))
+        .circuitBreaker
+        .getState();
+  }
+
+  /**
+   * Borrows a healthy proxy, blocking until its budget allows the request.
+   *
+   * @return a {@link Lease} the outcome of the request has to be reported through, and that has to
+   *     be closed after the response has been consumed
+   * @throws CircuitOpenException if every proxy has been ejected
+   * @throws InterruptedException if the thread is interrupted while waiting for the budget
+   */
+  public Lease lease() throws CircuitOpenException, InterruptedException {
+    Lease lease = this.select();
+    long wait = lease.proxy.bucket.reserve();
+    try {
+      if (wait > 0) {
+        TimeUnit.NANOSECONDS.sleep(wait);
+      }
+    } catch (InterruptedException e) {
+      lease.close();
+      throw e;
+    }
+
+    return lease;
+  }
+
+  /**
+   * Borrows a healthy proxy without blocking. The returned future completes once the budget of the
+   * proxy allows the request; cancelling it gives the proxy back.
+   *
+   * @return a {@link CompletableFuture} that completes with a {@link Lease}, or exceptionally with
+   *     a {@link CircuitOpenException} if every proxy has been ejected
+   */
+  public CompletableFuture<Lease> leaseAsync() {
+    Lease lease;
+    try {
+      lease = this.select();
+    } catch (CircuitOpenException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    CompletableFuture<Lease> result = new CompletableFuture<>();
+    Runnable handOver =
+        () -> {
+          if (!result.complete(lease)) {
+            lease.close();
+          }
+        };
+
+    long wait = lease.proxy.bucket.reserve();
+    if (wait > 0) {
+      CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS).execute(handOver);
+    } else {
+      handOver.run();
+    }
+
+    return result;
+  }
+
+  /**
+   * Sends the given request through every proxy that hasn't been ejected, so that their connections
+   * are open before the first real request. The outcomes count toward the health of the proxies
+   * like those of any other request, but the budgets are not drawn from.
+   *
+   * @param request the request to send, typically a {@code HEAD} request to the source
+   * @return a {@link CompletableFuture} that completes once every proxy has answered, or
+   *     exceptionally with the last failure if the request got through none of them
+   */
+  public CompletableFuture<Void> warmUp(HttpRequest request) {
+    List<CompletableFuture<Boolean>> attempts = new ArrayList<>();
+    AtomicReference<Throwable> lastFailure = new AtomicReference<>();
+    for (Proxy proxy : this.proxies) {
+      CircuitBreaker.Permit permit = proxy.circuitBreaker.tryAcquire();
+      if (permit == null) {
+        continue;
+      }
+
+      Lease lease = new Lease(proxy, permit);
+      long start = System.nanoTime();
+      attempts.add(
+          proxy
+              .client
+              .sendAsync(request, HttpResponse.BodyHandlers.discarding())
+              .handle(
+                  (response, throwable) -> {
+                    try (lease) {
+                      if (throwable == null) {
+                        lease.onSuccess(Duration.ofNanos(System.nanoTime() - start));
+                        return true;
+                      }
+
+                      Throwable cause = BlockingAdapter.unwrap(throwable);
+                      lease.onFailure(cause);
+                      lastFailure.set(cause);
+                      return false;
+                    }
+                  }));
+    }
+
+    return CompletableFuture.allOf(attempts.toArray(CompletableFuture[]::new))
+        .thenCompose(
+            ignored -> {
+              if (attempts.stream().anyMatch(CompletableFuture::join)) {
+                return CompletableFuture.completedFuture(null);
+              }
+
+              Throwable cause = lastFailure.get();
+              return CompletableFuture.failedFuture(
+                  cause != null ? cause : new CircuitOpenException("every proxy"));
+            });
+  }
+
+  /**
+   * Shuts down the clients of every proxy. Requests that are still in flight are allowed to
+   * complete.
+   */
+  @Override
+  public void close() {
+    this.proxies.forEach(proxy -> proxy.client.close());
+  }
+
+  private Lease select() throws CircuitOpenException {
+    int size = this.proxies.size();
+    int start = Math.floorMod(this.next.getAndIncrement(), size);
+    List<Proxy> candidates = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      candidates.add(this.proxies.get((start + i) % size));
+    }
+    if (this.settings.selection() == ProxySelection.LEAST_LOADED) {
+      // The sort is stable, so equally loaded proxies keep taking turns.
+      candidates.sort(Comparator.comparingInt(proxy -> proxy.inFlight.get()));
+    }
+
+    for (Proxy proxy : candidates) {
+      CircuitBreaker.Permit permit = proxy.circuitBreaker.tryAcquire();
+      if (permit != null) {
+        return new Lease(proxy, permit);
+      }
+    }
+
+    throw new CircuitOpenException("every proxy");
+  }
+
+  /**
+   * A borrowed proxy. Closing the lease gives the proxy back to the pool; closing it more than once
+   * has no effect.
+   */
+  public static final class Lease implements AutoCloseable {
+    private final Proxy proxy;
+    private final CircuitBreaker.Permit permit;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Lease(Proxy proxy, CircuitBreaker.Permit permit) {
+      this.proxy = proxy;
+      this.permit = permit;
+      proxy.inFlight.incrementAndGet();
+    }
+
+    /**
+     * Retrieves the client routed through the proxy.
+     *
+     * @return the {@link HttpClient} to send the request with
+     */
+    public HttpClient client() {
+      return this.proxy.client;
+    }
+
+    /**
+     * Retrieves the address of the proxy.
+     *
+     * @return the proxy address
+     */
+    public InetSocketAddress address() {
+      return this.proxy.address;
+    }
+
+    /**
+     * Reports that the request succeeded.
+     *
+     * @param latency how long the request took; slow requests count against the proxy
+     */
+    public void onSuccess(Duration latency) {
+      this.permit.onSuccess(latency);
+    }
+
+    /**
+     * Reports that the request failed. Only failures of the proxy itself count against it: a
+     * refused or timed out connection to the proxy, or a {@code 407 Proxy Authentication Required}
+     * answer. Failures past the proxy, e.g. a slow origin, a body that is too large or any other
+     * answer, say nothing about the proxy, but a {@code 429} or {@code 503} answer pauses the
+     * budget of the proxy for the {@code Retry-After} delay, since servers throttle by egress
+     * address.
+     *
+     * @param cause the failure of the request
+     */
+    public void onFailure(Throwable cause) {
+      if (cause instanceof HttpStatusException statusException && statusException.isThrottled()) {
+        Duration retryAfter = statusException.getRetryAfter();
+        this.proxy.bucket.pause(retryAfter == null ? DEFAULT_RETRY_AFTER : retryAfter);
+      }
+
+      if (isProxyFailure(cause)) {
+        this.permit.onFailure();
+      } else {
+        this.permit.onIgnored();
+      }
+    }
+
+    @Override
+    public void close() {
+      if (this.released.compareAndSet(false, true)) {
+        // An outcome that hasn't been reported, e.g. of a cancelled request, is ignored.
+        this.permit.onIgnored();
+        this.proxy.inFlight.decrementAndGet();
+      }
+    }
+
+    private static boolean isProxyFailure(Throwable cause) {
+      // Readers may wrap the failure of the client, so its causes are looked at too.
+      for (Throwable failure = cause; failure != null; failure = failure.getCause()) {
+        if (failure instanceof ConnectException || failure instanceof HttpConnectTimeoutException) {
+          return true;
+        }
+        if (failure instanceof HttpStatusException statusException) {
+          return statusException.getStatusCode() == HTTP_PROXY_AUTHENTICATION_REQUIRED;
+        }
+      }
+
+      return false;
+    }
+  }
+
+  private final class Proxy {
+    private final InetSocketAddress address;
+    private final HttpClient client;
+    private final TokenBucket bucket;
+    private final CircuitBreaker circuitBreaker;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private Proxy(InetSocketAddress address) {
+      this.address = address;
+      HttpClient.Builder builder =
+          HttpClient.newBuilder()
+              .proxy(ProxySelector.of(address))
+              .connectTimeout(settings.connectTimeout());
+      if (executionMode == ExecutionMode.VIRTUAL_THREADS) {
+        builder.executor(BlockingAdapter.executorOf(ExecutionMode.VIRTUAL_THREADS));
+      }
+      this.client = builder.build();
+      this.bucket = new TokenBucket(settings.rateLimit());
+      this.circuitBreaker = new CircuitBreaker(settings.healthSettings());
+    }
+  }
+}
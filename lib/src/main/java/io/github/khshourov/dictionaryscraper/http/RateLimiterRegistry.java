@@ -0,0 +1,76 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import io.github.khshourov.dictionaryscraper.models.RateLimit;
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The RateLimiterRegistry hands out one {@link TokenBucket} per host, so that every reader sending
+ * requests to the same host draws from the same budget, no matter which scraper it belongs to.
+ *
+ * <p>Hosts without an explicit {@link RateLimit} get the default one of the registry. There is no
+ * implicit registry: only the readers given the same registry share budgets, and readers that are
+ * given none are not paced at all.
+ */
+public class RateLimiterRegistry {
+  private final RateLimit defaultRateLimit;
+  private final Map<String, RateLimit> rateLimits = new ConcurrentHashMap<>();
+  private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+  /**
+   * Initializes the registry with the budget used for hosts that have none configured.
+   *
+   * @param defaultRateLimit the default request budget; must not be null
+   * @throws IllegalArgumentException if defaultRateLimit is null
+   */
+  public RateLimiterRegistry(RateLimit defaultRateLimit) {
+    if (defaultRateLimit == null) {
+      throw new IllegalArgumentException("defaultRateLimit can not be null");
+    }
+
+    this.defaultRateLimit = defaultRateLimit;
+  }
+
+  /**
+   * Configures the budget of the host of the given base URI. It has to be set before the first
+   * request to that host; an existing bucket is replaced otherwise.
+   *
+   * @param baseUri the base URI, or host, to configure
+   * @param rateLimit the request budget; must not be null
+   * @throws IllegalArgumentException if rateLimit is null
+   */
+  public void setRateLimit(String baseUri, RateLimit rateLimit) {
+    if (rateLimit == null) {
+      throw new IllegalArgumentException("rateLimit can not be null");
+    }
+
+    String host = hostOf(baseUri);
+    this.rateLimits.put(host, rateLimit);
+    this.buckets.put(host, new TokenBucket(rateLimit));
+  }
+
+  /**
+   * Retrieves the bucket of the host of the given base URI.
+   *
+   * @param baseUri the base URI the requests are sent to
+   * @return the {@link TokenBucket} shared by every request to that host
+   */
+  public TokenBucket bucketOf(String baseUri) {
+    String host = hostOf(baseUri);
+    return this.buckets.computeIfAbsent(
+        host, key -> new TokenBucket(this.rateLimits.getOrDefault(key, this.defaultRateLimit)));
+  }
+
+  private static String hostOf(String baseUri) {
+    String host = null;
+    try {
+      host = URI.create(baseUri).getHost();
+    } catch (IllegalArgumentException ignored) {
+      // Not a URI; the value is used as it is.
+    }
+
+    return (host == null ? baseUri : host).toLowerCase(Locale.ROOT);
+  }
+}
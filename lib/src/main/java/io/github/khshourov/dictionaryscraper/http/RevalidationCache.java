@@ -0,0 +1,106 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import java.net.http.HttpHeaders;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The RevalidationCache remembers, per URL, the validators ({@code ETag} and {@code Last-Modified})
+ * of the last response together with its body. A reader uses them to send conditional requests
+ * ({@code If-None-Match} / {@code If-Modified-Since}) and serves the stored body when the server
+ * answers {@code 304 Not Modified}.
+ *
+ * <p>The cache holds at most a fixed number of pages and evicts the least recently used one when it
+ * is full. Responses without any validator are not stored.
+ */
+public class RevalidationCache {
+  private final Map<String, Entry> entries;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /** Initializes the cache with room for 1024 pages. */
+  public RevalidationCache() {
+    this(1024);
+  }
+
+  /**
+   * Initializes the cache with room for the given number of pages.
+   *
+   * @param maxEntries the maximum number of pages to remember; must be positive
+   * @throws IllegalArgumentException if maxEntries is not positive
+   */
+  public RevalidationCache(int maxEntries) {
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("maxEntries must be at least 1");
+    }
+
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return this.size() > maxEntries;
+          }
+        };
+  }
+
+  /**
+   * Retrieves the stored page of the given URL.
+   *
+   * @param url the URL of the page
+   * @return the stored {@link Entry}, or {@code null} if the page is not known
+   */
+  public Entry get(String url) {
+    this.lock.lock();
+    try {
+      return this.entries.get(url);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Stores the page of the given URL if the response carries at least one validator.
+   *
+   * @param url the URL of the page
+   * @param headers the headers of the response
+   * @param body the decoded body of the response; it is kept as is and must not be modified
+   */
+  public void put(String url, HttpHeaders headers, ByteBuffer body) {
+    String etag = headers.firstValue("ETag").orElse(null);
+    String lastModified = headers.firstValue("Last-Modified").orElse(null);
+    if (etag == null && lastModified == null) {
+      return;
+    }
+
+    this.lock.lock();
+    try {
+      this.entries.put(url, new Entry(etag, lastModified, body.asReadOnlyBuffer()));
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Retrieves the number of stored pages.
+   *
+   * @return the number of stored pages
+   */
+  public int size() {
+    this.lock.lock();
+    try {
+      return this.entries.size();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Represents a stored page.
+   *
+   * @param etag The {@code ETag} of the page; may be null.
+   * @param lastModified The {@code Last-Modified} date of the page; may be null.
+   * @param body The decoded, UTF-8 encoded body of the page; read-only.
+   */
+  public record Entry(String etag, String lastModified, ByteBuffer body) {}
+}
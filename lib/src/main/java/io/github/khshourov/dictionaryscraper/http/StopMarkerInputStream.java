@@ -0,0 +1,151 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * The StopMarkerInputStream passes the bytes of another stream on until one of a set of markers
+ * appears, then reports the end of the stream, so that a page can be read only up to the part a
+ * parser actually needs.
+ *
+ * <p>The marker itself and everything after it are left unread. Up to the length of the longest
+ * marker minus one byte is held back until it is known not to start a marker. Closing this stream
+ * closes the wrapped one, which, for an HTTP response body, aborts the rest of the download.
+ */
+public class StopMarkerInputStream extends InputStream {
+  private static final int CHUNK_SIZE = 8 * 1024;
+
+  private final InputStream input;
+  private final byte[][] markers;
+  private final int overlap;
+  private final byte[] pending;
+  private int start;
+  private int releasable;
+  private int end;
+  private boolean finished;
+  private boolean stopped;
+
+  /**
+   * Wraps the given stream.
+   *
+   * @param input the stream to read; must not be null
+   * @param markers the byte sequences to stop at; must not be null, nor contain empty markers
+   * @throws IllegalArgumentException if input or markers is null, or a marker is empty
+   */
+  public StopMarkerInputStream(InputStream input, List<byte[]> markers) {
+    if (input == null) {
+      throw new IllegalArgumentException("input can not be null");
+    }
+
+    if (markers == null) {
+      throw new IllegalArgumentException("markers can not be null");
+    }
+
+    int longest = 1;
+    for (byte[] marker : markers) {
+      if (marker == null || marker.length == 0) {
+        throw new IllegalArgumentException("markers can not be null or empty");
+      }
+      longest = Math.max(longest, marker.length);
+    }
+
+    this.input = input;
+    this.markers = markers.toArray(new byte[0][]);
+    this.overlap = longest - 1;
+    this.pending = new byte[CHUNK_SIZE + this.overlap];
+  }
+
+  /**
+   * Checks whether reading stopped at a marker rather than at the end of the wrapped stream.
+   *
+   * @return {@code true} if a marker was found
+   */
+  public boolean isStopped() {
+    return this.stopped;
+  }
+
+  @Override
+  public int read() throws IOException {
+    byte[] single = new byte[1];
+    return this.read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] buffer, int offset, int length) throws IOException {
+    if (length == 0) {
+      return 0;
+    }
+
+    while (this.start == this.releasable) {
+      if (this.finished) {
+        return -1;
+      }
+      this.fill();
+    }
+
+    int count = Math.min(length, this.releasable - this.start);
+    System.arraycopy(this.pending, this.start, buffer, offset, count);
+    this.start += count;
+    return count;
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.input.close();
+  }
+
+  private void fill() throws IOException {
+    // Keep the held back bytes at the front, so that a marker split between reads is still found.
+    System.arraycopy(this.pending, this.start, this.pending, 0, this.end - this.start);
+    this.end -= this.start;
+    this.start = 0;
+
+    int read = this.input.read(this.pending, this.end, this.pending.length - this.end);
+    if (read < 0) {
+      this.finished = true;
+      this.releasable = this.end;
+      return;
+    }
+
+    int searchFrom = Math.max(0, this.end - this.overlap);
+    this.end += read;
+
+    int marker = this.indexOfMarker(searchFrom);
+    if (marker >= 0) {
+      this.finished = true;
+      this.stopped = true;
+      this.end = marker;
+      this.releasable = marker;
+      return;
+    }
+
+    this.releasable = Math.max(0, this.end - this.overlap);
+  }
+
+  private int indexOfMarker(int from) {
+    for (int i = from; i < this.end; i++) {
+      for (byte[] marker : this.markers) {
+        if (this.startsWith(i, marker)) {
+          return i;
+        }
+      }
+    }
+
+    return -1;
+  }
+
+  private boolean startsWith(int index, byte[] marker) {
+    if (index + marker.length > this.end) {
+      return false;
+    }
+
+    for (int j = 0; j < marker.length; j++) {
+      if (this.pending[index + j] != marker[j]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
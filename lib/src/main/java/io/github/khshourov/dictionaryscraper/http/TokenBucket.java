@@ -0,0 +1,91 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import io.github.khshourov.dictionaryscraper.models.RateLimit;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * The TokenBucket paces requests to a sustained rate while allowing short bursts.
+ *
+ * <p>It is implemented as a virtual scheduler: every reservation returns how long the caller has to
+ * wait before sending its request, so callers that can't block (e.g. asynchronous reads) can
+ * schedule the request instead. A server's request to back off ({@code Retry-After}) pauses the
+ * bucket; once the pause is over, requests resume at the sustained rate without a burst.
+ */
+public class TokenBucket {
+  private final long interval;
+  private final long burstTolerance;
+  private final LongSupplier clock;
+  private final ReentrantLock lock = new ReentrantLock();
+  private long theoreticalArrival;
+
+  /**
+   * Initializes the bucket with the given budget.
+   *
+   * @param rateLimit the request budget; must not be null
+   * @throws IllegalArgumentException if rateLimit is null
+   */
+  public TokenBucket(RateLimit rateLimit) {
+    this(rateLimit, System::nanoTime);
+  }
+
+  TokenBucket(RateLimit rateLimit, LongSupplier clock) {
+    if (rateLimit == null) {
+      throw new IllegalArgumentException("rateLimit can not be null");
+    }
+
+    this.interval =
+        Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / rateLimit.permitsPerSecond()));
+    this.burstTolerance = this.interval * (rateLimit.burst() - 1);
+    this.clock = clock;
+    this.theoreticalArrival = clock.getAsLong();
+  }
+
+  /**
+   * Reserves one request.
+   *
+   * @return how long, in nanoseconds, the caller has to wait before sending the request; {@code 0}
+   *     if it can be sent right away
+   */
+  public long reserve() {
+    this.lock.lock();
+    try {
+      long now = this.clock.getAsLong();
+      long arrival = Math.max(this.theoreticalArrival, now);
+      this.theoreticalArrival = arrival + this.interval;
+
+      return Math.max(0L, arrival - this.burstTolerance - now);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Reserves one request and blocks until it may be sent.
+   *
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  public void acquire() throws InterruptedException {
+    long wait = this.reserve();
+    if (wait > 0) {
+      TimeUnit.NANOSECONDS.sleep(wait);
+    }
+  }
+
+  /**
+   * Holds back every request that hasn't been reserved yet for the given time.
+   *
+   * @param duration how long to hold back requests
+   */
+  public void pause(Duration duration) {
+    this.lock.lock();
+    try {
+      long resumeAt = this.clock.getAsLong() + duration.toNanos();
+      this.theoreticalArrival = Math.max(this.theoreticalArrival, resumeAt + this.burstTolerance);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package io.github.khshourov.dictionaryscraper.interfaces;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Represents a decoder of one HTTP {@code Content-Encoding}, such as gzip or deflate.
+ *
+ * <p>Implementations must decode lazily, i.e. wrap the given stream instead of reading it entirely,
+ * so that responses are decompressed while they are being read.
+ */
+@FunctionalInterface
+public interface ContentDecoder {
+  /**
+   * Wraps the encoded stream into a stream that yields the decoded bytes.
+   *
+   * @param encoded the stream of encoded bytes
+   * @return a stream of decoded bytes
+   * @throws IOException if the stream can't be decoded, e.g. its header is corrupt
+   */
+  InputStream decode(InputStream encoded) throws IOException;
+}
@@ -1,7 +1,14 @@
 package io.github.khshourov.dictionaryscraper.interfaces;
 
+import io.github.khshourov.dictionaryscraper.concurrent.BlockingAdapter;
+import io.github.khshourov.dictionaryscraper.enums.CircuitState;
 import io.github.khshourov.dictionaryscraper.models.DictionaryWord;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Provides a framework for managing and utilizing scrapers to retrieve dictionary information from
@@ -13,8 +20,12 @@ import java.util.List;
  * Provide access to the list of sources registered within the framework.
  *
  * <p>Methods: - `getRegisteredSources`: Retrieves a list of all sources currently registered with
- * the scraper. - `registerScraper`: Associates a scraper with a specific source within the
- * framework. - `search`: Performs a word search in a specific source using the associated scraper.
+ * the scraper. - `getCircuitState`: Retrieves the state of the circuit breaker guarding a source. -
+ * `registerScraper`: Associates a scraper with a specific source within the framework. - `search`:
+ * Performs a word search in a specific source using the associated scraper. - `searchAsync`:
+ * Non-blocking counterpart of `search`. - `searchAll`: Searches for several words at once. -
+ * `warmUp`: Prepares the scrapers ahead of the first search. - `isReady`: Tells whether the warm-up
+ * is done.
  *
  * <p>This interface can be implemented to define custom behaviors for managing scrapers and
  * sources, as well as specific logic for handling word lookup operations.
@@ -29,6 +40,41 @@ public interface DictionaryScraper {
     return List.of();
   }
 
+  /**
+   * Retrieves the state of the circuit breaker guarding the specified source. Implementations
+   * without circuit breakers always report {@link CircuitState#CLOSED}, which is the default.
+   *
+   * @param source the registered source
+   * @return the {@link CircuitState} of the source
+   */
+  default CircuitState getCircuitState(Source source) {
+    return CircuitState.CLOSED;
+  }
+
+  /**
+   * Prepares every registered scraper for its first searches, e.g. by connecting to its source, so
+   * that the first searches don't pay the cold-start penalty. The default implementation has
+   * nothing to prepare.
+   *
+   * @param extractSamples whether the scrapers run their bundled sample pages through their
+   *     extraction, so that it is compiled before the first real page
+   * @return a {@link CompletableFuture} that completes once every scraper is prepared, or
+   *     exceptionally with an {@link IOException} if a source could not be reached
+   */
+  default CompletableFuture<Void> warmUp(boolean extractSamples) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Tells whether the scrapers have been prepared by {@link #warmUp(boolean)}, e.g. for a readiness
+   * probe. Implementations without a warm-up are always ready, which is the default.
+   *
+   * @return {@code true} once the warm-up is done
+   */
+  default boolean isReady() {
+    return true;
+  }
+
   /**
    * Associates a scraper with a specific source within the framework.
    *
@@ -48,4 +94,48 @@ public interface DictionaryScraper {
    * @throws IllegalArgumentException if no scraper is registered for the specified source
    */
   DictionaryWord search(String word, Source source);
+
+  /**
+   * Searches for a word in the specified source using a registered scraper without blocking the
+   * calling thread. The default implementation runs the blocking {@link #search(String, Source)} on
+   * a dedicated thread pool.
+   *
+   * @param word the word to search for
+   * @param source the source from which the word is retrieved
+   * @return a {@link CompletableFuture} that completes with the {@link DictionaryWord}, or {@code
+   *     null} if the word cannot be found or an error occurs
+   */
+  default CompletableFuture<DictionaryWord> searchAsync(String word, Source source) {
+    return BlockingAdapter.supplyAsync(() -> this.search(word, source));
+  }
+
+  /**
+   * Searches for several words in the specified source, blocking until every search has finished.
+   * Implementations may run the searches concurrently; the default implementation runs them one
+   * after another.
+   *
+   * @param words the words to search for; must not be null
+   * @param source the source from which the words are retrieved
+   * @return the results keyed by word, in the order of the words; a word that cannot be found or
+   *     whose search failed maps to {@code null}
+   * @throws IllegalArgumentException if words is null or no scraper is registered for the specified
+   *     source
+   * @throws InterruptedException if the thread is interrupted while waiting for the searches
+   */
+  default Map<String, DictionaryWord> searchAll(Collection<String> words, Source source)
+      throws InterruptedException {
+    if (words == null) {
+      throw new IllegalArgumentException("words can not be null");
+    }
+
+    Map<String, DictionaryWord> results = new LinkedHashMap<>();
+    for (String word : words) {
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      results.put(word, this.search(word, source));
+    }
+
+    return results;
+  }
 }
@@ -1,8 +1,11 @@
 package io.github.khshourov.dictionaryscraper.interfaces;
 
+import io.github.khshourov.dictionaryscraper.concurrent.BlockingAdapter;
 import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
 import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import java.io.Closeable;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The {@code Reader} abstract class provides a blueprint for classes that are responsible for
@@ -17,13 +20,17 @@ import java.io.IOException;
  * <p>Methods: - {@code getBaseUri()}: Retrieves the base URI associated with the reader. - {@code
  * read(String word, ReadingPurpose purpose)}: Abstract method to be implemented by subclasses for
  * fetching content from the source based on the specified word and purpose. - {@code
+ * readAsync(String word, ReadingPurpose purpose)}: Non-blocking counterpart of {@code read}. -
+ * {@code linkOf(String word, ReadingPurpose purpose)}: The link the reader reads a page from. -
+ * {@code warmUp()}: Opens connections to the source ahead of the first read. - {@code
  * afterPropertiesSet()}: Ensures that the base URI is properly set and throws an exception if it is
- * null or empty.
+ * null or empty. - {@code close()}: Releases the resources held by the reader, such as pooled
+ * connections.
  *
  * <p>Subclasses of this abstract class need to provide specific logic for fetching data from
  * various sources.
  */
-public abstract class Reader {
+public abstract class Reader implements Closeable {
   /** the base URI of the online dictionary. */
   protected String baseUri;
 
@@ -68,6 +75,68 @@ public abstract class Reader {
    */
   public abstract ReaderResponse read(String word, ReadingPurpose purpose) throws IOException;
 
+  /**
+   * Reads data from the online dictionary for the specified word and purpose without blocking the
+   * calling thread.
+   *
+   * <p>The default implementation adapts the blocking {@link #read(String, ReadingPurpose)} by
+   * running it on a dedicated thread pool. Readers that can perform non-blocking I/O should
+   * override this method.
+   *
+   * @param word The word to be looked up in the online dictionary.
+   * @param purpose The purpose of the reading, which determines whether to retrieve meaning or
+   *     pronunciation. It must be of type {@link ReadingPurpose}.
+   * @return A {@link CompletableFuture} that completes with the {@link ReaderResponse}, or
+   *     exceptionally with an {@link IOException} if the data could not be read.
+   */
+  public CompletableFuture<ReaderResponse> readAsync(String word, ReadingPurpose purpose) {
+    return BlockingAdapter.supplyAsync(() -> this.read(word, purpose));
+  }
+
+  /**
+   * Builds the link the page of the specified word and purpose is read from; it is the link of the
+   * {@link ReaderResponse} of a successful read.
+   *
+   * <p>The default implementation returns {@code baseUri/purpose/word}. Readers whose source lays
+   * out its pages differently should override this method, and decorators should build the link
+   * through the reader they wrap.
+   *
+   * @param word The word to be looked up in the online dictionary.
+   * @param purpose The purpose of the reading.
+   * @return The link of the page.
+   */
+  public String linkOf(String word, ReadingPurpose purpose) {
+    return String.format("%s/%s/%s", this.baseUri, purpose.getValue(), word);
+  }
+
+  /**
+   * Tells whether this reader revalidates the pages it has read before, i.e. whether its responses
+   * can be {@link ReaderResponse#revalidated()} copies. Scrapers only remember what they extracted
+   * from a page if they may be told later that the page is unchanged.
+   *
+   * <p>The default implementation returns {@code false}. Readers that send conditional requests
+   * should override this method, and decorators should answer for the reader they wrap.
+   *
+   * @return {@code true} if the responses of this reader may be revalidated copies
+   */
+  public boolean revalidates() {
+    return false;
+  }
+
+  /**
+   * Prepares the reader for its first reads, e.g. by resolving the host of the source and opening a
+   * connection to it, so that the first reads don't pay for that.
+   *
+   * <p>The default implementation has nothing to prepare. Readers that connect to their source
+   * should override this method.
+   *
+   * @return A {@link CompletableFuture} that completes once the reader is prepared, or
+   *     exceptionally with an {@link IOException} if the source could not be reached.
+   */
+  public CompletableFuture<Void> warmUp() {
+    return CompletableFuture.completedFuture(null);
+  }
+
   /**
    * Ensures that baseUri property has been set in the child class.
    *
@@ -78,4 +147,13 @@ public abstract class Reader {
       throw new IllegalStateException("reader.baseUri can not be null or empty");
     }
   }
+
+  /**
+   * Releases the resources held by this reader. Readers that hold nothing, which is the default,
+   * don't need to override this method.
+   *
+   * @throws IOException If an I/O error occurs while releasing the resources.
+   */
+  @Override
+  public void close() throws IOException {}
 }
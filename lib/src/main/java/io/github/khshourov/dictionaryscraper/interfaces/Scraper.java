@@ -1,7 +1,10 @@
 package io.github.khshourov.dictionaryscraper.interfaces;
 
+import io.github.khshourov.dictionaryscraper.concurrent.BlockingAdapter;
 import io.github.khshourov.dictionaryscraper.models.DictionaryEntry;
+import io.github.khshourov.dictionaryscraper.models.WordKey;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The {@code Scraper} interface provides a generic blueprint for implementing dictionary scrapers
@@ -40,6 +43,33 @@ public interface Scraper {
    */
   DictionaryEntry scrape(String word) throws IOException;
 
+  /**
+   * Scrapes dictionary data for a given word without blocking the calling thread. The default
+   * implementation runs the blocking {@link #scrape(String)} on a dedicated thread pool.
+   *
+   * @param word the word to be scraped;
+   * @return a {@link CompletableFuture} that completes with the {@code DictionaryEntry}, or {@code
+   *     null} if no valid data is retrieved; it completes exceptionally with an {@link IOException}
+   *     if there is an error during data fetching operations
+   */
+  default CompletableFuture<DictionaryEntry> scrapeAsync(String word) {
+    return BlockingAdapter.supplyAsync(() -> this.scrape(word));
+  }
+
+  /**
+   * Prepares the scraper for its first scrapes without blocking the calling thread, so that they
+   * don't pay for connecting to the source or for running cold code. The default implementation has
+   * nothing to prepare.
+   *
+   * @param extractSamples whether sample pages bundled with the scraper are run through its
+   *     extraction, so that the JIT compiles the extraction before the first real page
+   * @return a {@link CompletableFuture} that completes once the scraper is prepared, or
+   *     exceptionally with an {@link IOException} if the source could not be reached
+   */
+  default CompletableFuture<Void> warmUp(boolean extractSamples) {
+    return CompletableFuture.completedFuture(null);
+  }
+
   /**
    * Cleans the input word.
    *
@@ -49,4 +79,21 @@ public interface Scraper {
   default String cleanWord(String word) {
     return word;
   }
+
+  /**
+   * Normalizes the input word into the key it is looked up by. Words with the same key are the same
+   * search: they share a scrape and its cached outcome. The default implementation wraps the word
+   * as cleaned by {@link #cleanWord(String)}.
+   *
+   * @param word the input word; may be null
+   * @return the key of the word; {@link WordKey#EMPTY} if the word has nothing to look up
+   */
+  default WordKey normalize(String word) {
+    String cleanedWord = this.cleanWord(word);
+    if (cleanedWord == null || cleanedWord.isEmpty()) {
+      return WordKey.EMPTY;
+    }
+
+    return new WordKey(cleanedWord);
+  }
 }
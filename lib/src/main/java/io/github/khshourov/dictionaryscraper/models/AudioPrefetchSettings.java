@@ -0,0 +1,46 @@
+package io.github.khshourov.dictionaryscraper.models;
+
+import java.time.Duration;
+
+/**
+ * Represents the configuration of an {@code AudioPrefetcher}.
+ *
+ * @param maxConcurrentDownloads The number of audio files downloaded at once.
+ * @param timeout How long the download of a single audio file may take.
+ * @param maxBytes The size bound of an audio file; larger files are not downloaded.
+ * @param maxStoredFiles The number of downloaded files whose local copies are remembered by URL;
+ *     the least recently used file is forgotten first and downloaded again when referred to.
+ */
+public record AudioPrefetchSettings(
+    int maxConcurrentDownloads, Duration timeout, long maxBytes, int maxStoredFiles) {
+
+  /**
+   * Validates the settings.
+   *
+   * @throws IllegalArgumentException if any of the settings is missing or out of range
+   */
+  public AudioPrefetchSettings {
+    if (maxConcurrentDownloads < 1) {
+      throw new IllegalArgumentException("maxConcurrentDownloads must be positive");
+    }
+    if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+      throw new IllegalArgumentException("timeout must be positive");
+    }
+    if (maxBytes < 1) {
+      throw new IllegalArgumentException("maxBytes must be positive");
+    }
+    if (maxStoredFiles < 1) {
+      throw new IllegalArgumentException("maxStoredFiles must be positive");
+    }
+  }
+
+  /**
+   * Creates the default settings: 8 downloads at once, each taking up to 30 seconds and 5 MiB, and
+   * 10,000 files remembered.
+   *
+   * @return the default {@code AudioPrefetchSettings}
+   */
+  public static AudioPrefetchSettings defaults() {
+    return new AudioPrefetchSettings(8, Duration.ofSeconds(30), 5L << 20, 10_000);
+  }
+}
@@ -0,0 +1,22 @@
+package io.github.khshourov.dictionaryscraper.models;
+
+/**
+ * Represents a snapshot of the counters of a cache.
+ *
+ * @param hits The number of lookups that found a live entry.
+ * @param misses The number of lookups that found nothing, or an expired entry.
+ * @param evictions The number of entries removed to make room for others, or because they expired.
+ * @param rejections The number of entries that were not admitted, because they were too large or
+ *     less frequently used than the entries they would have replaced.
+ */
+public record CacheStats(long hits, long misses, long evictions, long rejections) {
+  /**
+   * Computes the share of lookups that were hits.
+   *
+   * @return the hit rate between 0 and 1; {@code 0} if there has been no lookup
+   */
+  public double hitRate() {
+    long lookups = this.hits + this.misses;
+    return lookups == 0 ? 0 : (double) this.hits / lookups;
+  }
+}
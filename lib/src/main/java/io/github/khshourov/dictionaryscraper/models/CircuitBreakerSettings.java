@@ -0,0 +1,71 @@
+package io.github.khshourov.dictionaryscraper.models;
+
+import java.time.Duration;
+
+/**
+ * Represents the configuration of the circuit breaker guarding a source.
+ *
+ * @param windowSize The number of most recent searches the failure and slow-call rates are computed
+ *     over.
+ * @param minSearches The number of searches that have to be tracked before the circuit may open.
+ * @param failureRateThreshold The share of failed searches, between 0 and 1, at which the circuit
+ *     opens.
+ * @param slowSearchThreshold The duration above which a search counts as slow.
+ * @param slowSearchRateThreshold The share of slow searches, between 0 and 1, at which the circuit
+ *     opens.
+ * @param openDuration How long the circuit stays open before probe searches are let through.
+ * @param probes The number of probe searches let through while half-open; the circuit closes once
+ *     all of them succeed in time.
+ */
+public record CircuitBreakerSettings(
+    int windowSize,
+    int minSearches,
+    double failureRateThreshold,
+    Duration slowSearchThreshold,
+    double slowSearchRateThreshold,
+    Duration openDuration,
+    int probes) {
+
+  /**
+   * Validates the settings.
+   *
+   * @throws IllegalArgumentException if any of the settings is missing or out of range
+   */
+  public CircuitBreakerSettings {
+    if (windowSize < 1) {
+      throw new IllegalArgumentException("windowSize must be at least 1");
+    }
+    if (minSearches < 1 || minSearches > windowSize) {
+      throw new IllegalArgumentException("minSearches must be between 1 and windowSize");
+    }
+    if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+      throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]");
+    }
+    if (slowSearchThreshold == null
+        || slowSearchThreshold.isNegative()
+        || slowSearchThreshold.isZero()) {
+      throw new IllegalArgumentException("slowSearchThreshold must be positive");
+    }
+    if (!(slowSearchRateThreshold > 0 && slowSearchRateThreshold <= 1)) {
+      throw new IllegalArgumentException("slowSearchRateThreshold must be in (0, 1]");
+    }
+    if (openDuration == null || openDuration.isNegative() || openDuration.isZero()) {
+      throw new IllegalArgumentException("openDuration must be positive");
+    }
+    if (probes < 1) {
+      throw new IllegalArgumentException("probes must be at least 1");
+    }
+  }
+
+  /**
+   * Creates the default settings: over the last 20 searches (at least 10 tracked), the circuit
+   * opens at 50% failures or 80% searches slower than 10 seconds; it stays open for 30 seconds and
+   * then lets 3 probe searches through.
+   *
+   * @return the default {@code CircuitBreakerSettings}
+   */
+  public static CircuitBreakerSettings defaults() {
+    return new CircuitBreakerSettings(
+        20, 10, 0.5, Duration.ofSeconds(10), 0.8, Duration.ofSeconds(30), 3);
+  }
+}
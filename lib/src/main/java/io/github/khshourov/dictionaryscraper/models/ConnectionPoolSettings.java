@@ -0,0 +1,50 @@
+package io.github.khshourov.dictionaryscraper.models;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Represents the configuration of an {@code HttpClientPool}.
+ *
+ * @param connectTimeout The maximum time to wait while establishing a connection.
+ * @param maxConnections The maximum number of concurrent requests (and so, connections) allowed
+ *     against a single base URI.
+ * @param idleTimeout How long a pooled client may stay unused before it is discarded together with
+ *     its open connections.
+ * @param version The preferred HTTP protocol version; HTTP/2 falls back to HTTP/1.1 when the server
+ *     does not support it.
+ */
+public record ConnectionPoolSettings(
+    Duration connectTimeout, int maxConnections, Duration idleTimeout, HttpClient.Version version) {
+
+  /**
+   * Validates the settings.
+   *
+   * @throws IllegalArgumentException if any of the settings is missing or out of range
+   */
+  public ConnectionPoolSettings {
+    if (connectTimeout == null || connectTimeout.isNegative() || connectTimeout.isZero()) {
+      throw new IllegalArgumentException("connectTimeout must be positive");
+    }
+    if (maxConnections < 1) {
+      throw new IllegalArgumentException("maxConnections must be at least 1");
+    }
+    if (idleTimeout == null || idleTimeout.isNegative() || idleTimeout.isZero()) {
+      throw new IllegalArgumentException("idleTimeout must be positive");
+    }
+    if (version == null) {
+      throw new IllegalArgumentException("version can not be null");
+    }
+  }
+
+  /**
+   * Creates the default settings: 60 seconds connect timeout, 16 connections per base URI, 5
+   * minutes idle timeout and HTTP/2 preferred.
+   *
+   * @return the default {@code ConnectionPoolSettings}
+   */
+  public static ConnectionPoolSettings defaults() {
+    return new ConnectionPoolSettings(
+        Duration.ofSeconds(60), 16, Duration.ofMinutes(5), HttpClient.Version.HTTP_2);
+  }
+}
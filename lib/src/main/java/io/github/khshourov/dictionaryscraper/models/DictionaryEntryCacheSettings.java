@@ -0,0 +1,38 @@
+package io.github.khshourov.dictionaryscraper.models;
+
+import java.time.Duration;
+
+/**
+ * Represents the configuration of a {@code DictionaryEntryCache}.
+ *
+ * @param maxWeight The upper bound of the total weight of the cached entries. The weight of an
+ *     entry is the number of characters of its texts and links, so the bound roughly follows the
+ *     memory the entries take.
+ * @param timeToLive How long an entry is served after it has been cached.
+ */
+public record DictionaryEntryCacheSettings(long maxWeight, Duration timeToLive) {
+
+  /**
+   * Validates the settings.
+   *
+   * @throws IllegalArgumentException if any of the settings is missing or out of range
+   */
+  public DictionaryEntryCacheSettings {
+    if (maxWeight < 1) {
+      throw new IllegalArgumentException("maxWeight must be positive");
+    }
+    if (timeToLive == null || timeToLive.isNegative() || timeToLive.isZero()) {
+      throw new IllegalArgumentException("timeToLive must be positive");
+    }
+  }
+
+  /**
+   * Creates the default settings: up to 8 million characters (a few thousand entries) kept for 1
+   * day.
+   *
+   * @return the default {@code DictionaryEntryCacheSettings}
+   */
+  public static DictionaryEntryCacheSettings defaults() {
+    return new DictionaryEntryCacheSettings(8_000_000L, Duration.ofDays(1));
+  }
+}
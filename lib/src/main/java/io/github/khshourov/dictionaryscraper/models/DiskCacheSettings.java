@@ -0,0 +1,44 @@
+package io.github.khshourov.dictionaryscraper.models;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Represents the configuration of a {@code DiskCache}.
+ *
+ * @param directory The directory the cached files are kept in; it is created if it doesn't exist.
+ * @param timeToLive How long a cached file is served after it has been written.
+ * @param maxBytes The upper bound of the total size of the cached files; the least recently used
+ *     files are evicted to stay below it.
+ */
+public record DiskCacheSettings(Path directory, Duration timeToLive, long maxBytes) {
+
+  /**
+   * Validates the settings.
+   *
+   * @throws IllegalArgumentException if any of the settings is missing or out of range
+   */
+  public DiskCacheSettings {
+    if (directory == null) {
+      throw new IllegalArgumentException("directory can not be null");
+    }
+    if (timeToLive == null || timeToLive.isNegative() || timeToLive.isZero()) {
+      throw new IllegalArgumentException("timeToLive must be positive");
+    }
+    if (maxBytes < 1) {
+      throw new IllegalArgumentException("maxBytes must be positive");
+    }
+  }
+
+  /**
+   * Creates the default settings for the given directory: files live for 30 days and take up to 1
+   * GiB in total.
+   *
+   * @param directory the directory the cached files are kept in
+   * @return the default {@code DiskCacheSettings}
+   * @throws IllegalArgumentException if directory is null
+   */
+  public static DiskCacheSettings defaults(Path directory) {
+    return new DiskCacheSettings(directory, Duration.ofDays(30), 1L << 30);
+  }
+}
@@ -7,5 +7,28 @@ package io.github.khshourov.dictionaryscraper.models;
  * @param ipa The IPA representation of the word, defining its pronunciation using the standardized
  *     phonetic notation.
  * @param audio A URL or path to an audio file demonstrating the word's pronunciation.
+ * @param localAudio The path of a local copy of the audio file, or {@code null} if it hasn't been
+ *     downloaded.
  */
-public record IpaInfo(String category, String ipa, String audio) {}
+public record IpaInfo(String category, String ipa, String audio, String localAudio) {
+  /**
+   * Initializes the information without a local copy of the audio file.
+   *
+   * @param category parts of speech; can be empty
+   * @param ipa the IPA representation of the word
+   * @param audio a URL or path to an audio file demonstrating the word's pronunciation
+   */
+  public IpaInfo(String category, String ipa, String audio) {
+    this(category, ipa, audio, null);
+  }
+
+  /**
+   * Creates a copy of this information with the given local copy of the audio file.
+   *
+   * @param localAudio the path of the local copy of the audio file
+   * @return the {@code IpaInfo} with the local copy
+   */
+  public IpaInfo withLocalAudio(String localAudio) {
+    return new IpaInfo(this.category, this.ipa, this.audio, localAudio);
+  }
+}
@@ -0,0 +1,36 @@
+package io.github.khshourov.dictionaryscraper.models;
+
+import java.time.Duration;
+
+/**
+ * Represents the configuration of a {@code NegativeCache}.
+ *
+ * @param maxEntries The maximum number of words remembered as not found; the least recently used
+ *     one is forgotten when the cache is full.
+ * @param timeToLive How long a word is remembered as not found.
+ */
+public record NegativeCacheSettings(int maxEntries, Duration timeToLive) {
+
+  /**
+   * Validates the settings.
+   *
+   * @throws IllegalArgumentException if any of the settings is missing or out of range
+   */
+  public NegativeCacheSettings {
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("maxEntries must be at least 1");
+    }
+    if (timeToLive == null || timeToLive.isNegative() || timeToLive.isZero()) {
+      throw new IllegalArgumentException("timeToLive must be positive");
+    }
+  }
+
+  /**
+   * Creates the default settings: up to 10000 words remembered for 1 hour.
+   *
+   * @return the default {@code NegativeCacheSettings}
+   */
+  public static NegativeCacheSettings defaults() {
+    return new NegativeCacheSettings(10_000, Duration.ofHours(1));
+  }
+}
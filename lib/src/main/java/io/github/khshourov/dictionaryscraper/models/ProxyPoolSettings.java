@@ -0,0 +1,56 @@
+package io.github.khshourov.dictionaryscraper.models;
+
+import io.github.khshourov.dictionaryscraper.enums.ProxySelection;
+import java.time.Duration;
+
+/**
+ * Represents the configuration of a {@code ProxyPool}.
+ *
+ * @param selection How the proxy of a request is picked.
+ * @param rateLimit The request budget of every single proxy; the pool as a whole can send as many
+ *     requests as its proxies together.
+ * @param healthSettings The thresholds at which a failing or slow proxy is ejected from the pool,
+ *     and how it is probed before it is taken back.
+ * @param connectTimeout The maximum time to wait while establishing a connection to a proxy.
+ */
+public record ProxyPoolSettings(
+    ProxySelection selection,
+    RateLimit rateLimit,
+    CircuitBreakerSettings healthSettings,
+    Duration connectTimeout) {
+
+  /**
+   * Validates the settings.
+   *
+   * @throws IllegalArgumentException if any of the settings is missing or out of range
+   */
+  public ProxyPoolSettings {
+    if (selection == null) {
+      throw new IllegalArgumentException("selection can not be null");
+    }
+    if (rateLimit == null) {
+      throw new IllegalArgumentException("rateLimit can not be null");
+    }
+    if (healthSettings == null) {
+      throw new IllegalArgumentException("healthSettings can not be null");
+    }
+    if (connectTimeout == null || connectTimeout.isNegative() || connectTimeout.isZero()) {
+      throw new IllegalArgumentException("connectTimeout must be positive");
+    }
+  }
+
+  /**
+   * Creates the default settings: the least loaded proxy is picked, every proxy allows 2 requests
+   * per second with bursts of 4, proxies are ejected by {@link CircuitBreakerSettings#defaults()}
+   * and connections time out after 10 seconds.
+   *
+   * @return the default {@code ProxyPoolSettings}
+   */
+  public static ProxyPoolSettings defaults() {
+    return new ProxyPoolSettings(
+        ProxySelection.LEAST_LOADED,
+        new RateLimit(2, 4),
+        CircuitBreakerSettings.defaults(),
+        Duration.ofSeconds(10));
+  }
+}
@@ -0,0 +1,23 @@
+package io.github.khshourov.dictionaryscraper.models;
+
+/**
+ * Represents the request budget of a host.
+ *
+ * @param permitsPerSecond The sustained number of requests allowed per second.
+ * @param burst The number of requests that may be sent back to back after a quiet period.
+ */
+public record RateLimit(double permitsPerSecond, int burst) {
+  /**
+   * Validates the budget.
+   *
+   * @throws IllegalArgumentException if permitsPerSecond or burst is not positive
+   */
+  public RateLimit {
+    if (!(permitsPerSecond > 0) || Double.isInfinite(permitsPerSecond)) {
+      throw new IllegalArgumentException("permitsPerSecond must be positive");
+    }
+    if (burst < 1) {
+      throw new IllegalArgumentException("burst must be at least 1");
+    }
+  }
+}
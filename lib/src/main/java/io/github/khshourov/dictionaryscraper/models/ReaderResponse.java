@@ -1,9 +1,265 @@
 package io.github.khshourov.dictionaryscraper.models;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 /**
  * Represents the response from a reader after fetching a resource or content.
  *
- * @param link The URL or source link where the content was retrieved.
- * @param data The actual content or data retrieved from the specified link.
+ * <p>The content is kept the way the reader received it, either as UTF-8 encoded bytes or as text,
+ * and converted to the other form only when it is asked for. Parsers should read {@link
+ * #openStream()}, which doesn't need the text at all; {@link #data()} decodes the bytes once and
+ * remembers the text.
+ *
+ * <p>Two responses are equal when their links, contents, revalidation and truncation flags and
+ * headers are equal, whatever form their contents were created in.
  */
-public record ReaderResponse(String link, String data) {}
+public final class ReaderResponse {
+  private final String link;
+  private final boolean revalidated;
+  private final boolean truncated;
+  private final Map<String, List<String>> headers;
+  private volatile ByteBuffer body;
+  private volatile String data;
+
+  /**
+   * Creates a response of the given text.
+   *
+   * @param link The URL or source link where the content was retrieved.
+   * @param data The actual content or data retrieved from the specified link.
+   * @param revalidated Whether the source confirmed that a previously fetched copy is still up to
+   *     date (e.g. HTTP {@code 304 Not Modified}), in which case {@code data} is that stored copy.
+   * @param headers The response headers sent by the source, keyed by name; empty if the reader
+   *     doesn't provide them. {@code data} is always decoded, whatever the {@code Content-Encoding}
+   *     header says.
+   * @throws IllegalArgumentException if headers is null
+   */
+  public ReaderResponse(
+      String link, String data, boolean revalidated, Map<String, List<String>> headers) {
+    if (headers == null) {
+      throw new IllegalArgumentException("headers can not be null");
+    }
+
+    this.link = link;
+    this.data = data;
+    this.revalidated = revalidated;
+    this.truncated = false;
+    this.headers = headers;
+  }
+
+  /**
+   * Creates a response of the given UTF-8 encoded bytes, without copying them. The remaining bytes
+   * of the buffer are the content; the buffer must not be modified afterwards.
+   *
+   * @param link The URL or source link where the content was retrieved.
+   * @param body The UTF-8 encoded content retrieved from the specified link.
+   * @param revalidated Whether the source confirmed that a previously fetched copy is still up to
+   *     date.
+   * @param headers The response headers sent by the source, keyed by name.
+   * @throws IllegalArgumentException if body or headers is null
+   */
+  public ReaderResponse(
+      String link, ByteBuffer body, boolean revalidated, Map<String, List<String>> headers) {
+    this(link, body, revalidated, false, headers);
+  }
+
+  /**
+   * Creates a response of the given UTF-8 encoded bytes, without copying them. The remaining bytes
+   * of the buffer are the content; the buffer must not be modified afterwards.
+   *
+   * @param link The URL or source link where the content was retrieved.
+   * @param body The UTF-8 encoded content retrieved from the specified link.
+   * @param revalidated Whether the source confirmed that a previously fetched copy is still up to
+   *     date.
+   * @param truncated Whether the reader stopped reading the page before its end, in which case
+   *     {@code body} is the beginning of the page.
+   * @param headers The response headers sent by the source, keyed by name.
+   * @throws IllegalArgumentException if body or headers is null
+   */
+  public ReaderResponse(
+      String link,
+      ByteBuffer body,
+      boolean revalidated,
+      boolean truncated,
+      Map<String, List<String>> headers) {
+    if (body == null) {
+      throw new IllegalArgumentException("body can not be null");
+    }
+
+    if (headers == null) {
+      throw new IllegalArgumentException("headers can not be null");
+    }
+
+    this.link = link;
+    this.body = body.slice().asReadOnlyBuffer();
+    this.revalidated = revalidated;
+    this.truncated = truncated;
+    this.headers = headers;
+  }
+
+  /**
+   * Creates a response without headers.
+   *
+   * @param link The URL or source link where the content was retrieved.
+   * @param data The actual content or data retrieved from the specified link.
+   * @param revalidated Whether the source confirmed that a previously fetched copy is still up to
+   *     date.
+   */
+  public ReaderResponse(String link, String data, boolean revalidated) {
+    this(link, data, revalidated, Map.of());
+  }
+
+  /**
+   * Creates a response of freshly fetched content, without headers.
+   *
+   * @param link The URL or source link where the content was retrieved.
+   * @param data The actual content or data retrieved from the specified link.
+   */
+  public ReaderResponse(String link, String data) {
+    this(link, data, false);
+  }
+
+  /**
+   * Retrieves the URL or source link where the content was retrieved.
+   *
+   * @return the link of the content
+   */
+  public String link() {
+    return this.link;
+  }
+
+  /**
+   * Retrieves the content as text, decoding it on the first call if it was received as bytes.
+   *
+   * @return the content, or {@code null} if the response has none
+   */
+  public String data() {
+    String text = this.data;
+    if (text == null && this.body != null) {
+      text = StandardCharsets.UTF_8.decode(this.body.duplicate()).toString();
+      this.data = text;
+    }
+
+    return text;
+  }
+
+  /**
+   * Retrieves the content as UTF-8 encoded bytes, encoding it on the first call if it was received
+   * as text.
+   *
+   * @return a read-only buffer of the content, or {@code null} if the response has none
+   */
+  public ByteBuffer body() {
+    ByteBuffer bytes = this.body;
+    if (bytes == null && this.data != null) {
+      bytes = StandardCharsets.UTF_8.encode(this.data).asReadOnlyBuffer();
+      this.body = bytes;
+    }
+
+    return bytes == null ? null : bytes.duplicate();
+  }
+
+  /**
+   * Opens a stream of the UTF-8 encoded content.
+   *
+   * @return a stream of the content; empty if the response has none
+   */
+  public InputStream openStream() {
+    ByteBuffer bytes = this.body();
+    if (bytes == null) {
+      return InputStream.nullInputStream();
+    }
+
+    if (bytes.hasArray()) {
+      return new ByteArrayInputStream(
+          bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+    }
+
+    return new InputStream() {
+      @Override
+      public int read() {
+        return bytes.hasRemaining() ? bytes.get() & 0xFF : -1;
+      }
+
+      @Override
+      public int read(byte[] buffer, int offset, int length) {
+        if (!bytes.hasRemaining()) {
+          return length == 0 ? 0 : -1;
+        }
+
+        int count = Math.min(length, bytes.remaining());
+        bytes.get(buffer, offset, count);
+        return count;
+      }
+    };
+  }
+
+  /**
+   * Checks whether the source confirmed that a previously fetched copy is still up to date (e.g.
+   * HTTP {@code 304 Not Modified}), in which case the content is that stored copy.
+   *
+   * @return {@code true} if the content was revalidated rather than fetched
+   */
+  public boolean revalidated() {
+    return this.revalidated;
+  }
+
+  /**
+   * Checks whether the reader stopped reading the page before its end, e.g. at a stop marker, in
+   * which case the content is only the beginning of the page. Such a response must not be kept in
+   * place of the whole page.
+   *
+   * @return {@code true} if the content is cut short
+   */
+  public boolean truncated() {
+    return this.truncated;
+  }
+
+  /**
+   * Retrieves the response headers sent by the source. The content is always decoded, whatever the
+   * {@code Content-Encoding} header says.
+   *
+   * @return the headers keyed by name; empty if the reader doesn't provide them
+   */
+  public Map<String, List<String>> headers() {
+    return this.headers;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ReaderResponse that)) {
+      return false;
+    }
+
+    return this.revalidated == that.revalidated
+        && this.truncated == that.truncated
+        && Objects.equals(this.link, that.link)
+        && Objects.equals(this.body(), that.body())
+        && this.headers.equals(that.headers);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.link, this.body(), this.revalidated, this.truncated, this.headers);
+  }
+
+  @Override
+  public String toString() {
+    ByteBuffer bytes = this.body();
+    return String.format(
+        "ReaderResponse[link=%s, bytes=%s, revalidated=%s, truncated=%s, headers=%s]",
+        this.link,
+        bytes == null ? null : bytes.remaining(),
+        this.revalidated,
+        this.truncated,
+        this.headers);
+  }
+}
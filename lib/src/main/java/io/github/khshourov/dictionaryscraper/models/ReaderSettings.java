@@ -0,0 +1,42 @@
+package io.github.khshourov.dictionaryscraper.models;
+
+import java.time.Duration;
+
+/**
+ * Represents the limits of the reads of a reader, so that a stalled or misbehaving server costs a
+ * bounded amount of time and memory.
+ *
+ * @param connectTimeout How long establishing a connection may take.
+ * @param requestTimeout How long a whole read may take, from sending the request until the body is
+ *     read and decompressed.
+ * @param maxBodySize The maximum size of a response body in bytes, after decompression.
+ */
+public record ReaderSettings(Duration connectTimeout, Duration requestTimeout, long maxBodySize) {
+
+  /**
+   * Validates the settings.
+   *
+   * @throws IllegalArgumentException if any of the settings is missing or out of range
+   */
+  public ReaderSettings {
+    if (connectTimeout == null || connectTimeout.isNegative() || connectTimeout.isZero()) {
+      throw new IllegalArgumentException("connectTimeout must be positive");
+    }
+    if (requestTimeout == null || requestTimeout.isNegative() || requestTimeout.isZero()) {
+      throw new IllegalArgumentException("requestTimeout must be positive");
+    }
+    if (maxBodySize < 1) {
+      throw new IllegalArgumentException("maxBodySize must be at least 1");
+    }
+  }
+
+  /**
+   * Creates the default settings: connections within 10 seconds, reads within 20 seconds and bodies
+   * of up to 8 MiB.
+   *
+   * @return the default {@code ReaderSettings}
+   */
+  public static ReaderSettings defaults() {
+    return new ReaderSettings(Duration.ofSeconds(10), Duration.ofSeconds(20), 8L * 1024 * 1024);
+  }
+}
@@ -0,0 +1,45 @@
+package io.github.khshourov.dictionaryscraper.models;
+
+import java.time.Duration;
+
+/**
+ * Represents how a failed read is retried.
+ *
+ * <p>The delay before retry {@code n} (counting from 1) is picked at random between zero and {@code
+ * min(maxDelay, baseDelay * 2^(n - 1))}, so that clients failing at the same time don't retry in
+ * lockstep.
+ *
+ * @param maxAttempts The maximum number of attempts, including the first one; {@code 1} disables
+ *     retries.
+ * @param baseDelay The upper bound of the delay before the first retry.
+ * @param maxDelay The upper bound of any delay. A server asking to wait longer ({@code
+ *     Retry-After}) is not retried.
+ */
+public record RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay) {
+
+  /**
+   * Validates the policy.
+   *
+   * @throws IllegalArgumentException if any of the settings is missing or out of range
+   */
+  public RetryPolicy {
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("maxAttempts must be at least 1");
+    }
+    if (baseDelay == null || baseDelay.isNegative()) {
+      throw new IllegalArgumentException("baseDelay can not be null or negative");
+    }
+    if (maxDelay == null || maxDelay.compareTo(baseDelay) < 0) {
+      throw new IllegalArgumentException("maxDelay can not be null or less than baseDelay");
+    }
+  }
+
+  /**
+   * Creates the default policy: 3 attempts, backing off from 250 milliseconds up to 10 seconds.
+   *
+   * @return the default {@code RetryPolicy}
+   */
+  public static RetryPolicy defaults() {
+    return new RetryPolicy(3, Duration.ofMillis(250), Duration.ofSeconds(10));
+  }
+}
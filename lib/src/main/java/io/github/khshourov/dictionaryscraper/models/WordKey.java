@@ -0,0 +1,33 @@
+package io.github.khshourov.dictionaryscraper.models;
+
+/**
+ * Represents the canonical form of a word that searches are looked up by. Words that a scraper
+ * normalizes to the same key, e.g. {@code "Hello!"} and {@code "hello"}, are the same search: they
+ * share a scrape, and its cached outcome.
+ *
+ * @param value The normalized word; empty if the word has nothing to look up.
+ */
+public record WordKey(String value) {
+  /** The key of words that have nothing to look up. */
+  public static final WordKey EMPTY = new WordKey("");
+
+  /**
+   * Validates the key.
+   *
+   * @throws IllegalArgumentException if value is null
+   */
+  public WordKey {
+    if (value == null) {
+      throw new IllegalArgumentException("value can not be null");
+    }
+  }
+
+  /**
+   * Tells whether the word has nothing to look up.
+   *
+   * @return {@code true} if the value is empty
+   */
+  public boolean isEmpty() {
+    return this.value.isEmpty();
+  }
+}
@@ -1,27 +1,113 @@
 package io.github.khshourov.dictionaryscraper.readers;
 
+import io.github.khshourov.dictionaryscraper.concurrent.BlockingAdapter;
+import io.github.khshourov.dictionaryscraper.concurrent.Timeouts;
+import io.github.khshourov.dictionaryscraper.enums.ExecutionMode;
 import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.exceptions.BodyTooLargeException;
+import io.github.khshourov.dictionaryscraper.exceptions.CircuitOpenException;
+import io.github.khshourov.dictionaryscraper.exceptions.HttpStatusException;
+import io.github.khshourov.dictionaryscraper.http.BoundedBodySubscriber;
+import io.github.khshourov.dictionaryscraper.http.BufferPool;
+import io.github.khshourov.dictionaryscraper.http.ContentDecoders;
+import io.github.khshourov.dictionaryscraper.http.HttpClientPool;
+import io.github.khshourov.dictionaryscraper.http.ProxyPool;
+import io.github.khshourov.dictionaryscraper.http.RevalidationCache;
+import io.github.khshourov.dictionaryscraper.http.StopMarkerInputStream;
 import io.github.khshourov.dictionaryscraper.interfaces.Reader;
 import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import io.github.khshourov.dictionaryscraper.models.ReaderSettings;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.zip.GZIPInputStream;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * The CambridgeReader provides functionality to fetch data from the Cambridge Dictionary based on a
  * given word and specified reading purpose (e.g., MEANING or PRONUNCIATION). It constructs requests
  * to the dictionary's API, handles HTTP interactions, and processes the response.
  *
+ * <p>By default, every read uses its own short-lived {@link HttpClient}. When a {@link
+ * HttpClientPool} is provided, the reader borrows the long-lived client of its base URI from the
+ * pool instead, so connections are reused across reads and across every reader sharing the pool.
+ * When a {@link ProxyPool} is set, every read goes out through one of its proxies instead, using
+ * the client of that proxy.
+ *
+ * <p>{@link #readAsync(String, ReadingPurpose)} is backed by {@link HttpClient#sendAsync}, so no
+ * thread is blocked while a page is in flight.
+ *
+ * <p>Responses are decompressed while they are read, using the {@link ContentDecoders} of the
+ * reader; the {@code Accept-Encoding} header only advertises the encodings those can decode.
+ *
+ * <p>Bodies are read through the chunks of a {@link BufferPool} into one array of their exact size
+ * and handed over as bytes; they are decoded into text only if {@link ReaderResponse#data()} is
+ * called. A body larger than the maximum body size of the {@link ReaderSettings} aborts the read
+ * with a {@link BodyTooLargeException}.
+ *
+ * <p>Every read, whether blocking or not, is bounded by the request timeout of the {@link
+ * ReaderSettings}, from sending the request until the body is read and decompressed. A read that
+ * takes longer is abandoned with a {@link HttpTimeoutException}.
+ *
+ * <p>A page can be cut short: once one of the stop markers of its purpose shows up in the decoded
+ * body, the rest of the page is neither read nor downloaded, and the response holds the page up to
+ * the marker and is flagged as {@link ReaderResponse#truncated()}. Pages are read whole by default;
+ * {@link #OTHER_DICTIONARY_MARKERS} stops a meaning page where the American or the business
+ * dictionary starts, for scrapers that only need the UK one. Cut-short asynchronous reads are
+ * parsed on the {@link BlockingAdapter} threads of the reader's {@link ExecutionMode} while the
+ * bytes arrive. Cut-short pages are never stored in the {@link RevalidationCache}.
+ *
+ * <p>When a {@link RevalidationCache} is set, pages that have been read before are requested
+ * conditionally. A {@code 304 Not Modified} answer is served from the cache and flagged as {@link
+ * ReaderResponse#revalidated()}.
+ *
+ * <p>The dictionary answers a word it doesn't know with a redirect or with {@code 404 Not Found} or
+ * {@code 410 Gone}; redirects are not followed, and such an answer is returned as the page of the
+ * word, so that it is found to have no entries. It is never stored in the {@link
+ * RevalidationCache}. Any other answer than {@code 200 OK}, or {@code 304 Not Modified} for a
+ * stored page, is reported as an {@link HttpStatusException} carrying the {@code Retry-After}
+ * delay, instead of being parsed as a page: a block page or a bot challenge says nothing about the
+ * word.
+ *
  * <p>This class extends the base Reader class, ensuring that a valid baseUri is provided upon
  * instantiation.
  */
 public class CambridgeReader extends Reader {
+  /**
+   * The stop markers of the panels of the American and the business dictionaries, which follow the
+   * UK one on a meaning page.
+   */
+  public static final List<String> OTHER_DICTIONARY_MARKERS =
+      List.of("data-id=\"cacd\" data-tab=\"ds-cacd\"", "data-id=\"cbed\" data-tab=\"ds-cbed\"");
+
+  private static final int HTTP_OK = 200;
+  private static final int HTTP_NOT_MODIFIED = 304;
+  private static final int HTTP_NOT_FOUND = 404;
+  private static final int HTTP_GONE = 410;
+
+  private final HttpClientPool clientPool;
+  private final Map<ReadingPurpose, List<byte[]>> stopMarkers = new EnumMap<>(ReadingPurpose.class);
+  private ContentDecoders contentDecoders = new ContentDecoders();
+  private RevalidationCache revalidationCache;
+  private BufferPool bufferPool = BufferPool.shared();
+  private ReaderSettings settings = ReaderSettings.defaults();
+  private ExecutionMode executionMode = ExecutionMode.PLATFORM_THREADS;
+  private ProxyPool proxyPool;
 
   /**
    * Sets the baseUri of the online dictionary.
@@ -30,6 +116,146 @@ public class CambridgeReader extends Reader {
    */
   public CambridgeReader(String baseUri) {
     super(baseUri);
+    this.clientPool = null;
+  }
+
+  /**
+   * Sets the baseUri of the online dictionary and the pool the HTTP client is borrowed from. The
+   * pool is owned by the caller; closing this reader doesn't close the pool.
+   *
+   * @param baseUri the baseUri of the online dictionary.
+   * @param clientPool the pool to borrow the shared HTTP client from; must not be null
+   * @throws IllegalArgumentException if clientPool is null
+   */
+  public CambridgeReader(String baseUri, HttpClientPool clientPool) {
+    super(baseUri);
+
+    if (clientPool == null) {
+      throw new IllegalArgumentException("clientPool can not be null");
+    }
+    this.clientPool = clientPool;
+  }
+
+  /**
+   * Sets the registry of decoders used to decompress responses. It also determines the {@code
+   * Accept-Encoding} header of the requests.
+   *
+   * @param contentDecoders the registry of content decoders; must not be null
+   * @throws IllegalArgumentException if contentDecoders is null
+   */
+  public void setContentDecoders(ContentDecoders contentDecoders) {
+    if (contentDecoders == null) {
+      throw new IllegalArgumentException("contentDecoders can not be null");
+    }
+
+    this.contentDecoders = contentDecoders;
+  }
+
+  /**
+   * Sets the cache used to revalidate previously read pages with conditional requests instead of
+   * downloading them again. The cache can be shared between readers.
+   *
+   * @param revalidationCache the cache of page validators and bodies; must not be null
+   * @throws IllegalArgumentException if revalidationCache is null
+   */
+  public void setRevalidationCache(RevalidationCache revalidationCache) {
+    if (revalidationCache == null) {
+      throw new IllegalArgumentException("revalidationCache can not be null");
+    }
+
+    this.revalidationCache = revalidationCache;
+  }
+
+  /**
+   * Sets the pool of the chunks response bodies are read through. The pool can be shared between
+   * readers.
+   *
+   * @param bufferPool the pool of read buffers; must not be null
+   * @throws IllegalArgumentException if bufferPool is null
+   */
+  public void setBufferPool(BufferPool bufferPool) {
+    if (bufferPool == null) {
+      throw new IllegalArgumentException("bufferPool can not be null");
+    }
+
+    this.bufferPool = bufferPool;
+  }
+
+  /**
+   * Sets the timeouts and the maximum body size of the reads. The connect timeout only applies to
+   * the reader's own clients; clients borrowed from a {@link HttpClientPool} use the timeout of the
+   * pool.
+   *
+   * @param settings the limits of the reads; must not be null
+   * @throws IllegalArgumentException if settings is null
+   */
+  public void setReaderSettings(ReaderSettings settings) {
+    if (settings == null) {
+      throw new IllegalArgumentException("settings can not be null");
+    }
+
+    this.settings = settings;
+  }
+
+  /**
+   * Sets the kind of threads the reader's own clients run their I/O on, and cut-short asynchronous
+   * reads are parsed on. Clients borrowed from a {@link HttpClientPool} or a {@link ProxyPool} run
+   * on the threads of the pool. {@link ExecutionMode#PLATFORM_THREADS} by default.
+   *
+   * @param executionMode the kind of threads to run on; must not be null
+   * @throws IllegalArgumentException if executionMode is null
+   */
+  public void setExecutionMode(ExecutionMode executionMode) {
+    if (executionMode == null) {
+      throw new IllegalArgumentException("executionMode can not be null");
+    }
+
+    this.executionMode = executionMode;
+  }
+
+  /**
+   * Sets the pool of proxies the reads go out through. Reads then use the clients of the proxies,
+   * with the connect timeout of the pool, rather than the reader's own clients or those of its
+   * {@link HttpClientPool}; the outcome of every read is reported to the proxy it went through. The
+   * pool is owned by the caller; closing this reader doesn't close the pool.
+   *
+   * @param proxyPool the pool of egress proxies; must not be null
+   * @throws IllegalArgumentException if proxyPool is null
+   */
+  public void setProxyPool(ProxyPool proxyPool) {
+    if (proxyPool == null) {
+      throw new IllegalArgumentException("proxyPool can not be null");
+    }
+
+    this.proxyPool = proxyPool;
+  }
+
+  /**
+   * Sets the markers the pages of the given purpose are cut short at. The marker is matched against
+   * the raw, decoded HTML; the page ends right before the first marker found. There are no markers
+   * by default.
+   *
+   * @param purpose the purpose of the pages; must not be null
+   * @param markers the markers to stop at, e.g. the opening tag of a section that is not scraped;
+   *     see {@link #OTHER_DICTIONARY_MARKERS}; empty to always read whole pages. Must not be null
+   *     nor contain empty markers.
+   * @throws IllegalArgumentException if purpose or markers is null, or a marker is empty
+   */
+  public void setStopMarkers(ReadingPurpose purpose, List<String> markers) {
+    if (purpose == null) {
+      throw new IllegalArgumentException("purpose can not be null");
+    }
+
+    if (markers == null) {
+      throw new IllegalArgumentException("markers can not be null");
+    }
+
+    if (markers.stream().anyMatch(marker -> marker == null || marker.isEmpty())) {
+      throw new IllegalArgumentException("markers can not be null or empty");
+    }
+
+    this.stopMarkers.put(
+        purpose, markers.stream().map(marker -> marker.getBytes(StandardCharsets.UTF_8)).toList());
   }
 
   /**
@@ -45,46 +271,30 @@ public class CambridgeReader extends Reader {
    */
   @Override
   public ReaderResponse read(String word, ReadingPurpose purpose) throws IOException {
-    String section = purpose == ReadingPurpose.MEANING ? "dictionary" : "pronunciation";
-    String url = String.format("%s/%s/english/%s", this.baseUri, section, word);
-
-    try (HttpClient client =
-        HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(60)).build()) {
-      HttpRequest httpRequest =
-          HttpRequest.newBuilder()
-              .GET()
-              .uri(URI.create(url))
-              .header(
-                  "User-Agent",
-                  "Mozilla/5.0 (Macintosh; Intel Mac OS X 10.15; rv:131.0) "
-                      + "Gecko/20100101 Firefox/131.0")
-              .header(
-                  "Accept",
-                  "text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,"
-                      + "image/webp,image/png,image/svg+xml,*/*;q=0.8")
-              .header("Accept-Language", "en-US,en;q=0.5")
-              .header("Accept-Encoding", "gzip, deflate, br, zstd")
-              .header("Referer", "https://www.google.com/")
-              .header("Upgrade-Insecure-Requests", "1")
-              .header("Sec-Fetch-Dest", "document")
-              .header("Sec-Fetch-Mode", "navigate")
-              .header("Sec-Fetch-Site", "cross-site")
-              .header("Sec-Fetch-User", "?1")
-              .build();
-
-      HttpResponse<InputStream> response =
-          client.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
-
-      InputStream inputStream = response.body();
-      String encoding = response.headers().firstValue("Content-Encoding").orElse("");
-
-      if ("gzip".equals(encoding)) {
-        inputStream = new GZIPInputStream(inputStream);
+    String url = this.linkOf(word, purpose);
+    List<byte[]> markers = this.stopMarkersOf(purpose);
+
+    try {
+      if (this.proxyPool != null) {
+        try (ProxyPool.Lease lease = this.proxyPool.lease()) {
+          return this.fetchThrough(lease, url, markers);
+        }
       }
 
-      String responseBody = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+      if (this.clientPool == null) {
+        try (HttpClient client = this.newClient()) {
+          return this.fetch(client, url, markers);
+        }
+      }
 
-      return new ReaderResponse(url, responseBody);
+      try (HttpClientPool.Lease lease = this.clientPool.lease(this.baseUri)) {
+        return this.fetch(lease.client(), url, markers);
+      }
+    } catch (HttpStatusException
+        | BodyTooLargeException
+        | HttpTimeoutException
+        | CircuitOpenException e) {
+      throw e;
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       throw new IOException(e);
@@ -92,4 +302,389 @@ public class CambridgeReader extends Reader {
       throw new IOException(e);
     }
   }
+
+  /**
+   * Reads data from the Cambridge Dictionary for the specified word and purpose without blocking
+   * the calling thread. Cancelling the returned future aborts the HTTP exchange.
+   *
+   * @param word The word to be looked up in the Cambridge Dictionary.
+   * @param purpose The purpose of the reading, which determines whether to retrieve meaning or
+   *     pronunciation. It must be of type {@link ReadingPurpose}.
+   * @return A {@link CompletableFuture} that completes with the {@link ReaderResponse}, or
+   *     exceptionally with an {@link IOException} if an I/O error occurs during the HTTP request or
+   *     response processing.
+   */
+  @Override
+  public CompletableFuture<ReaderResponse> readAsync(String word, ReadingPurpose purpose) {
+    String url = this.linkOf(word, purpose);
+    List<byte[]> markers = this.stopMarkersOf(purpose);
+    CompletableFuture<ReaderResponse> result =
+        Timeouts.failAfter(
+            new CompletableFuture<>(), this.settings.requestTimeout(), () -> this.timeoutOf(url));
+
+    if (this.proxyPool != null) {
+      CompletableFuture<ProxyPool.Lease> lease = this.proxyPool.leaseAsync();
+      result.whenComplete((response, throwable) -> lease.cancel(false));
+      lease.whenComplete(
+          (acquired, throwable) -> {
+            if (throwable != null) {
+              result.completeExceptionally(asIoException(throwable));
+              return;
+            }
+
+            long start = System.nanoTime();
+            result.whenComplete(
+                (response, failure) -> {
+                  if (failure == null) {
+                    acquired.onSuccess(Duration.ofNanos(System.nanoTime() - start));
+                  } else {
+                    acquired.onFailure(BlockingAdapter.unwrap(failure));
+                  }
+                  acquired.close();
+                });
+            // The lease is given back once the outcome of the read is known, not when the
+            // exchange releases its connection.
+            this.fetchAsync(acquired.client(), url, markers, result, () -> {});
+          });
+      return result;
+    }
+
+    if (this.clientPool == null) {
+      HttpClient client = this.newClient();
+      this.fetchAsync(client, url, markers, result, client::shutdown);
+      return result;
+    }
+
+    CompletableFuture<HttpClientPool.Lease> lease = this.clientPool.leaseAsync(this.baseUri);
+    result.whenComplete((response, throwable) -> lease.cancel(false));
+    lease.whenComplete(
+        (acquired, throwable) -> {
+          if (throwable != null) {
+            result.completeExceptionally(new IOException(BlockingAdapter.unwrap(throwable)));
+            return;
+          }
+
+          this.fetchAsync(acquired.client(), url, markers, result, acquired::close);
+        });
+
+    return result;
+  }
+
+  /**
+   * Opens a connection to the Cambridge Dictionary ahead of the first read by sending a {@code
+   * HEAD} request to its base URI, which resolves the host and goes through the TLS handshake and
+   * the HTTP/2 negotiation. Only long-lived clients keep the connection for the reads: those of a
+   * {@link HttpClientPool}, or of a {@link ProxyPool}, whose every proxy is warmed up. With the
+   * reader's own short-lived clients, only the resolved host, which the JVM caches, carries over.
+   *
+   * @return A {@link CompletableFuture} that completes once the source has answered, whatever the
+   *     status, or exceptionally with an {@link IOException} if it could not be reached.
+   */
+  @Override
+  public CompletableFuture<Void> warmUp() {
+    HttpRequest request =
+        HttpRequest.newBuilder(this.newRequest(this.baseUri + "/", null), (name, value) -> true)
+            .method("HEAD", HttpRequest.BodyPublishers.noBody())
+            .build();
+
+    if (this.proxyPool != null) {
+      return this.proxyPool.warmUp(request);
+    }
+
+    CompletableFuture<HttpResponse<Void>> exchange;
+    if (this.clientPool == null) {
+      HttpClient client = this.newClient();
+      exchange = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+      exchange.whenComplete((response, throwable) -> client.shutdown());
+    } else {
+      exchange =
+          this.clientPool
+              .leaseAsync(this.baseUri)
+              .thenCompose(
+                  lease ->
+                      lease
+                          .client()
+                          .sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                          .whenComplete((response, throwable) -> lease.close()));
+    }
+
+    return exchange.handle(
+        (response, throwable) -> {
+          if (throwable != null) {
+            throw new CompletionException(asIoException(throwable));
+          }
+          return null;
+        });
+  }
+
+  /**
+   * Builds the link of the Cambridge Dictionary page of the specified word and purpose: {@code
+   * baseUri/dictionary/english/word} for its meaning, {@code baseUri/pronunciation/english/word}
+   * otherwise. The word is percent-encoded as UTF-8, so that words with letters beyond ASCII, such
+   * as {@code "привет"}, make valid links.
+   *
+   * @param word The word to be looked up in the Cambridge Dictionary.
+   * @param purpose The purpose of the reading.
+   * @return The link of the page.
+   */
+  @Override
+  public String linkOf(String word, ReadingPurpose purpose) {
+    String section = purpose == ReadingPurpose.MEANING ? "dictionary" : "pronunciation";
+    String segment = URLEncoder.encode(word, StandardCharsets.UTF_8).replace("+", "%20");
+    return String.format("%s/%s/english/%s", this.baseUri, section, segment);
+  }
+
+  /**
+   * Tells whether a {@link RevalidationCache} is set, in which case pages read before are
+   * revalidated.
+   *
+   * @return {@code true} if a revalidation cache is set
+   */
+  @Override
+  public boolean revalidates() {
+    return this.revalidationCache != null;
+  }
+
+  private HttpClient newClient() {
+    HttpClient.Builder builder =
+        HttpClient.newBuilder().connectTimeout(this.settings.connectTimeout());
+    if (this.executionMode == ExecutionMode.VIRTUAL_THREADS) {
+      builder.executor(BlockingAdapter.executorOf(ExecutionMode.VIRTUAL_THREADS));
+    }
+
+    return builder.build();
+  }
+
+  private List<byte[]> stopMarkersOf(ReadingPurpose purpose) {
+    return this.stopMarkers.getOrDefault(purpose, List.of());
+  }
+
+  private ReaderResponse fetch(HttpClient client, String url, List<byte[]> markers)
+      throws IOException, InterruptedException {
+    long deadline = System.nanoTime() + this.settings.requestTimeout().toNanos();
+    RevalidationCache.Entry stored = this.storedPage(url);
+    HttpResponse<InputStream> response =
+        client.send(this.newRequest(url, stored), HttpResponse.BodyHandlers.ofInputStream());
+
+    // The request timeout only covers the wait for the headers; closing the body at the deadline
+    // bounds the rest of the download and the decompression too.
+    CompletableFuture<Void> reading =
+        Timeouts.failAfter(
+            new CompletableFuture<>(),
+            Duration.ofNanos(deadline - System.nanoTime()),
+            () -> this.timeoutOf(url));
+    try (InputStream body = response.body()) {
+      reading.whenComplete(
+          (ignored, throwable) -> {
+            if (throwable != null) {
+              closeQuietly(body);
+            }
+          });
+
+      return this.toReaderResponse(url, response, body, stored, markers);
+    } catch (IOException e) {
+      if (reading.isCompletedExceptionally()) {
+        throw this.timeoutOf(url);
+      }
+      throw e;
+    } finally {
+      reading.complete(null);
+    }
+  }
+
+  private ReaderResponse fetchThrough(ProxyPool.Lease lease, String url, List<byte[]> markers)
+      throws IOException, InterruptedException {
+    long start = System.nanoTime();
+    try {
+      ReaderResponse response = this.fetch(lease.client(), url, markers);
+      lease.onSuccess(Duration.ofNanos(System.nanoTime() - start));
+      return response;
+    } catch (IOException e) {
+      lease.onFailure(e);
+      throw e;
+    }
+  }
+
+  private HttpTimeoutException timeoutOf(String url) {
+    return new HttpTimeoutException(
+        String.format("%s timed out after %s", url, this.settings.requestTimeout()));
+  }
+
+  private void fetchAsync(
+      HttpClient client,
+      String url,
+      List<byte[]> markers,
+      CompletableFuture<ReaderResponse> result,
+      Runnable release) {
+    if (result.isDone()) {
+      release.run();
+      return;
+    }
+
+    // Pages that may be cut short are streamed, so that the download stops at the marker; others
+    // are collected by the client without holding a thread.
+    boolean streaming = !markers.isEmpty();
+    RevalidationCache.Entry stored = this.storedPage(url);
+    CompletableFuture<HttpResponse<InputStream>> exchange =
+        client.sendAsync(
+            this.newRequest(url, stored),
+            streaming
+                ? HttpResponse.BodyHandlers.ofInputStream()
+                : BoundedBodySubscriber.handler(this.settings.maxBodySize()));
+    result.whenComplete((response, throwable) -> exchange.cancel(true));
+    exchange.whenComplete(
+        (response, throwable) -> {
+          if (throwable != null) {
+            release.run();
+            result.completeExceptionally(asIoException(throwable));
+            return;
+          }
+
+          if (!streaming) {
+            release.run();
+            try {
+              result.complete(
+                  this.toReaderResponse(url, response, response.body(), stored, markers));
+            } catch (IOException e) {
+              result.completeExceptionally(e);
+            }
+            return;
+          }
+
+          // Closing the body aborts the rest of the download if the read is cancelled meanwhile.
+          result.whenComplete((readerResponse, failure) -> closeQuietly(response.body()));
+          BlockingAdapter.supplyAsync(
+                  () -> {
+                    try (InputStream body = response.body()) {
+                      return this.toReaderResponse(url, response, body, stored, markers);
+                    } finally {
+                      release.run();
+                    }
+                  },
+                  this.executionMode)
+              .whenComplete(
+                  (readerResponse, failure) -> {
+                    if (failure != null) {
+                      result.completeExceptionally(asIoException(failure));
+                    } else {
+                      result.complete(readerResponse);
+                    }
+                  });
+        });
+  }
+
+  private static Throwable asIoException(Throwable throwable) {
+    Throwable cause = BlockingAdapter.unwrap(throwable);
+    return cause instanceof IOException ? cause : new IOException(cause);
+  }
+
+  private static void closeQuietly(InputStream input) {
+    try {
+      input.close();
+    } catch (IOException ignored) {
+      // The exchange is being abandoned anyway.
+    }
+  }
+
+  private RevalidationCache.Entry storedPage(String url) {
+    return this.revalidationCache == null ? null : this.revalidationCache.get(url);
+  }
+
+  private HttpRequest newRequest(String url, RevalidationCache.Entry stored) {
+    HttpRequest.Builder builder =
+        HttpRequest.newBuilder()
+            .GET()
+            .uri(URI.create(url))
+            .header(
+                "User-Agent",
+                "Mozilla/5.0 (Macintosh; Intel Mac OS X 10.15; rv:131.0) "
+                    + "Gecko/20100101 Firefox/131.0")
+            .header(
+                "Accept",
+                "text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,"
+                    + "image/webp,image/png,image/svg+xml,*/*;q=0.8")
+            .header("Accept-Language", "en-US,en;q=0.5")
+            .header("Accept-Encoding", this.contentDecoders.acceptEncoding())
+            .header("Referer", "https://www.google.com/")
+            .header("Upgrade-Insecure-Requests", "1")
+            .header("Sec-Fetch-Dest", "document")
+            .header("Sec-Fetch-Mode", "navigate")
+            .header("Sec-Fetch-Site", "cross-site")
+            .header("Sec-Fetch-User", "?1")
+            .timeout(this.settings.requestTimeout());
+
+    if (stored != null) {
+      if (stored.etag() != null) {
+        builder.header("If-None-Match", stored.etag());
+      }
+      if (stored.lastModified() != null) {
+        builder.header("If-Modified-Since", stored.lastModified());
+      }
+    }
+
+    return builder.build();
+  }
+
+  private ReaderResponse toReaderResponse(
+      String url,
+      HttpResponse<?> response,
+      InputStream body,
+      RevalidationCache.Entry stored,
+      List<byte[]> markers)
+      throws IOException {
+    if (response.statusCode() == HTTP_NOT_MODIFIED && stored != null) {
+      return new ReaderResponse(url, stored.body(), true, response.headers().map());
+    }
+
+    boolean notFound = isNotFound(response.statusCode());
+    if (response.statusCode() != HTTP_OK && !notFound) {
+      Duration retryAfter =
+          response
+              .headers()
+              .firstValue("Retry-After")
+              .map(CambridgeReader::parseRetryAfter)
+              .orElse(null);
+      throw new HttpStatusException(url, response.statusCode(), retryAfter);
+    }
+
+    String encoding = response.headers().firstValue("Content-Encoding").orElse("");
+
+    InputStream decoded = this.contentDecoders.decode(body, encoding);
+    try (InputStream inputStream =
+        markers.isEmpty() ? decoded : new StopMarkerInputStream(decoded, markers)) {
+      ByteBuffer responseBody = this.bufferPool.readFully(inputStream, this.settings.maxBodySize());
+      boolean truncated =
+          inputStream instanceof StopMarkerInputStream stopMarkerInput
+              && stopMarkerInput.isStopped();
+
+      // A cut-short page must not be served for a later read that may need the rest of it.
+      if (this.revalidationCache != null && !truncated && !notFound) {
+        this.revalidationCache.put(url, response.headers(), responseBody);
+      }
+
+      return new ReaderResponse(url, responseBody, false, truncated, response.headers().map());
+    }
+  }
+
+  /** Tells whether the answer is the way the dictionary says it doesn't know a word. */
+  private static boolean isNotFound(int statusCode) {
+    return statusCode == HTTP_NOT_FOUND
+        || statusCode == HTTP_GONE
+        || (statusCode / 100 == 3 && statusCode != HTTP_NOT_MODIFIED);
+  }
+
+  private static Duration parseRetryAfter(String retryAfter) {
+    try {
+      return Duration.ofSeconds(Math.max(0L, Long.parseLong(retryAfter.trim())));
+    } catch (NumberFormatException notSeconds) {
+      try {
+        ZonedDateTime date =
+            ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+        Duration delay = Duration.between(Instant.now(), date.toInstant());
+        return delay.isNegative() ? Duration.ZERO : delay;
+      } catch (DateTimeParseException notDate) {
+        return null;
+      }
+    }
+  }
 }
@@ -0,0 +1,189 @@
+package io.github.khshourov.dictionaryscraper.readers;
+
+import io.github.khshourov.dictionaryscraper.caches.DiskCache;
+import io.github.khshourov.dictionaryscraper.concurrent.BlockingAdapter;
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.interfaces.Reader;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The DiskCachingReader is a {@link Reader} decorator that keeps the pages read by another reader
+ * in a {@link DiskCache}, keyed by base URI, purpose and word.
+ *
+ * <p>A page found in the cache is served without contacting the wrapped reader, so re-running a
+ * crawl, or re-extracting pages after the extraction logic changed, doesn't download them again.
+ * Only successful reads of whole pages are cached, never {@link ReaderResponse#truncated()} ones; a
+ * cache that can't be written to doesn't fail the read.
+ */
+public class DiskCachingReader extends Reader {
+  private final Reader delegate;
+  private final DiskCache diskCache;
+
+  /**
+   * Wraps the given reader with the given cache.
+   *
+   * @param delegate the reader whose pages are cached; must not be null
+   * @param diskCache the cache the pages are kept in; must not be null
+   * @throws IllegalArgumentException if delegate or diskCache is null
+   */
+  public DiskCachingReader(Reader delegate, DiskCache diskCache) {
+    if (delegate == null) {
+      throw new IllegalArgumentException("delegate can not be null");
+    }
+
+    if (diskCache == null) {
+      throw new IllegalArgumentException("diskCache can not be null");
+    }
+
+    delegate.afterPropertiesSet();
+
+    this.delegate = delegate;
+    this.diskCache = diskCache;
+    this.baseUri = delegate.getBaseUri();
+  }
+
+  /**
+   * Serves the page from the cache, or reads it through the wrapped reader and caches it.
+   *
+   * @param word The word to be looked up in the online dictionary.
+   * @param purpose The purpose of the reading.
+   * @return The cached {@link ReaderResponse}, or the one of the wrapped reader.
+   * @throws IOException If the page isn't cached and the wrapped reader fails.
+   */
+  @Override
+  public ReaderResponse read(String word, ReadingPurpose purpose) throws IOException {
+    ReaderResponse cached = this.lookUp(word, purpose);
+    if (cached != null) {
+      return cached;
+    }
+
+    return this.store(word, purpose, this.delegate.read(word, purpose));
+  }
+
+  /**
+   * Serves the page from the cache, or reads it through the wrapped reader and caches it, without
+   * blocking the calling thread. Cancelling the returned future cancels the read of the wrapped
+   * reader.
+   *
+   * @param word The word to be looked up in the online dictionary.
+   * @param purpose The purpose of the reading.
+   * @return A {@link CompletableFuture} that completes with the cached {@link ReaderResponse}, or
+   *     the one of the wrapped reader.
+   */
+  @Override
+  public CompletableFuture<ReaderResponse> readAsync(String word, ReadingPurpose purpose) {
+    CompletableFuture<ReaderResponse> result = new CompletableFuture<>();
+    BlockingAdapter.supplyAsync(() -> this.lookUp(word, purpose))
+        .whenComplete(
+            (cached, lookUpFailure) -> {
+              if (cached != null) {
+                result.complete(cached);
+                return;
+              }
+              if (result.isDone()) {
+                return;
+              }
+
+              CompletableFuture<ReaderResponse> response = this.delegate.readAsync(word, purpose);
+              result.whenComplete((readerResponse, throwable) -> response.cancel(true));
+              response.whenComplete(
+                  (readerResponse, throwable) -> {
+                    if (throwable == null) {
+                      result.complete(this.store(word, purpose, readerResponse));
+                    } else {
+                      result.completeExceptionally(BlockingAdapter.unwrap(throwable));
+                    }
+                  });
+            });
+
+    return result;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean revalidates() {
+    return this.delegate.revalidates();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String linkOf(String word, ReadingPurpose purpose) {
+    return this.delegate.linkOf(word, purpose);
+  }
+
+  /**
+   * Prepares the wrapped reader for its first reads.
+   *
+   * @return A {@link CompletableFuture} that completes once the wrapped reader is prepared.
+   */
+  @Override
+  public CompletableFuture<Void> warmUp() {
+    return this.delegate.warmUp();
+  }
+
+  /**
+   * Closes the wrapped reader.
+   *
+   * @throws IOException If the wrapped reader fails to close.
+   */
+  @Override
+  public void close() throws IOException {
+    this.delegate.close();
+  }
+
+  private ReaderResponse lookUp(String word, ReadingPurpose purpose) {
+    byte[] cached;
+    try {
+      cached = this.diskCache.get(this.keyOf(word, purpose));
+    } catch (IOException e) {
+      return null;
+    }
+    if (cached == null) {
+      return null;
+    }
+
+    int separator = 0;
+    while (separator < cached.length && cached[separator] != '\n') {
+      separator++;
+    }
+    if (separator == cached.length) {
+      return null;
+    }
+
+    return new ReaderResponse(
+        new String(cached, 0, separator, StandardCharsets.UTF_8),
+        ByteBuffer.wrap(cached, separator + 1, cached.length - separator - 1),
+        false,
+        Map.of());
+  }
+
+  private ReaderResponse store(String word, ReadingPurpose purpose, ReaderResponse response) {
+    if (response == null || response.body() == null || response.truncated()) {
+      return response;
+    }
+
+    try {
+      // The link never contains a line break, so the first one separates it from the page.
+      byte[] link = (response.link() + "\n").getBytes(StandardCharsets.UTF_8);
+      ByteBuffer body = response.body();
+      byte[] page = new byte[link.length + body.remaining()];
+      System.arraycopy(link, 0, page, 0, link.length);
+      body.get(page, link.length, body.remaining());
+
+      this.diskCache.put(this.keyOf(word, purpose), page);
+    } catch (IOException ignored) {
+      // The page is served anyway; it will be read again next time.
+    }
+
+    return response;
+  }
+
+  private String keyOf(String word, ReadingPurpose purpose) {
+    return this.baseUri + "\n" + purpose.getValue() + "\n" + word;
+  }
+}
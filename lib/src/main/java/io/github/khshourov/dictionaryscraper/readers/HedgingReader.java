@@ -0,0 +1,161 @@
+package io.github.khshourov.dictionaryscraper.readers;
+
+import io.github.khshourov.dictionaryscraper.concurrent.BlockingAdapter;
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.http.LatencyTracker;
+import io.github.khshourov.dictionaryscraper.interfaces.Reader;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The HedgingReader is a {@link Reader} decorator that cuts the tail latency of another reader.
+ *
+ * <p>When a read hasn't answered within the 95th percentile of the recently observed response
+ * times, a second, identical read is sent; whichever succeeds first wins and the other one is
+ * cancelled. Only about one read in twenty is hedged, so the extra load stays small. Until enough
+ * response times have been observed, reads are not hedged.
+ */
+public class HedgingReader extends Reader {
+  private static final double HEDGING_PERCENTILE = 95;
+  private static final int WINDOW_SIZE = 256;
+  private static final int MIN_SAMPLES = 20;
+
+  private final Reader delegate;
+  private final LatencyTracker latencyTracker;
+
+  /**
+   * Wraps the given reader, tracking the last 256 response times.
+   *
+   * @param delegate the reader whose reads are hedged; must not be null
+   * @throws IllegalArgumentException if delegate is null
+   */
+  public HedgingReader(Reader delegate) {
+    this(delegate, new LatencyTracker(WINDOW_SIZE, MIN_SAMPLES));
+  }
+
+  /**
+   * Wraps the given reader, using the given tracker to decide when to hedge.
+   *
+   * @param delegate the reader whose reads are hedged; must not be null
+   * @param latencyTracker the tracker the response times are recorded in; must not be null
+   * @throws IllegalArgumentException if delegate or latencyTracker is null
+   */
+  public HedgingReader(Reader delegate, LatencyTracker latencyTracker) {
+    if (delegate == null) {
+      throw new IllegalArgumentException("delegate can not be null");
+    }
+
+    if (latencyTracker == null) {
+      throw new IllegalArgumentException("latencyTracker can not be null");
+    }
+
+    delegate.afterPropertiesSet();
+
+    this.delegate = delegate;
+    this.latencyTracker = latencyTracker;
+    this.baseUri = delegate.getBaseUri();
+  }
+
+  /**
+   * Reads through the wrapped reader, hedging the read if it is slow.
+   *
+   * @param word The word to be looked up in the online dictionary.
+   * @param purpose The purpose of the reading.
+   * @return The {@link ReaderResponse} of whichever read succeeds first.
+   * @throws IOException If every read that was sent fails.
+   */
+  @Override
+  public ReaderResponse read(String word, ReadingPurpose purpose) throws IOException {
+    return BlockingAdapter.await(this.readAsync(word, purpose));
+  }
+
+  /**
+   * Reads through the wrapped reader without blocking the calling thread, hedging the read if it is
+   * slow. Cancelling the returned future cancels every read that was sent.
+   *
+   * @param word The word to be looked up in the online dictionary.
+   * @param purpose The purpose of the reading.
+   * @return A {@link CompletableFuture} that completes with the {@link ReaderResponse} of whichever
+   *     read succeeds first, or exceptionally with the last failure if every read fails.
+   */
+  @Override
+  public CompletableFuture<ReaderResponse> readAsync(String word, ReadingPurpose purpose) {
+    CompletableFuture<ReaderResponse> result = new CompletableFuture<>();
+    AtomicInteger pending = new AtomicInteger(1);
+    long start = System.nanoTime();
+
+    this.send(word, purpose, start, result, pending);
+
+    Duration hedgingDelay = this.latencyTracker.percentile(HEDGING_PERCENTILE);
+    if (hedgingDelay != null) {
+      CompletableFuture.delayedExecutor(hedgingDelay.toNanos(), TimeUnit.NANOSECONDS)
+          .execute(
+              () -> {
+                // If the first read failed in the meantime, pending is back to zero and its
+                // failure is already reported.
+                if (!result.isDone() && pending.incrementAndGet() > 1) {
+                  this.send(word, purpose, start, result, pending);
+                }
+              });
+    }
+
+    return result;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean revalidates() {
+    return this.delegate.revalidates();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String linkOf(String word, ReadingPurpose purpose) {
+    return this.delegate.linkOf(word, purpose);
+  }
+
+  /**
+   * Prepares the wrapped reader for its first reads.
+   *
+   * @return A {@link CompletableFuture} that completes once the wrapped reader is prepared.
+   */
+  @Override
+  public CompletableFuture<Void> warmUp() {
+    return this.delegate.warmUp();
+  }
+
+  /**
+   * Closes the wrapped reader.
+   *
+   * @throws IOException If the wrapped reader fails to close.
+   */
+  @Override
+  public void close() throws IOException {
+    this.delegate.close();
+  }
+
+  private void send(
+      String word,
+      ReadingPurpose purpose,
+      long start,
+      CompletableFuture<ReaderResponse> result,
+      AtomicInteger pending) {
+    CompletableFuture<ReaderResponse> response = this.delegate.readAsync(word, purpose);
+    result.whenComplete((readerResponse, throwable) -> response.cancel(true));
+    response.whenComplete(
+        (readerResponse, throwable) -> {
+          if (throwable == null) {
+            // Measured from the first read, so that the tracker sees the latency of the read as a
+            // whole rather than the shorter one of a winning hedge.
+            this.latencyTracker.record(Duration.ofNanos(System.nanoTime() - start));
+            result.complete(readerResponse);
+          } else if (pending.decrementAndGet() == 0) {
+            result.completeExceptionally(BlockingAdapter.unwrap(throwable));
+          }
+        });
+  }
+}
@@ -0,0 +1,82 @@
+package io.github.khshourov.dictionaryscraper.readers;
+
+import io.github.khshourov.dictionaryscraper.archives.PackFile;
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.interfaces.Reader;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The PackFileReader is a {@link Reader} that serves pages from a local {@link PackFile}, so that
+ * pages stored earlier can be scraped again at memory speed.
+ *
+ * <p>Pages are linked as {@code baseUri/purpose/word}. Pages that are not in the pack fail with an
+ * {@link IOException}.
+ */
+public class PackFileReader extends Reader {
+  private final PackFile packFile;
+
+  /**
+   * Creates a reader serving the pages of the given pack file.
+   *
+   * @param packFile the pack file the pages are served from; must not be null
+   * @param baseUri the base URI of the links of the pages
+   * @throws IllegalArgumentException if packFile is null
+   */
+  public PackFileReader(PackFile packFile, String baseUri) {
+    super(baseUri);
+
+    if (packFile == null) {
+      throw new IllegalArgumentException("packFile can not be null");
+    }
+    this.packFile = packFile;
+  }
+
+  /**
+   * Reads the packed page of the given word and purpose.
+   *
+   * @param word The word to be looked up in the online dictionary.
+   * @param purpose The purpose of the reading.
+   * @return A {@link ReaderResponse} with the link of the page and its body, still mapped from the
+   *     pack file.
+   * @throws IOException If the page is not in the pack.
+   */
+  @Override
+  public ReaderResponse read(String word, ReadingPurpose purpose) throws IOException {
+    ByteBuffer body = this.packFile.get(word, purpose);
+    if (body == null) {
+      throw new IOException(String.format("%s/%s is not in the pack", purpose.getValue(), word));
+    }
+
+    return new ReaderResponse(this.linkOf(word, purpose), body, false, Map.of());
+  }
+
+  /**
+   * Reads the packed page on the calling thread, since the page is already in memory.
+   *
+   * @param word The word to be looked up in the online dictionary.
+   * @param purpose The purpose of the reading.
+   * @return A completed {@link CompletableFuture} of the {@link ReaderResponse}.
+   */
+  @Override
+  public CompletableFuture<ReaderResponse> readAsync(String word, ReadingPurpose purpose) {
+    try {
+      return CompletableFuture.completedFuture(this.read(word, purpose));
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Closes the pack file.
+   *
+   * @throws IOException If the pack file fails to close.
+   */
+  @Override
+  public void close() throws IOException {
+    this.packFile.close();
+  }
+}
@@ -0,0 +1,159 @@
+package io.github.khshourov.dictionaryscraper.readers;
+
+import io.github.khshourov.dictionaryscraper.concurrent.BlockingAdapter;
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.exceptions.HttpStatusException;
+import io.github.khshourov.dictionaryscraper.http.RateLimiterRegistry;
+import io.github.khshourov.dictionaryscraper.http.TokenBucket;
+import io.github.khshourov.dictionaryscraper.interfaces.Reader;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The RateLimitedReader is a {@link Reader} decorator that paces the reads of another reader with
+ * the {@link TokenBucket} of its host.
+ *
+ * <p>The bucket comes from a {@link RateLimiterRegistry}, so every rate limited reader pointing at
+ * the same host shares one budget. When the host answers with {@code 429} or {@code 503}, the
+ * bucket is paused for the {@code Retry-After} delay (one second if the header is missing) before
+ * the failure is passed on.
+ */
+public class RateLimitedReader extends Reader {
+  private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+  private final Reader delegate;
+  private final TokenBucket bucket;
+
+  /**
+   * Wraps the given reader using the budget of its host from the given registry.
+   *
+   * @param delegate the reader to rate limit; must not be null
+   * @param registry the registry the budget is taken from; must not be null
+   * @throws IllegalArgumentException if delegate or registry is null
+   */
+  public RateLimitedReader(Reader delegate, RateLimiterRegistry registry) {
+    if (delegate == null) {
+      throw new IllegalArgumentException("delegate can not be null");
+    }
+
+    if (registry == null) {
+      throw new IllegalArgumentException("registry can not be null");
+    }
+
+    delegate.afterPropertiesSet();
+
+    this.delegate = delegate;
+    this.baseUri = delegate.getBaseUri();
+    this.bucket = registry.bucketOf(this.baseUri);
+  }
+
+  /**
+   * Waits for the budget of the host, then reads through the wrapped reader.
+   *
+   * @param word The word to be looked up in the online dictionary.
+   * @param purpose The purpose of the reading.
+   * @return The {@link ReaderResponse} of the wrapped reader.
+   * @throws IOException If the wrapped reader fails or the thread is interrupted while waiting.
+   */
+  @Override
+  public ReaderResponse read(String word, ReadingPurpose purpose) throws IOException {
+    try {
+      this.bucket.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    }
+
+    try {
+      return this.delegate.read(word, purpose);
+    } catch (IOException e) {
+      this.backOffIfThrottled(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Schedules the read through the wrapped reader once the budget of the host allows it, without
+   * blocking the calling thread. Cancelling the returned future cancels the scheduled read.
+   *
+   * @param word The word to be looked up in the online dictionary.
+   * @param purpose The purpose of the reading.
+   * @return A {@link CompletableFuture} that completes with the {@link ReaderResponse} of the
+   *     wrapped reader.
+   */
+  @Override
+  public CompletableFuture<ReaderResponse> readAsync(String word, ReadingPurpose purpose) {
+    CompletableFuture<ReaderResponse> result = new CompletableFuture<>();
+    Runnable read =
+        () -> {
+          if (result.isDone()) {
+            return;
+          }
+
+          CompletableFuture<ReaderResponse> response = this.delegate.readAsync(word, purpose);
+          result.whenComplete((readerResponse, throwable) -> response.cancel(true));
+          response.whenComplete(
+              (readerResponse, throwable) -> {
+                if (throwable == null) {
+                  result.complete(readerResponse);
+                  return;
+                }
+
+                Throwable cause = BlockingAdapter.unwrap(throwable);
+                this.backOffIfThrottled(cause);
+                result.completeExceptionally(cause);
+              });
+        };
+
+    long wait = this.bucket.reserve();
+    if (wait > 0) {
+      CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS).execute(read);
+    } else {
+      read.run();
+    }
+
+    return result;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean revalidates() {
+    return this.delegate.revalidates();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String linkOf(String word, ReadingPurpose purpose) {
+    return this.delegate.linkOf(word, purpose);
+  }
+
+  /**
+   * Prepares the wrapped reader for its first reads.
+   *
+   * @return A {@link CompletableFuture} that completes once the wrapped reader is prepared.
+   */
+  @Override
+  public CompletableFuture<Void> warmUp() {
+    return this.delegate.warmUp();
+  }
+
+  /**
+   * Closes the wrapped reader.
+   *
+   * @throws IOException If the wrapped reader fails to close.
+   */
+  @Override
+  public void close() throws IOException {
+    this.delegate.close();
+  }
+
+  private void backOffIfThrottled(Throwable throwable) {
+    if (throwable instanceof HttpStatusException statusException && statusException.isThrottled()) {
+      Duration retryAfter = statusException.getRetryAfter();
+      this.bucket.pause(retryAfter == null ? DEFAULT_RETRY_AFTER : retryAfter);
+    }
+  }
+}
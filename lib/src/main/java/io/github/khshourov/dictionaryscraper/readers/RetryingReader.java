@@ -0,0 +1,226 @@
+package io.github.khshourov.dictionaryscraper.readers;
+
+import io.github.khshourov.dictionaryscraper.concurrent.BlockingAdapter;
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.exceptions.HttpStatusException;
+import io.github.khshourov.dictionaryscraper.interfaces.Reader;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import io.github.khshourov.dictionaryscraper.models.RetryPolicy;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The RetryingReader is a {@link Reader} decorator that retries the failed reads of another reader
+ * according to a {@link RetryPolicy}.
+ *
+ * <p>Reads are plain GET requests, so they are safe to repeat; still, only failures that are likely
+ * to go away are retried: timeouts, refused or reset connections, {@code 429 Too Many Requests} and
+ * {@code 5xx} answers other than {@code 501 Not Implemented}. A {@code Retry-After} delay sent by
+ * the server is waited out, unless it is longer than the policy's maximum delay.
+ */
+public class RetryingReader extends Reader {
+  private static final int HTTP_TOO_MANY_REQUESTS = 429;
+  private static final int HTTP_SERVER_ERROR = 500;
+  private static final int HTTP_NOT_IMPLEMENTED = 501;
+
+  private final Reader delegate;
+  private final RetryPolicy retryPolicy;
+
+  /**
+   * Wraps the given reader using {@link RetryPolicy#defaults()}.
+   *
+   * @param delegate the reader whose reads are retried; must not be null
+   * @throws IllegalArgumentException if delegate is null
+   */
+  public RetryingReader(Reader delegate) {
+    this(delegate, RetryPolicy.defaults());
+  }
+
+  /**
+   * Wraps the given reader using the given policy.
+   *
+   * @param delegate the reader whose reads are retried; must not be null
+   * @param retryPolicy how failed reads are retried; must not be null
+   * @throws IllegalArgumentException if delegate or retryPolicy is null
+   */
+  public RetryingReader(Reader delegate, RetryPolicy retryPolicy) {
+    if (delegate == null) {
+      throw new IllegalArgumentException("delegate can not be null");
+    }
+
+    if (retryPolicy == null) {
+      throw new IllegalArgumentException("retryPolicy can not be null");
+    }
+
+    delegate.afterPropertiesSet();
+
+    this.delegate = delegate;
+    this.retryPolicy = retryPolicy;
+    this.baseUri = delegate.getBaseUri();
+  }
+
+  /**
+   * Reads through the wrapped reader, retrying transient failures.
+   *
+   * @param word The word to be looked up in the online dictionary.
+   * @param purpose The purpose of the reading.
+   * @return The {@link ReaderResponse} of the first successful attempt.
+   * @throws IOException The failure of the last attempt, or the first failure that is not
+   *     transient; also if the thread is interrupted while backing off.
+   */
+  @Override
+  public ReaderResponse read(String word, ReadingPurpose purpose) throws IOException {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return this.delegate.read(word, purpose);
+      } catch (IOException e) {
+        long delay = this.delayBeforeRetry(e, attempt);
+        if (delay < 0) {
+          throw e;
+        }
+
+        try {
+          TimeUnit.NANOSECONDS.sleep(delay);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          throw new IOException(interrupted);
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads through the wrapped reader without blocking the calling thread, retrying transient
+   * failures. Cancelling the returned future cancels the current attempt and any further retry.
+   *
+   * @param word The word to be looked up in the online dictionary.
+   * @param purpose The purpose of the reading.
+   * @return A {@link CompletableFuture} that completes with the {@link ReaderResponse} of the first
+   *     successful attempt, or exceptionally with the failure that ended the retries.
+   */
+  @Override
+  public CompletableFuture<ReaderResponse> readAsync(String word, ReadingPurpose purpose) {
+    CompletableFuture<ReaderResponse> result = new CompletableFuture<>();
+    this.attemptAsync(word, purpose, 1, result);
+
+    return result;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean revalidates() {
+    return this.delegate.revalidates();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String linkOf(String word, ReadingPurpose purpose) {
+    return this.delegate.linkOf(word, purpose);
+  }
+
+  /**
+   * Prepares the wrapped reader for its first reads.
+   *
+   * @return A {@link CompletableFuture} that completes once the wrapped reader is prepared.
+   */
+  @Override
+  public CompletableFuture<Void> warmUp() {
+    return this.delegate.warmUp();
+  }
+
+  /**
+   * Closes the wrapped reader.
+   *
+   * @throws IOException If the wrapped reader fails to close.
+   */
+  @Override
+  public void close() throws IOException {
+    this.delegate.close();
+  }
+
+  private void attemptAsync(
+      String word, ReadingPurpose purpose, int attempt, CompletableFuture<ReaderResponse> result) {
+    if (result.isDone()) {
+      return;
+    }
+
+    CompletableFuture<ReaderResponse> response = this.delegate.readAsync(word, purpose);
+    result.whenComplete((readerResponse, throwable) -> response.cancel(true));
+    response.whenComplete(
+        (readerResponse, throwable) -> {
+          if (throwable == null) {
+            result.complete(readerResponse);
+            return;
+          }
+
+          Throwable cause = BlockingAdapter.unwrap(throwable);
+          long delay = this.delayBeforeRetry(cause, attempt);
+          if (delay < 0) {
+            result.completeExceptionally(cause);
+            return;
+          }
+
+          CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS)
+              .execute(() -> this.attemptAsync(word, purpose, attempt + 1, result));
+        });
+  }
+
+  /**
+   * Decides whether the failed attempt is retried.
+   *
+   * @return how long to wait, in nanoseconds, before the next attempt; {@code -1} if the failure
+   *     has to be passed on
+   */
+  private long delayBeforeRetry(Throwable failure, int attempt) {
+    if (attempt >= this.retryPolicy.maxAttempts() || !isTransient(failure)) {
+      return -1L;
+    }
+
+    long maxDelay = this.retryPolicy.maxDelay().toNanos();
+    long ceiling = this.retryPolicy.baseDelay().toNanos() << Math.min(attempt - 1, 30);
+    if (ceiling < 0 || ceiling > maxDelay) {
+      ceiling = maxDelay;
+    }
+    long delay = ceiling > 0 ? ThreadLocalRandom.current().nextLong(ceiling + 1) : 0L;
+
+    if (failure instanceof HttpStatusException statusException
+        && statusException.getRetryAfter() != null) {
+      Duration retryAfter = statusException.getRetryAfter();
+      if (retryAfter.compareTo(this.retryPolicy.maxDelay()) > 0) {
+        return -1L;
+      }
+      delay = Math.max(delay, retryAfter.toNanos());
+    }
+
+    return delay;
+  }
+
+  private static boolean isTransient(Throwable failure) {
+    Throwable cause = failure;
+    while (cause != null) {
+      if (cause instanceof HttpStatusException statusException) {
+        int statusCode = statusException.getStatusCode();
+        return statusCode == HTTP_TOO_MANY_REQUESTS
+            || (statusCode >= HTTP_SERVER_ERROR && statusCode != HTTP_NOT_IMPLEMENTED);
+      }
+      if (cause instanceof HttpTimeoutException
+          || cause instanceof SocketTimeoutException
+          || cause instanceof ConnectException
+          || cause instanceof SocketException
+          || cause instanceof EOFException) {
+        return true;
+      }
+      cause = cause.getCause() == cause ? null : cause.getCause();
+    }
+
+    return false;
+  }
+}
@@ -0,0 +1,154 @@
+package io.github.khshourov.dictionaryscraper.readers;
+
+import io.github.khshourov.dictionaryscraper.archives.WarcWriter;
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.interfaces.Reader;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The WarcRecordingReader is a {@link Reader} decorator that records every page another reader
+ * reads into a WARC file, so that the session can be replayed later, without the network, by a
+ * {@link WarcReplayReader}.
+ *
+ * <p>Pages are recorded under the link the page was requested from ({@link #linkOf}). When the
+ * source redirected the request, the link the page was finally read from is recorded in the {@code
+ * Content-Location} header. Revalidated pages are recorded as {@code 304 Not Modified} responses
+ * with the stored body. Failed reads and {@link ReaderResponse#truncated()} pages are not recorded.
+ *
+ * <p>The reader owns the wrapped reader and the {@link WarcWriter}: closing the reader closes both.
+ */
+public class WarcRecordingReader extends Reader {
+  static final String CONTENT_LOCATION = "Content-Location";
+
+  private static final int HTTP_OK = 200;
+  private static final int HTTP_NOT_MODIFIED = 304;
+
+  private final Reader delegate;
+  private final WarcWriter writer;
+
+  /**
+   * Wraps the given reader.
+   *
+   * @param delegate the reader whose pages are recorded; must not be null
+   * @param writer the WARC file the pages are written to; closed along with this reader; must not
+   *     be null
+   * @throws IllegalArgumentException if delegate or writer is null
+   */
+  public WarcRecordingReader(Reader delegate, WarcWriter writer) {
+    if (delegate == null) {
+      throw new IllegalArgumentException("delegate can not be null");
+    }
+
+    if (writer == null) {
+      throw new IllegalArgumentException("writer can not be null");
+    }
+
+    delegate.afterPropertiesSet();
+
+    this.delegate = delegate;
+    this.writer = writer;
+    this.baseUri = delegate.getBaseUri();
+  }
+
+  /**
+   * Reads through the wrapped reader and records the page.
+   *
+   * @param word The word to be looked up in the online dictionary.
+   * @param purpose The purpose of the reading.
+   * @return The {@link ReaderResponse} of the wrapped reader.
+   * @throws IOException If the wrapped reader fails or the page can't be recorded.
+   */
+  @Override
+  public ReaderResponse read(String word, ReadingPurpose purpose) throws IOException {
+    ReaderResponse response = this.delegate.read(word, purpose);
+    this.record(this.linkOf(word, purpose), response);
+
+    return response;
+  }
+
+  /**
+   * Reads through the wrapped reader without blocking the calling thread and records the page.
+   *
+   * @param word The word to be looked up in the online dictionary.
+   * @param purpose The purpose of the reading.
+   * @return A {@link CompletableFuture} that completes with the {@link ReaderResponse} of the
+   *     wrapped reader once the page is recorded.
+   */
+  @Override
+  public CompletableFuture<ReaderResponse> readAsync(String word, ReadingPurpose purpose) {
+    String link = this.linkOf(word, purpose);
+    CompletableFuture<ReaderResponse> response = this.delegate.readAsync(word, purpose);
+    CompletableFuture<ReaderResponse> result =
+        response.thenApply(
+            readerResponse -> {
+              try {
+                this.record(link, readerResponse);
+              } catch (IOException e) {
+                throw new CompletionException(e);
+              }
+
+              return readerResponse;
+            });
+    result.whenComplete((readerResponse, throwable) -> response.cancel(true));
+
+    return result;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean revalidates() {
+    return this.delegate.revalidates();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String linkOf(String word, ReadingPurpose purpose) {
+    return this.delegate.linkOf(word, purpose);
+  }
+
+  /**
+   * Prepares the wrapped reader for its first reads.
+   *
+   * @return A {@link CompletableFuture} that completes once the wrapped reader is prepared.
+   */
+  @Override
+  public CompletableFuture<Void> warmUp() {
+    return this.delegate.warmUp();
+  }
+
+  /**
+   * Closes the wrapped reader and the {@link WarcWriter}.
+   *
+   * @throws IOException If the wrapped reader or the writer fails to close.
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      this.delegate.close();
+    } finally {
+      this.writer.close();
+    }
+  }
+
+  private void record(String link, ReaderResponse response) throws IOException {
+    if (response.truncated()) {
+      // Replaying the beginning of a page as the whole page would hide what was left unread.
+      return;
+    }
+
+    Map<String, List<String>> headers = new LinkedHashMap<>(response.headers());
+    headers.keySet().removeIf(CONTENT_LOCATION::equalsIgnoreCase);
+    if (!link.equals(response.link())) {
+      headers.put(CONTENT_LOCATION, List.of(response.link()));
+    }
+
+    this.writer.writeResponse(
+        link, response.revalidated() ? HTTP_NOT_MODIFIED : HTTP_OK, headers, response.body());
+  }
+}
@@ -0,0 +1,105 @@
+package io.github.khshourov.dictionaryscraper.readers;
+
+import io.github.khshourov.dictionaryscraper.archives.WarcArchive;
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.interfaces.Reader;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The WarcReplayReader is a {@link Reader} that serves pages from a {@link WarcArchive} instead of
+ * the network, typically one recorded by a {@link WarcRecordingReader}.
+ *
+ * <p>The reader the archive was recorded with is only used to build the links of the pages, so a
+ * scraper replays exactly what it read during the recording, headers and revalidations included.
+ * Pages that are not in the archive fail with an {@link IOException}; nothing is fetched.
+ *
+ * <p>The reader owns the archive and the recorded reader: closing the reader closes both.
+ */
+public class WarcReplayReader extends Reader {
+  private static final int HTTP_NOT_MODIFIED = 304;
+
+  private final WarcArchive archive;
+  private final Reader recordedReader;
+
+  /**
+   * Creates a reader replaying the given archive.
+   *
+   * @param archive the archive the pages are served from; closed along with this reader; must not
+   *     be null
+   * @param recordedReader the reader the archive was recorded with; closed along with this reader;
+   *     must not be null
+   * @throws IllegalArgumentException if archive or recordedReader is null
+   */
+  public WarcReplayReader(WarcArchive archive, Reader recordedReader) {
+    if (archive == null) {
+      throw new IllegalArgumentException("archive can not be null");
+    }
+
+    if (recordedReader == null) {
+      throw new IllegalArgumentException("recordedReader can not be null");
+    }
+
+    recordedReader.afterPropertiesSet();
+
+    this.archive = archive;
+    this.recordedReader = recordedReader;
+    this.baseUri = recordedReader.getBaseUri();
+  }
+
+  /**
+   * Reads the recorded page of the given word and purpose from the archive.
+   *
+   * @param word The word to be looked up in the online dictionary.
+   * @param purpose The purpose of the reading.
+   * @return A {@link ReaderResponse} with the recorded link, body and headers, revalidated if it
+   *     was recorded as {@code 304 Not Modified}.
+   * @throws IOException If the page is not in the archive or can't be read.
+   */
+  @Override
+  public ReaderResponse read(String word, ReadingPurpose purpose) throws IOException {
+    String link = this.linkOf(word, purpose);
+    ByteBuffer body = this.archive.bodyOf(link);
+    if (body == null) {
+      throw new IOException(link + " is not in the archive");
+    }
+
+    Map<String, List<String>> headers = this.archive.headersOf(link);
+    List<String> location = headers.get(WarcRecordingReader.CONTENT_LOCATION);
+
+    return new ReaderResponse(
+        location == null || location.isEmpty() ? link : location.get(0),
+        body,
+        this.archive.statusOf(link) == HTTP_NOT_MODIFIED,
+        headers);
+  }
+
+  /**
+   * Builds the link of the page through the reader the archive was recorded with.
+   *
+   * @param word The word to be looked up in the online dictionary.
+   * @param purpose The purpose of the reading.
+   * @return The link of the page, as the recorded reader builds it.
+   */
+  @Override
+  public String linkOf(String word, ReadingPurpose purpose) {
+    return this.recordedReader.linkOf(word, purpose);
+  }
+
+  /**
+   * Closes the archive and the recorded reader.
+   *
+   * @throws IOException If the archive or the recorded reader fails to close.
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      this.recordedReader.close();
+    } finally {
+      this.archive.close();
+    }
+  }
+}
@@ -1,8 +1,12 @@
 package io.github.khshourov.dictionaryscraper.scrapers;
 
+import io.github.khshourov.dictionaryscraper.concurrent.BlockingAdapter;
+import io.github.khshourov.dictionaryscraper.concurrent.Timeouts;
 import io.github.khshourov.dictionaryscraper.enums.BaseSource;
+import io.github.khshourov.dictionaryscraper.enums.MeaningExtraction;
 import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
 import io.github.khshourov.dictionaryscraper.enums.Region;
+import io.github.khshourov.dictionaryscraper.http.RateLimiterRegistry;
 import io.github.khshourov.dictionaryscraper.interfaces.DictionaryScraper;
 import io.github.khshourov.dictionaryscraper.interfaces.Reader;
 import io.github.khshourov.dictionaryscraper.interfaces.Scraper;
@@ -10,18 +14,39 @@ import io.github.khshourov.dictionaryscraper.models.CategoryMeaningEntry;
 import io.github.khshourov.dictionaryscraper.models.DictionaryEntry;
 import io.github.khshourov.dictionaryscraper.models.IpaInfo;
 import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import io.github.khshourov.dictionaryscraper.models.WordKey;
 import io.github.khshourov.dictionaryscraper.models.WordMeaning;
 import io.github.khshourov.dictionaryscraper.readers.CambridgeReader;
+import io.github.khshourov.dictionaryscraper.readers.RateLimitedReader;
+import io.github.khshourov.dictionaryscraper.readers.RetryingReader;
+import io.github.khshourov.dictionaryscraper.text.WordNormalizer;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
 
 /**
  * The CambridgeScraper class is an implementation of the Scraper interface that scrapes data from
@@ -29,11 +54,72 @@ import org.jsoup.nodes.Element;
  * associated data, organizing it into a structured DictionaryEntry format for further use.
  */
 public class CambridgeScraper implements Scraper {
+  private static final String BASE_URI = "https://dictionary.cambridge.org";
+  private static final Duration DEFAULT_SCRAPE_DEADLINE = Duration.ofSeconds(60);
+  private static final String SAMPLES = "/io/github/khshourov/dictionaryscraper/samples/cambridge/";
+  private static final int SAMPLE_ROUNDS = 50;
+  private static final Region[] REGIONS = Region.values();
+
+  // Selectors are compiled once; evaluators are stateless, so they are shared by every scrape.
+  private static final Evaluator PRONUNCIATION_BLOCK = QueryParser.parse(".pron-block");
+  private static final Evaluator PARTS_OF_SPEECH = QueryParser.parse(".posgram > .ti");
+  private static final Evaluator REGION_BLOCK = QueryParser.parse(".region-block .pron-info");
+  private static final Evaluator WRITTEN_PRONUNCIATION =
+      QueryParser.parse(".pron[data-title=\"Written pronunciation\"]");
+  private static final Evaluator MPEG_AUDIO =
+      QueryParser.parse(".soundfile audio source[type=\"audio/mpeg\"]");
+  private static final Evaluator DICTIONARY = QueryParser.parse(".pr.dictionary");
+  private static final Evaluator UK_DICTIONARY = QueryParser.parse(".pr.dictionary .di-body");
+  private static final Evaluator CATEGORY_BLOCK = QueryParser.parse(".pr.entry-body__el");
+  private static final Evaluator CATEGORY_NAME = QueryParser.parse(".pos-header .posgram");
+  private static final Evaluator MEANING_BLOCK =
+      QueryParser.parse(".pos-body .pr.dsense .def-block");
+  private static final Evaluator DEFINITION = QueryParser.parse(".ddef_h .def");
+  private static final Evaluator EXAMPLE = QueryParser.parse(".def-body .examp");
+
   private Reader reader;
+  // Only set while the reader revalidates pages; otherwise no extraction could ever be reused.
+  private ExtractionMemo<Map<Region, List<IpaInfo>>> ipaListingsMemo;
+  private ExtractionMemo<List<WordMeaning>> meaningsMemo;
+  private Duration scrapeDeadline = DEFAULT_SCRAPE_DEADLINE;
+  private MeaningExtraction meaningExtraction = MeaningExtraction.FULL_PAGE;
 
-  /** Initializes with default {@link CambridgeReader} instance. */
+  /**
+   * Initializes with default {@link CambridgeReader} instance, which reads meaning pages only up to
+   * the end of the UK dictionary. Its reads are not paced, see {@link
+   * #CambridgeScraper(RateLimiterRegistry)}, nor retried; a {@link RetryingReader} can be set
+   * through {@link #setReader(Reader)}.
+   */
   public CambridgeScraper() {
-    this.reader = new CambridgeReader("https://dictionary.cambridge.org");
+    this.reader = newDefaultReader(BASE_URI);
+  }
+
+  /**
+   * Initializes with default {@link CambridgeReader} instance, which reads meaning pages only up to
+   * the end of the UK dictionary, paced by the budget of its host in the given registry (see {@link
+   * RateLimitedReader}). Scrapers given the same registry share the budget.
+   *
+   * @param rateLimiters the registry the reads draw their budget from; must not be null
+   * @throws IllegalArgumentException if rateLimiters is null
+   */
+  public CambridgeScraper(RateLimiterRegistry rateLimiters) {
+    if (rateLimiters == null) {
+      throw new IllegalArgumentException("rateLimiters can not be null");
+    }
+
+    this.reader = new RateLimitedReader(newDefaultReader(BASE_URI), rateLimiters);
+  }
+
+  /**
+   * Builds the {@link CambridgeReader} the constructors read through. Meaning pages are cut short
+   * where the American or the business dictionary starts (see {@link
+   * CambridgeReader#OTHER_DICTIONARY_MARKERS}), since only the UK one is extracted. Visible to the
+   * tests.
+   */
+  static CambridgeReader newDefaultReader(String baseUri) {
+    CambridgeReader reader = new CambridgeReader(baseUri);
+    reader.setStopMarkers(ReadingPurpose.MEANING, CambridgeReader.OTHER_DICTIONARY_MARKERS);
+    return reader;
   }
 
   /**
@@ -53,6 +139,10 @@ public class CambridgeScraper implements Scraper {
    * ensures that the provided {@code Reader} is not null and its properties are correctly
    * initialized.
    *
+   * <p>If the reader {@link Reader#revalidates() revalidates} pages, the extractions of the pages
+   * are remembered, so that a page the reader reports unchanged is not parsed again. The reader has
+   * to be configured for revalidation before it is set.
+   *
    * @param reader the {@code Reader} instance to be set; must not be {@code null} and must have a
    *     valid {@code baseUri}.
    * @throws NullPointerException if the provided {@code reader} is {@code null}.
@@ -67,24 +157,202 @@ public class CambridgeScraper implements Scraper {
     reader.afterPropertiesSet();
 
     this.reader = reader;
+    if (!reader.revalidates()) {
+      this.ipaListingsMemo = null;
+      this.meaningsMemo = null;
+    } else if (this.ipaListingsMemo == null) {
+      this.ipaListingsMemo = new ExtractionMemo<>();
+      this.meaningsMemo = new ExtractionMemo<>();
+    }
+  }
+
+  /**
+   * Sets how long a whole scrape, i.e. both page reads including their retries, may take. A scrape
+   * that takes longer fails with a {@link HttpTimeoutException} and its pending reads are
+   * cancelled. It is 60 seconds by default.
+   *
+   * @param scrapeDeadline the maximum duration of a scrape; must be positive
+   * @throws IllegalArgumentException if scrapeDeadline is null or not positive
+   */
+  public void setScrapeDeadline(Duration scrapeDeadline) {
+    if (scrapeDeadline == null || scrapeDeadline.isNegative() || scrapeDeadline.isZero()) {
+      throw new IllegalArgumentException("scrapeDeadline must be positive");
+    }
+
+    this.scrapeDeadline = scrapeDeadline;
+  }
+
+  /**
+   * Sets how much of a meaning page is parsed. {@link MeaningExtraction#FULL_PAGE} by default;
+   * {@link MeaningExtraction#UK_SECTION} extracts the same meanings without parsing the American
+   * and business dictionaries.
+   *
+   * @param meaningExtraction how much of a meaning page is parsed; must not be null
+   * @throws IllegalArgumentException if meaningExtraction is null
+   */
+  public void setMeaningExtraction(MeaningExtraction meaningExtraction) {
+    if (meaningExtraction == null) {
+      throw new IllegalArgumentException("meaningExtraction can not be null");
+    }
+
+    this.meaningExtraction = meaningExtraction;
   }
 
   /**
    * Scrapes dictionary data for a given word. The process involves obtaining the word's
-   * pronunciation and meaning by interacting with a reader. If pronunciation data is successfully
-   * retrieved but meaning data cannot be fetched, the method will still proceed with the
-   * pronunciation data alone. Ensures the input word is cleaned and valid before processing.
+   * pronunciation and meaning by interacting with a reader; both pages are read concurrently (see
+   * {@link ReadingPurpose#BOTH}). If pronunciation data is successfully retrieved but meaning data
+   * cannot be fetched, the method will still proceed with the pronunciation data alone. If the
+   * pronunciation page can't be read or has no pronunciation, the meaning read is cancelled.
+   * Ensures the input word is cleaned and valid before processing.
    *
    * @param word the word to be scraped; must be a non-null, non-empty string containing alphabetic
    *     characters only after cleaning
    * @return a {@code DictionaryEntry} containing source links, IPA (pronunciation) listings, and
-   *     meanings of the word, or {@code null} if no valid data is retrieved
+   *     meanings of the word, or {@code null} if the pronunciation page has no pronunciation or the
+   *     dictionary answered that it doesn't have the page, i.e. the word is unknown
    * @throws NullPointerException if the reader is not initialized
    * @throws IllegalArgumentException if the cleaned word is empty or invalid
-   * @throws IOException if there is an error during data fetching operations
+   * @throws IOException if there is an error during data fetching operations, including a refusal
+   *     to serve the pronunciation page
    */
   @Override
   public DictionaryEntry scrape(String word) throws IOException {
+    return BlockingAdapter.await(this.scrapeAsync(word));
+  }
+
+  /**
+   * Scrapes dictionary data for a given word without blocking the calling thread. The word is
+   * validated eagerly; the pronunciation and meaning pages are then read concurrently through
+   * {@link Reader#readAsync(String, ReadingPurpose)} with the same rules as {@link
+   * #scrape(String)}. Cancelling the returned future cancels both reads.
+   *
+   * @param word the word to be scraped; must be a non-null, non-empty string containing alphabetic
+   *     characters only after cleaning
+   * @return a {@link CompletableFuture} that completes with the {@code DictionaryEntry}, or {@code
+   *     null} if no valid data is retrieved; it completes exceptionally with an {@link IOException}
+   *     if the pronunciation can't be read, or with a {@link HttpTimeoutException} if the scrape
+   *     deadline passes
+   * @throws NullPointerException if the reader is not initialized
+   * @throws IllegalArgumentException if the cleaned word is empty or invalid
+   */
+  @Override
+  public CompletableFuture<DictionaryEntry> scrapeAsync(String word) {
+    String cleanedWord = this.prepareWord(word);
+
+    // ReadingPurpose.BOTH: both pages are requested right away, so a scrape takes one round trip
+    // instead of two.
+    CompletableFuture<ReaderResponse> pronunciation =
+        this.reader.readAsync(cleanedWord, ReadingPurpose.PRONUNCIATION);
+    CompletableFuture<ReaderResponse> meaning =
+        this.reader.readAsync(cleanedWord, ReadingPurpose.MEANING);
+
+    CompletableFuture<Map<Region, List<IpaInfo>>> ipaListings =
+        pronunciation.thenApply(this::extractIpaListings);
+    ipaListings.whenComplete(
+        (listings, throwable) -> {
+          if (throwable != null || listings.isEmpty()) {
+            // Pronunciation is the main priority; without it the meaning is of no use.
+            meaning.cancel(true);
+          }
+        });
+
+    CompletableFuture<DictionaryEntry> dictionaryEntry =
+        ipaListings.thenCompose(
+            listings -> {
+              if (listings.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+              }
+
+              return meaning.handle(
+                  (meaningResponse, throwable) -> {
+                    if (throwable != null
+                        && !(BlockingAdapter.unwrap(throwable) instanceof IOException)) {
+                      throw new CompletionException(BlockingAdapter.unwrap(throwable));
+                    }
+
+                    // Pronunciation is the main priority. So, even if we can't read
+                    // the "meaning" doc, we can still proceed.
+                    return this.toDictionaryEntry(pronunciation.join(), listings, meaningResponse);
+                  });
+            });
+    Timeouts.failAfter(
+        dictionaryEntry,
+        this.scrapeDeadline,
+        () ->
+            new HttpTimeoutException(
+                String.format("Scrape of %s exceeded %s", cleanedWord, this.scrapeDeadline)));
+    dictionaryEntry.whenComplete(
+        (entry, throwable) -> {
+          if (throwable != null) {
+            // Cancelled or timed out: nothing waits for the reads anymore.
+            pronunciation.cancel(true);
+            meaning.cancel(true);
+          }
+        });
+
+    return dictionaryEntry;
+  }
+
+  /**
+   * Prepares the scraper for its first scrapes: the reader connects to the Cambridge Dictionary
+   * and, if asked for, a sample pronunciation and meaning page bundled with the library are parsed
+   * and extracted a number of times, so that the JIT has compiled the parsing and extraction before
+   * the first real page. Both run concurrently; the samples are extracted on the {@link
+   * BlockingAdapter} pool and are not remembered.
+   *
+   * @param extractSamples whether the bundled sample pages are run through the extraction
+   * @return a {@link CompletableFuture} that completes once both are done, or exceptionally with an
+   *     {@link IOException} if the source could not be reached
+   * @throws NullPointerException if the reader is not initialized
+   */
+  @Override
+  public CompletableFuture<Void> warmUp(boolean extractSamples) {
+    if (this.reader == null) {
+      throw new NullPointerException("reader can not be null");
+    }
+
+    CompletableFuture<Void> connection = this.reader.warmUp();
+    if (!extractSamples) {
+      return connection;
+    }
+
+    CompletableFuture<Void> extraction =
+        BlockingAdapter.supplyAsync(
+            () -> {
+              this.extractSamples();
+              return null;
+            });
+    return CompletableFuture.allOf(connection, extraction);
+  }
+
+  /**
+   * Cleans the input word by removing all non-alphabetic characters, folding diacritics and
+   * converting it to lowercase (see {@link WordNormalizer}). If the input word is null, an empty
+   * string is returned.
+   *
+   * @param word the input word that needs to be cleaned; may be null
+   * @return the cleaned version of the word containing only letters in lower case, which may be
+   *     letters of other scripts than Latin, or an empty string if the input is null
+   */
+  @Override
+  public String cleanWord(String word) {
+    return this.normalize(word).value();
+  }
+
+  /**
+   * Normalizes the input word with the {@link WordNormalizer}, e.g. {@code "Amélie"} to {@code
+   * "amelie"}.
+   *
+   * @param word the input word; may be null
+   * @return the key of the word; {@link WordKey#EMPTY} if the word is null or has no letters
+   */
+  @Override
+  public WordKey normalize(String word) {
+    return WordNormalizer.normalize(word);
+  }
+
+  private String prepareWord(String word) {
     if (this.reader == null) {
       throw new NullPointerException("reader can not be null");
     }
@@ -94,157 +362,268 @@ public class CambridgeScraper implements Scraper {
       throw new IllegalArgumentException(String.format("`%s` is not valid word", word));
     }
 
-    ReaderResponse response = this.reader.read(cleanedWord, ReadingPurpose.PRONUNCIATION);
-    if (response == null) {
-      return null;
-    }
+    return cleanedWord;
+  }
 
+  private DictionaryEntry toDictionaryEntry(
+      ReaderResponse pronunciation,
+      Map<Region, List<IpaInfo>> ipaListings,
+      ReaderResponse meaning) {
     List<String> sourceLinks = new ArrayList<>();
-    sourceLinks.add(response.link());
-
-    Map<Region, List<IpaInfo>> ipaListings = this.extractIpaListings(response.data());
-    if (ipaListings.isEmpty()) {
-      return null;
+    sourceLinks.add(pronunciation.link());
+
+    List<WordMeaning> meanings = List.of();
+    if (meaning != null) {
+      sourceLinks.add(meaning.link());
+      meanings =
+          this.meaningsMemo == null
+              ? this.extractMeanings(meaning)
+              : this.meaningsMemo.extract(meaning, this::extractMeanings);
     }
 
-    try {
-      response = this.reader.read(cleanedWord, ReadingPurpose.MEANING);
-    } catch (IOException ignored) {
-      // Pronunciation is the main priority. So, even if we can't read
-      // the "meaning" doc, we can still proceed.
-      response = null;
-    }
+    return new DictionaryEntry(List.copyOf(sourceLinks), ipaListings, List.copyOf(meanings));
+  }
 
-    List<WordMeaning> meanings = new ArrayList<>();
-    if (response != null) {
-      sourceLinks.add(response.link());
-      meanings = this.extractMeanings(response.data());
+  private Map<Region, List<IpaInfo>> extractIpaListings(ReaderResponse response) {
+    if (response == null) {
+      return new EnumMap<>(Region.class);
     }
 
-    return new DictionaryEntry(sourceLinks, ipaListings, meanings);
+    return this.ipaListingsMemo == null
+        ? this.streamIpaListings(response)
+        : this.ipaListingsMemo.extract(response, this::streamIpaListings);
   }
 
   /**
-   * Cleans the input word by removing all non-alphabetic characters and converting it to lowercase.
-   * If the input word is null, an empty string is returned.
-   *
-   * @param word the input word that needs to be cleaned; may be null
-   * @return the cleaned version of the word containing only lowercase alphabetic characters, or an
-   *     empty string if the input is null
+   * Extracts the pronunciations while the page is being parsed: every {@code .pron-block} is taken
+   * out of the tree as soon as its end tag has been parsed, and every other element is dropped as
+   * soon as it is complete, so that the page is never held as a whole DOM. Bypasses the memo;
+   * visible to the benchmarks.
    */
-  @Override
-  public String cleanWord(String word) {
-    if (word == null) {
-      return "";
+  Map<Region, List<IpaInfo>> streamIpaListings(ReaderResponse response) {
+    Map<Region, List<IpaInfo>> ipaListings = new EnumMap<>(Region.class);
+
+    try (StreamParser parser =
+        new StreamParser(Parser.htmlParser())
+            .parse(new InputStreamReader(response.openStream(), StandardCharsets.UTF_8), "")) {
+      Iterator<Element> elements = parser.iterator();
+      while (elements.hasNext()) {
+        Element element = elements.next();
+        if (element.parent() == null) {
+          continue;
+        }
+
+        if (element.hasClass("pron-block")) {
+          this.addIpaListings(ipaListings, element);
+          element.remove();
+        } else if (element.closest(PRONUNCIATION_BLOCK) == null) {
+          element.remove();
+        }
+      }
     }
 
-    return word.replaceAll("[^a-zA-Z]", "").toLowerCase();
+    // The memo hands the same listings to every entry of the page, so they can't be changed.
+    for (Map.Entry<Region, List<IpaInfo>> listing : ipaListings.entrySet()) {
+      listing.setValue(List.copyOf(listing.getValue()));
+    }
+    return Collections.unmodifiableMap(ipaListings);
   }
 
-  private Map<Region, List<IpaInfo>> extractIpaListings(String data) {
-    Map<Region, List<IpaInfo>> ipaListings = new EnumMap<>(Region.class);
+  private void addIpaListings(Map<Region, List<IpaInfo>> ipaListings, Element pronunciationBlock) {
+    Elements partsOfSpeeches = pronunciationBlock.select(PARTS_OF_SPEECH);
+    Elements regionBlocks = pronunciationBlock.select(REGION_BLOCK);
+
+    for (int r = 0; r < regionBlocks.size(); r++) {
+      Element regionBlock = regionBlocks.get(r);
+      Element ipa = regionBlock.selectFirst(WRITTEN_PRONUNCIATION);
+      Element audio = regionBlock.selectFirst(MPEG_AUDIO);
+      if (ipa == null || audio == null) {
+        continue;
+      }
+
+      Region region = regionOf(regionBlock.attr("data-pron-region"));
+      List<IpaInfo> regionListings = ipaListings.computeIfAbsent(region, key -> new ArrayList<>());
+      String ipaText = ipa.text();
+      String audioLink = this.reader.getBaseUri().concat(audio.attr("src"));
+      if (partsOfSpeeches.isEmpty()) {
+        regionListings.add(new IpaInfo("", ipaText, audioLink));
+      }
+      for (int i = 0; i < partsOfSpeeches.size(); i++) {
+        regionListings.add(new IpaInfo(partsOfSpeeches.get(i).text(), ipaText, audioLink));
+      }
+    }
+  }
 
-    Document document = Jsoup.parse(data);
-    document
-        .body()
-        .select(".pron-block")
-        .forEach(
-            pronunciationBlock -> {
-              List<String> partsOfSpeeches = this.extractPartsOfSpeeches(pronunciationBlock);
-              List<RegionWiseIpaInfo> regionWiseIpaInfo =
-                  this.extractRegionWiseIpaInfo(pronunciationBlock);
-
-              for (RegionWiseIpaInfo ipaInfo : regionWiseIpaInfo) {
-                for (String partsOfSpeech : partsOfSpeeches) {
-                  Region region = Region.valueOf(ipaInfo.region.toUpperCase());
-
-                  if (!ipaListings.containsKey(region)) {
-                    ipaListings.put(region, new ArrayList<>());
-                  }
-
-                  ipaListings
-                      .get(region)
-                      .add(
-                          new IpaInfo(
-                              partsOfSpeech,
-                              ipaInfo.ipa,
-                              String.format("%s%s", this.reader.getBaseUri(), ipaInfo.audioLink)));
-                }
-              }
-            });
+  private static Region regionOf(String region) {
+    for (Region candidate : REGIONS) {
+      if (candidate.name().equalsIgnoreCase(region)) {
+        return candidate;
+      }
+    }
 
-    return ipaListings;
+    // Fails the same way the lookup by name does.
+    return Region.valueOf(region.toUpperCase());
   }
 
-  private List<WordMeaning> extractMeanings(String data) {
-    Document document = Jsoup.parse(data);
-
+  /**
+   * Extracts the meanings of a meaning page as the current {@link MeaningExtraction} says,
+   * bypassing the memo. Visible to the benchmarks.
+   */
+  List<WordMeaning> extractMeanings(ReaderResponse response) {
     // Selecting UK dictionary section; currently we're ignoring American and business English
-    Element ukDictionary = document.body().selectFirst(".pr.dictionary .di-body");
+    Element ukDictionary =
+        switch (this.meaningExtraction) {
+          case FULL_PAGE -> parse(response).body().selectFirst(UK_DICTIONARY);
+          case UK_SECTION -> streamUkDictionary(response);
+        };
     if (ukDictionary == null) {
       throw new IllegalArgumentException("No UK dictionary section found");
     }
 
-    return ukDictionary.select(".pr.entry-body__el").stream().map(this::extractCategory).toList();
+    Elements categoryBlocks = ukDictionary.select(CATEGORY_BLOCK);
+    List<WordMeaning> meanings = new ArrayList<>(categoryBlocks.size());
+    for (int i = 0; i < categoryBlocks.size(); i++) {
+      meanings.add(extractCategory(categoryBlocks.get(i)));
+    }
+
+    // The memo hands the same meanings to every entry of the page, so they can't be changed.
+    return List.copyOf(meanings);
   }
 
-  private List<String> extractPartsOfSpeeches(Element pronunciationBlock) {
-    List<String> partsOfSpeeches =
-        pronunciationBlock.select(".posgram > .ti").stream()
-            .map((element -> Optional.of(element.text()).orElse("")))
-            .toList();
-    if (partsOfSpeeches.isEmpty()) {
-      return List.of("");
+  /**
+   * Streams the page up to the end of its first UK dictionary section. Elements before the section
+   * are dropped as soon as they are complete, and the rest of the page is never parsed.
+   */
+  private static Element streamUkDictionary(ReaderResponse response) {
+    try (StreamParser parser =
+        new StreamParser(Parser.htmlParser())
+            .parse(new InputStreamReader(response.openStream(), StandardCharsets.UTF_8), "")) {
+      Iterator<Element> elements = parser.iterator();
+      while (elements.hasNext()) {
+        Element element = elements.next();
+        if (element.parent() == null) {
+          continue;
+        }
+
+        if (element.closest(DICTIONARY) == null) {
+          element.remove();
+        } else if (element.hasClass("di-body")) {
+          return element;
+        }
+      }
     }
 
-    return partsOfSpeeches;
+    return null;
   }
 
-  private List<RegionWiseIpaInfo> extractRegionWiseIpaInfo(Element pronunciationBlock) {
-    return pronunciationBlock.select(".region-block .pron-info").stream()
-        .map(
-            regionBlock -> {
-              Optional<String> region = Optional.of(regionBlock.attr("data-pron-region"));
-              Optional<String> ipa =
-                  Optional.ofNullable(
-                          regionBlock.selectFirst(".pron[data-title=\"Written pronunciation\"]"))
-                      .map(Element::text);
-              Optional<String> audioLink =
-                  Optional.ofNullable(
-                          regionBlock.selectFirst(".soundfile audio source[type=\"audio/mpeg\"]"))
-                      .map((element -> element.attr("src")));
+  private static WordMeaning extractCategory(Element categoryBlock) {
+    Element categories = categoryBlock.selectFirst(CATEGORY_NAME);
+    Elements meaningBlocks = categoryBlock.select(MEANING_BLOCK);
+    List<CategoryMeaningEntry> entries = new ArrayList<>(meaningBlocks.size());
+    for (int i = 0; i < meaningBlocks.size(); i++) {
+      entries.add(extractMeaning(meaningBlocks.get(i)));
+    }
 
-              if (ipa.isPresent() && audioLink.isPresent()) {
-                return new RegionWiseIpaInfo(
-                    region.get().toLowerCase(), ipa.get(), audioLink.get());
-              }
+    return new WordMeaning(categories == null ? "" : categories.text(), List.copyOf(entries));
+  }
 
-              return null;
-            })
-        .filter(Objects::nonNull)
-        .toList();
+  private static CategoryMeaningEntry extractMeaning(Element meaningBlock) {
+    Element definition = meaningBlock.selectFirst(DEFINITION);
+    Elements exampleBlocks = meaningBlock.select(EXAMPLE);
+    List<String> examples = new ArrayList<>(exampleBlocks.size());
+    for (int i = 0; i < exampleBlocks.size(); i++) {
+      examples.add(exampleBlocks.get(i).text().trim());
+    }
+
+    return new CategoryMeaningEntry(
+        definition == null ? "" : definition.text().trim(), List.copyOf(examples));
   }
 
-  private WordMeaning extractCategory(Element categoryBlock) {
-    return new WordMeaning(
-        Optional.ofNullable(categoryBlock.selectFirst(".pos-header .posgram"))
-            .map(Element::text)
-            .orElse(""),
-        categoryBlock.select(".pos-body .pr.dsense .def-block").stream()
-            .map((this::extractMeaning))
-            .toList());
+  private void extractSamples() throws IOException {
+    ReaderResponse pronunciation = sampleOf(ReadingPurpose.PRONUNCIATION);
+    ReaderResponse meaning = sampleOf(ReadingPurpose.MEANING);
+    for (int round = 0; round < SAMPLE_ROUNDS; round++) {
+      // The memos are bypassed, so that every round goes through the whole extraction.
+      this.streamIpaListings(pronunciation);
+      this.extractMeanings(meaning);
+    }
   }
 
-  private CategoryMeaningEntry extractMeaning(Element meaningBlock) {
-    return new CategoryMeaningEntry(
-        Optional.ofNullable(meaningBlock.selectFirst(".ddef_h .def"))
-            .map(Element::text)
-            .map(String::trim)
-            .orElse(""),
-        meaningBlock.select(".def-body .examp").stream()
-            .map((element -> element.text().trim()))
-            .toList());
+  private static ReaderResponse sampleOf(ReadingPurpose purpose) throws IOException {
+    return resourceOf(SAMPLES + purpose.getValue() + ".html");
+  }
+
+  /**
+   * Reads a page bundled on the class path, linked by its resource name. Visible to the benchmarks.
+   *
+   * @throws IOException if the page is not bundled or can't be read
+   */
+  static ReaderResponse resourceOf(String name) throws IOException {
+    try (InputStream page = CambridgeScraper.class.getResourceAsStream(name)) {
+      if (page == null) {
+        throw new IOException(name + " is not bundled");
+      }
+
+      return new ReaderResponse(name, ByteBuffer.wrap(page.readAllBytes()), false, Map.of());
+    }
+  }
+
+  /**
+   * Parses the page straight from its bytes, so that the page is never materialized as a string.
+   */
+  private static Document parse(ReaderResponse response) {
+    try (InputStream body = response.openStream()) {
+      return Jsoup.parse(body, StandardCharsets.UTF_8.name(), "");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
-  private record RegionWiseIpaInfo(String region, String ipa, String audioLink) {}
+  /**
+   * Remembers the latest extraction of each page, so that a page the reader has revalidated, i.e.
+   * whose content is known to be unchanged, is not parsed again.
+   */
+  private static final class ExtractionMemo<T> {
+    private static final int MAX_ENTRIES = 256;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, T> extractions =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+            return this.size() > MAX_ENTRIES;
+          }
+        };
+
+    private T extract(ReaderResponse response, Function<ReaderResponse, T> extractor) {
+      if (response.revalidated()) {
+        T extraction = this.get(response.link());
+        if (extraction != null) {
+          return extraction;
+        }
+      }
+
+      T extraction = extractor.apply(response);
+      this.put(response.link(), extraction);
+      return extraction;
+    }
+
+    private T get(String link) {
+      this.lock.lock();
+      try {
+        return this.extractions.get(link);
+      } finally {
+        this.lock.unlock();
+      }
+    }
+
+    private void put(String link, T extraction) {
+      this.lock.lock();
+      try {
+        this.extractions.put(link, extraction);
+      } finally {
+        this.lock.unlock();
+      }
+    }
+  }
 }
@@ -0,0 +1,99 @@
+package io.github.khshourov.dictionaryscraper.text;
+
+import io.github.khshourov.dictionaryscraper.models.WordKey;
+import java.text.Normalizer;
+
+/**
+ * The WordNormalizer turns a word into the {@link WordKey} it is looked up by: the letters of the
+ * word, in lower case, with their diacritics folded, e.g. {@code "Amélie"} becomes {@code
+ * "amelie"}. Everything else, such as digits, spaces, punctuation and combining marks, is dropped.
+ * Letters of other scripts are kept, in lower case, so a key is not necessarily ASCII and has to be
+ * encoded before it is put into a URL.
+ *
+ * <p>The word is normalized in a single pass over its chars. ASCII chars, which make up nearly
+ * every word, are handled by range checks alone; the Latin letters with diacritics are folded
+ * through a table that is built once, so that no regular expression nor {@link Normalizer} runs per
+ * word. A word that is already in canonical form is used as the key as it is.
+ */
+public final class WordNormalizer {
+  private static final char FOLDS_START = 'À';
+  private static final char FOLDS_END = 'ɏ';
+  private static final String[] FOLDS = buildFolds();
+
+  private WordNormalizer() {}
+
+  /**
+   * Normalizes the given word.
+   *
+   * @param word the word to normalize; may be null
+   * @return the key of the word; {@link WordKey#EMPTY} if the word is null or has no letters
+   */
+  public static WordKey normalize(String word) {
+    if (word == null) {
+      return WordKey.EMPTY;
+    }
+
+    int length = word.length();
+    int canonical = 0;
+    while (canonical < length && isLowerAscii(word.charAt(canonical))) {
+      canonical++;
+    }
+    if (canonical == length) {
+      return length == 0 ? WordKey.EMPTY : new WordKey(word);
+    }
+
+    // A folded letter takes at most two chars, e.g. "ß" becomes "ss".
+    StringBuilder key = new StringBuilder(length + 2).append(word, 0, canonical);
+    for (int i = canonical; i < length; i++) {
+      char c = word.charAt(i);
+      if (isLowerAscii(c)) {
+        key.append(c);
+      } else if (c >= 'A' && c <= 'Z') {
+        key.append((char) (c + ('a' - 'A')));
+      } else if (c >= 0x80) {
+        // The rest of ASCII, i.e. digits, spaces and punctuation, is dropped.
+        String fold = c >= FOLDS_START && c <= FOLDS_END ? FOLDS[c - FOLDS_START] : null;
+        if (fold != null) {
+          key.append(fold);
+        } else if (Character.isLetter(c)) {
+          key.append(Character.toLowerCase(c));
+        }
+      }
+    }
+
+    return key.isEmpty() ? WordKey.EMPTY : new WordKey(key.toString());
+  }
+
+  private static boolean isLowerAscii(char c) {
+    return c >= 'a' && c <= 'z';
+  }
+
+  /**
+   * Folds the Latin-1 Supplement and Latin Extended-A and B letters to the ASCII letters they are
+   * built on. Letters that don't decompose, such as {@code "ø"} or {@code "ß"}, are spelled out.
+   */
+  private static String[] buildFolds() {
+    String[] folds = new String[FOLDS_END - FOLDS_START + 1];
+    for (char c = FOLDS_START; c <= FOLDS_END; c++) {
+      if (!Character.isLetter(c)) {
+        continue;
+      }
+
+      char base = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).charAt(0);
+      if (base < 0x80 && Character.isLetter(base)) {
+        folds[c - FOLDS_START] = String.valueOf(Character.toLowerCase(base));
+      }
+    }
+
+    String[][] spelledOut = {
+      {"ß", "ss"}, {"æ", "ae"}, {"Æ", "ae"}, {"œ", "oe"}, {"Œ", "oe"}, {"ø", "o"}, {"Ø", "o"},
+      {"đ", "d"}, {"Đ", "d"}, {"ð", "d"}, {"Ð", "d"}, {"ł", "l"}, {"Ł", "l"}, {"þ", "th"},
+      {"Þ", "th"}, {"ı", "i"}, {"ħ", "h"}, {"Ħ", "h"}, {"ŧ", "t"}, {"Ŧ", "t"}
+    };
+    for (String[] letter : spelledOut) {
+      folds[letter[0].charAt(0) - FOLDS_START] = letter[1];
+    }
+
+    return folds;
+  }
+}
@@ -1,24 +1,60 @@
 package io.github.khshourov.dictionaryscraper;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.sun.net.httpserver.HttpServer;
+import io.github.khshourov.dictionaryscraper.caches.AudioStore;
+import io.github.khshourov.dictionaryscraper.caches.DictionaryEntryCache;
+import io.github.khshourov.dictionaryscraper.caches.NegativeCache;
 import io.github.khshourov.dictionaryscraper.enums.BaseSource;
+import io.github.khshourov.dictionaryscraper.enums.CircuitState;
+import io.github.khshourov.dictionaryscraper.enums.ExecutionMode;
 import io.github.khshourov.dictionaryscraper.enums.Region;
+import io.github.khshourov.dictionaryscraper.exceptions.HttpStatusException;
+import io.github.khshourov.dictionaryscraper.http.AudioPrefetcher;
+import io.github.khshourov.dictionaryscraper.http.RateLimiterRegistry;
+import io.github.khshourov.dictionaryscraper.mocks.GatedScraper;
 import io.github.khshourov.dictionaryscraper.mocks.MockScraper;
 import io.github.khshourov.dictionaryscraper.mocks.MockSource;
+import io.github.khshourov.dictionaryscraper.models.AudioPrefetchSettings;
 import io.github.khshourov.dictionaryscraper.models.CategoryMeaningEntry;
+import io.github.khshourov.dictionaryscraper.models.CircuitBreakerSettings;
 import io.github.khshourov.dictionaryscraper.models.DictionaryEntry;
+import io.github.khshourov.dictionaryscraper.models.DictionaryEntryCacheSettings;
 import io.github.khshourov.dictionaryscraper.models.DictionaryWord;
 import io.github.khshourov.dictionaryscraper.models.IpaInfo;
+import io.github.khshourov.dictionaryscraper.models.NegativeCacheSettings;
+import io.github.khshourov.dictionaryscraper.models.RateLimit;
 import io.github.khshourov.dictionaryscraper.models.WordMeaning;
+import io.github.khshourov.dictionaryscraper.readers.CambridgeReader;
+import io.github.khshourov.dictionaryscraper.scrapers.CambridgeScraper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class DefaultDictionaryScraperTest {
   private DefaultDictionaryScraper dictionaryScraper;
@@ -34,6 +70,14 @@ class DefaultDictionaryScraperTest {
     assertEquals(BaseSource.CAMBRIDGE, this.dictionaryScraper.getRegisteredSources().get(0));
   }
 
+  @Test
+  void scrapersShouldBeCreatedThroughTheirNoArgConstructor() {
+    assertInstanceOf(
+        MultiConstructorScraper.class,
+        DefaultDictionaryScraper.newScraper(MultiConstructorScraper.class));
+    assertNull(DefaultDictionaryScraper.newScraper(ArgConstructorScraper.class));
+  }
+
   @Nested
   class WhenRegisterScraper {
     @Test
@@ -181,4 +225,635 @@ class DefaultDictionaryScraperTest {
           dictionaryWord);
     }
   }
+
+  @Nested
+  class WhenSearchAsync {
+    private final String searchWord = "hello";
+
+    @Test
+    void sourceHasToBeRegistered() {
+      Exception exception =
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> dictionaryScraper.searchAsync(searchWord, MockSource.MOCK_SOURCE_1));
+      assertEquals(
+          "No scraper has been registered for this source: " + MockSource.MOCK_SOURCE_1.name(),
+          exception.getMessage());
+    }
+
+    @Test
+    void nullShouldBeReturnIfWordIsNotFound() throws ExecutionException, InterruptedException {
+      MockScraper mockScraper = new MockScraper();
+      mockScraper.setSource(MockSource.MOCK_SOURCE_1);
+      mockScraper.register(dictionaryScraper);
+      mockScraper.setDictionaryEntry(null);
+
+      assertNull(dictionaryScraper.searchAsync("not-found-word", MockSource.MOCK_SOURCE_1).get());
+    }
+
+    @Test
+    void dictionaryWordShouldBeReturnForValidWord()
+        throws ExecutionException, InterruptedException {
+      DictionaryEntry expectedDictionaryEntry =
+          new DictionaryEntry(
+              List.of(String.format("http://example.com/pronunciation/%s", searchWord)),
+              Map.of(Region.UK, List.of(new IpaInfo("", "/heˈləʊ/", ""))),
+              List.of());
+
+      MockScraper mockScraper = new MockScraper();
+      mockScraper.setSource(MockSource.MOCK_SOURCE_1);
+      mockScraper.register(dictionaryScraper);
+      mockScraper.setDictionaryEntry(expectedDictionaryEntry);
+
+      assertEquals(
+          new DictionaryWord(MockSource.MOCK_SOURCE_1, searchWord, expectedDictionaryEntry),
+          dictionaryScraper.searchAsync(searchWord, MockSource.MOCK_SOURCE_1).get());
+    }
+  }
+
+  @Nested
+  class WhenCircuitBreak {
+    private MockScraper mockScraper;
+
+    @BeforeEach
+    void init() {
+      mockScraper = new MockScraper();
+      mockScraper.setSource(MockSource.MOCK_SOURCE_1);
+      mockScraper.register(dictionaryScraper);
+      mockScraper.setFailure(new IOException("Read timeout"));
+
+      dictionaryScraper.setCircuitBreakerSettings(
+          new CircuitBreakerSettings(4, 4, 0.5, Duration.ofSeconds(10), 1, Duration.ofHours(1), 1));
+    }
+
+    @Test
+    void circuitShouldBeClosedForNewSource() {
+      assertEquals(
+          CircuitState.CLOSED, dictionaryScraper.getCircuitState(MockSource.MOCK_SOURCE_1));
+    }
+
+    @Test
+    void circuitStateOfUnregisteredSourceCanNotBeRetrieved() {
+      Exception exception =
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> dictionaryScraper.getCircuitState(MockSource.MOCK_SOURCE_2));
+      assertEquals(
+          "No scraper has been registered for this source: " + MockSource.MOCK_SOURCE_2.name(),
+          exception.getMessage());
+    }
+
+    @Test
+    void failingSourceShouldFailFast() {
+      for (int i = 0; i < 4; i++) {
+        assertNull(dictionaryScraper.search("hello", MockSource.MOCK_SOURCE_1));
+      }
+
+      assertEquals(CircuitState.OPEN, dictionaryScraper.getCircuitState(MockSource.MOCK_SOURCE_1));
+      assertNull(dictionaryScraper.search("hello", MockSource.MOCK_SOURCE_1));
+      assertEquals(4, mockScraper.getScrapes());
+    }
+
+    @Test
+    void failingSourceShouldFailFastForAsyncSearch()
+        throws ExecutionException, InterruptedException {
+      for (int i = 0; i < 4; i++) {
+        assertNull(dictionaryScraper.searchAsync("hello", MockSource.MOCK_SOURCE_1).get());
+      }
+
+      assertNull(dictionaryScraper.searchAsync("hello", MockSource.MOCK_SOURCE_1).get());
+      assertEquals(4, mockScraper.getScrapes());
+    }
+
+    @Test
+    void otherSourcesShouldNotBeAffected() {
+      MockScraper healthyScraper = new MockScraper();
+      healthyScraper.setSource(MockSource.MOCK_SOURCE_2);
+      healthyScraper.register(dictionaryScraper);
+
+      for (int i = 0; i < 4; i++) {
+        dictionaryScraper.search("hello", MockSource.MOCK_SOURCE_1);
+      }
+
+      assertEquals(
+          CircuitState.CLOSED, dictionaryScraper.getCircuitState(MockSource.MOCK_SOURCE_2));
+    }
+  }
+
+  @Nested
+  class WhenCoalesce {
+    private GatedScraper gatedScraper;
+
+    @BeforeEach
+    void init() {
+      gatedScraper = new GatedScraper(MockSource.MOCK_SOURCE_1);
+      gatedScraper.register(dictionaryScraper);
+    }
+
+    @Test
+    void concurrentSearchesForSameWordShouldShareOneScrape()
+        throws ExecutionException, InterruptedException {
+      CompletableFuture<DictionaryWord> first =
+          dictionaryScraper.searchAsync("Hello", MockSource.MOCK_SOURCE_1);
+      CompletableFuture<DictionaryWord> second =
+          dictionaryScraper.searchAsync("hello!", MockSource.MOCK_SOURCE_1);
+      CompletableFuture<DictionaryWord> third =
+          dictionaryScraper.searchAsync("HELLO", MockSource.MOCK_SOURCE_1);
+      gatedScraper.open();
+
+      assertEquals("Hello", first.get().searchWord());
+      assertEquals("hello!", second.get().searchWord());
+      assertSame(first.get().entry(), second.get().entry());
+      assertSame(first.get().entry(), third.get().entry());
+      assertEquals(1, gatedScraper.getScrapes());
+    }
+
+    @Test
+    void concurrentBlockingSearchesShouldShareOneScrape()
+        throws ExecutionException, InterruptedException {
+      CompletableFuture<DictionaryWord> first =
+          CompletableFuture.supplyAsync(
+              () -> dictionaryScraper.search("Hello", MockSource.MOCK_SOURCE_1));
+      while (gatedScraper.getScrapes() == 0) {
+        TimeUnit.MILLISECONDS.sleep(5);
+      }
+      CompletableFuture<DictionaryWord> second =
+          CompletableFuture.supplyAsync(
+              () -> dictionaryScraper.search("HELLO", MockSource.MOCK_SOURCE_1));
+      TimeUnit.MILLISECONDS.sleep(100);
+      gatedScraper.open();
+
+      assertSame(first.get().entry(), second.get().entry());
+      assertEquals(1, gatedScraper.getScrapes());
+    }
+
+    @Test
+    void cancelledSearchShouldNotAffectOtherSearches()
+        throws ExecutionException, InterruptedException {
+      CompletableFuture<DictionaryWord> first =
+          dictionaryScraper.searchAsync("hello", MockSource.MOCK_SOURCE_1);
+      CompletableFuture<DictionaryWord> second =
+          dictionaryScraper.searchAsync("hello", MockSource.MOCK_SOURCE_1);
+      first.cancel(true);
+      gatedScraper.open();
+
+      assertEquals(List.of("hello"), second.get().entry().sourceLinks());
+    }
+
+    @Test
+    void completedSearchShouldNotBeShared() throws ExecutionException, InterruptedException {
+      gatedScraper.open();
+
+      dictionaryScraper.searchAsync("hello", MockSource.MOCK_SOURCE_1).get();
+      dictionaryScraper.search("hello", MockSource.MOCK_SOURCE_1);
+
+      assertEquals(2, gatedScraper.getScrapes());
+    }
+
+    @Test
+    void searchesInDifferentSourcesShouldNotBeShared()
+        throws ExecutionException, InterruptedException {
+      GatedScraper otherScraper = new GatedScraper(MockSource.MOCK_SOURCE_2);
+      otherScraper.register(dictionaryScraper);
+
+      CompletableFuture<DictionaryWord> first =
+          dictionaryScraper.searchAsync("hello", MockSource.MOCK_SOURCE_1);
+      CompletableFuture<DictionaryWord> second =
+          dictionaryScraper.searchAsync("hello", MockSource.MOCK_SOURCE_2);
+      gatedScraper.open();
+      otherScraper.open();
+
+      assertEquals(MockSource.MOCK_SOURCE_1, first.get().source());
+      assertEquals(MockSource.MOCK_SOURCE_2, second.get().source());
+      assertEquals(1, otherScraper.getScrapes());
+    }
+  }
+
+  @Nested
+  class WhenSearchAll {
+    private GatedScraper gatedScraper;
+
+    @BeforeEach
+    void init() {
+      gatedScraper = new GatedScraper(MockSource.MOCK_SOURCE_1);
+      gatedScraper.register(dictionaryScraper);
+    }
+
+    @Test
+    void sourceHasToBeRegistered() {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> dictionaryScraper.searchAll(List.of("hello"), MockSource.MOCK_SOURCE_2));
+    }
+
+    @Test
+    void resultsShouldFollowOrderOfWords() throws InterruptedException {
+      gatedScraper.open();
+
+      Map<String, DictionaryWord> results =
+          dictionaryScraper.searchAll(
+              List.of("world", "hello", "world", "again"), MockSource.MOCK_SOURCE_1);
+
+      assertEquals(List.of("world", "hello", "again"), List.copyOf(results.keySet()));
+      assertEquals(List.of("hello"), results.get("hello").entry().sourceLinks());
+      assertEquals(3, gatedScraper.getScrapes());
+    }
+
+    @Test
+    void wordsWithSameKeyShouldBeSearchedOnce() throws InterruptedException {
+      gatedScraper.open();
+
+      Map<String, DictionaryWord> results =
+          dictionaryScraper.searchAll(
+              List.of("hello", "Hello!", "world"), MockSource.MOCK_SOURCE_1);
+
+      assertEquals(List.of("hello", "Hello!", "world"), List.copyOf(results.keySet()));
+      assertEquals("Hello!", results.get("Hello!").searchWord());
+      assertEquals(results.get("hello").entry(), results.get("Hello!").entry());
+      assertEquals(2, gatedScraper.getScrapes());
+    }
+
+    @Test
+    void searchesInFlightShouldBeBoundedByMaxConcurrentSearches()
+        throws ExecutionException, InterruptedException {
+      dictionaryScraper.setExecutionMode(ExecutionMode.VIRTUAL_THREADS);
+      dictionaryScraper.setMaxConcurrentSearches(2);
+      List<String> words = List.of("alpha", "beta", "gamma", "delta", "omega");
+
+      CompletableFuture<Map<String, DictionaryWord>> results =
+          CompletableFuture.supplyAsync(
+              () -> {
+                try {
+                  return dictionaryScraper.searchAll(words, MockSource.MOCK_SOURCE_1);
+                } catch (InterruptedException e) {
+                  throw new IllegalStateException(e);
+                }
+              });
+      while (gatedScraper.getScrapes() < 2) {
+        TimeUnit.MILLISECONDS.sleep(5);
+      }
+      TimeUnit.MILLISECONDS.sleep(100);
+
+      assertEquals(2, gatedScraper.getScrapes());
+      gatedScraper.open();
+      assertEquals(words, List.copyOf(results.get().keySet()));
+      assertEquals(5, gatedScraper.getScrapes());
+      assertTrue(gatedScraper.getLastScrapingThread().isVirtual());
+    }
+
+    @Test
+    void searchAsyncShouldRunOnVirtualThreadInVirtualMode()
+        throws ExecutionException, InterruptedException {
+      dictionaryScraper.setExecutionMode(ExecutionMode.VIRTUAL_THREADS);
+
+      CompletableFuture<DictionaryWord> result =
+          dictionaryScraper.searchAsync("hello", MockSource.MOCK_SOURCE_1);
+      gatedScraper.open();
+
+      assertEquals(List.of("hello"), result.get().entry().sourceLinks());
+      assertTrue(gatedScraper.getLastScrapingThread().isVirtual());
+    }
+
+    @Test
+    void maxConcurrentSearchesHasToBePositive() {
+      assertThrows(
+          IllegalArgumentException.class, () -> dictionaryScraper.setMaxConcurrentSearches(0));
+    }
+  }
+
+  @Nested
+  class WhenWarmUp {
+    private MockScraper first;
+    private MockScraper second;
+
+    @BeforeEach
+    void init() {
+      // Replaces the scraper of the real source, which would connect to it.
+      first = new MockScraper();
+      dictionaryScraper.registerScraper(BaseSource.CAMBRIDGE, first);
+      second = new MockScraper();
+      second.setSource(MockSource.MOCK_SOURCE_1);
+      second.register(dictionaryScraper);
+    }
+
+    @Test
+    void readinessShouldWaitForEveryScraper() throws ExecutionException, InterruptedException {
+      CompletableFuture<Void> secondWarmUp = new CompletableFuture<>();
+      second.setWarmUp(secondWarmUp);
+
+      CompletableFuture<Void> warmUp = dictionaryScraper.warmUp(true);
+      assertFalse(dictionaryScraper.isReady());
+
+      secondWarmUp.complete(null);
+      warmUp.get();
+      assertTrue(dictionaryScraper.isReady());
+    }
+
+    @Test
+    void failedWarmUpShouldNotReportReadiness() {
+      second.setWarmUp(CompletableFuture.failedFuture(new IOException("Connection refused")));
+
+      assertThrows(ExecutionException.class, () -> dictionaryScraper.warmUp(false).get());
+      assertFalse(dictionaryScraper.isReady());
+    }
+
+    @Test
+    void registeringScraperShouldResetReadiness() throws ExecutionException, InterruptedException {
+      dictionaryScraper.warmUp(false).get();
+
+      MockScraper other = new MockScraper();
+      other.setSource(MockSource.MOCK_SOURCE_2);
+      other.register(dictionaryScraper);
+
+      assertFalse(dictionaryScraper.isReady());
+    }
+  }
+
+  @Nested
+  class WhenCache {
+    private GatedScraper gatedScraper;
+    private DictionaryEntryCache cache;
+
+    @BeforeEach
+    void init() {
+      gatedScraper = new GatedScraper(MockSource.MOCK_SOURCE_1);
+      gatedScraper.register(dictionaryScraper);
+      gatedScraper.open();
+
+      cache = new DictionaryEntryCache(DictionaryEntryCacheSettings.defaults());
+      dictionaryScraper.setDictionaryEntryCache(cache);
+    }
+
+    @Test
+    void cacheCanNotBeNull() {
+      Exception exception =
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> dictionaryScraper.setDictionaryEntryCache(null));
+      assertEquals("dictionaryEntryCache can not be null", exception.getMessage());
+    }
+
+    @Test
+    void repeatedSearchShouldBeServedFromCache() {
+      DictionaryWord first = dictionaryScraper.search("Hello", MockSource.MOCK_SOURCE_1);
+      DictionaryWord second = dictionaryScraper.search("hello!", MockSource.MOCK_SOURCE_1);
+
+      assertEquals("hello!", second.searchWord());
+      assertSame(first.entry(), second.entry());
+      assertEquals(1, gatedScraper.getScrapes());
+      assertEquals(1, cache.stats().hits());
+    }
+
+    @Test
+    void repeatedAsyncSearchShouldBeServedFromCache()
+        throws ExecutionException, InterruptedException {
+      DictionaryWord first = dictionaryScraper.searchAsync("hello", MockSource.MOCK_SOURCE_1).get();
+      DictionaryWord second = dictionaryScraper.search("hello", MockSource.MOCK_SOURCE_1);
+
+      assertSame(first.entry(), second.entry());
+      assertEquals(1, gatedScraper.getScrapes());
+    }
+
+    @Test
+    void cachedEntryShouldBeServedWhileCircuitIsOpen() {
+      MockScraper mockScraper = new MockScraper();
+      mockScraper.setSource(MockSource.MOCK_SOURCE_2);
+      mockScraper.register(dictionaryScraper);
+      mockScraper.setDictionaryEntry(new DictionaryEntry(List.of("hello"), Map.of(), List.of()));
+      dictionaryScraper.setCircuitBreakerSettings(
+          new CircuitBreakerSettings(1, 1, 1, Duration.ofSeconds(10), 1, Duration.ofHours(1), 1));
+
+      dictionaryScraper.search("hello", MockSource.MOCK_SOURCE_2);
+      mockScraper.setFailure(new IOException("Read timeout"));
+      dictionaryScraper.search("world", MockSource.MOCK_SOURCE_2);
+
+      assertEquals(CircuitState.OPEN, dictionaryScraper.getCircuitState(MockSource.MOCK_SOURCE_2));
+      assertNotNull(dictionaryScraper.search("hello", MockSource.MOCK_SOURCE_2));
+    }
+  }
+
+  @Nested
+  class WhenNegativeCache {
+    private MockScraper mockScraper;
+
+    @BeforeEach
+    void init() {
+      mockScraper = new MockScraper();
+      mockScraper.setSource(MockSource.MOCK_SOURCE_1);
+      mockScraper.register(dictionaryScraper);
+      mockScraper.setDictionaryEntry(null);
+
+      dictionaryScraper.setNegativeCache(new NegativeCache(NegativeCacheSettings.defaults()));
+    }
+
+    @Test
+    void unknownWordShouldNotBeScrapedAgain() throws ExecutionException, InterruptedException {
+      assertNull(dictionaryScraper.search("helo", MockSource.MOCK_SOURCE_1));
+      assertNull(dictionaryScraper.search("helo", MockSource.MOCK_SOURCE_1));
+      assertNull(dictionaryScraper.searchAsync("helo", MockSource.MOCK_SOURCE_1).get());
+
+      assertEquals(1, mockScraper.getScrapes());
+    }
+
+    @Test
+    void failedSearchShouldNotBeRememberedAsMiss() {
+      mockScraper.setFailure(new IOException("Read timeout"));
+      dictionaryScraper.search("hello", MockSource.MOCK_SOURCE_1);
+
+      mockScraper.setFailure(null);
+      dictionaryScraper.search("hello", MockSource.MOCK_SOURCE_1);
+
+      assertEquals(2, mockScraper.getScrapes());
+    }
+
+    @Test
+    void wordRedirectedAwayFromShouldBeRememberedAsMiss() throws IOException {
+      HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+      server.createContext(
+          "/",
+          exchange -> {
+            exchange.getResponseHeaders().add("Location", "/spellcheck/english/?q=helo");
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+          });
+      server.start();
+      try {
+        CambridgeScraper scraper = new CambridgeScraper();
+        scraper.setReader(
+            new CambridgeReader(String.format("http://127.0.0.1:%d", server.getAddress().getPort())));
+        scraper.register(dictionaryScraper);
+        NegativeCache negativeCache = new NegativeCache(NegativeCacheSettings.defaults());
+        dictionaryScraper.setNegativeCache(negativeCache);
+        dictionaryScraper.setCircuitBreakerSettings(
+            new CircuitBreakerSettings(1, 1, 1, Duration.ofSeconds(10), 1, Duration.ofHours(1), 1));
+
+        assertNull(dictionaryScraper.search("helo", BaseSource.CAMBRIDGE));
+
+        assertTrue(negativeCache.contains(BaseSource.CAMBRIDGE, "helo"));
+        assertEquals(CircuitState.CLOSED, dictionaryScraper.getCircuitState(BaseSource.CAMBRIDGE));
+      } finally {
+        server.stop(0);
+      }
+    }
+
+    @Test
+    void refusedSearchShouldNotBeRememberedAsMiss() {
+      mockScraper.setFailure(new HttpStatusException("https://example.org/helo", 403, null));
+      dictionaryScraper.search("helo", MockSource.MOCK_SOURCE_1);
+
+      mockScraper.setFailure(null);
+      dictionaryScraper.search("helo", MockSource.MOCK_SOURCE_1);
+
+      assertEquals(2, mockScraper.getScrapes());
+    }
+
+    @Test
+    void searchRejectedByOpenCircuitShouldNotBeRememberedAsMiss() {
+      dictionaryScraper.setCircuitBreakerSettings(
+          new CircuitBreakerSettings(1, 1, 1, Duration.ofSeconds(10), 1, Duration.ofHours(1), 1));
+      mockScraper.setFailure(new IOException("Read timeout"));
+      dictionaryScraper.search("world", MockSource.MOCK_SOURCE_1);
+      dictionaryScraper.search("hello", MockSource.MOCK_SOURCE_1);
+
+      dictionaryScraper.setCircuitBreakerSettings(CircuitBreakerSettings.defaults());
+      mockScraper.setFailure(null);
+      dictionaryScraper.search("hello", MockSource.MOCK_SOURCE_1);
+
+      assertEquals(2, mockScraper.getScrapes());
+    }
+  }
+
+  @Nested
+  class WhenPrefetchAudio {
+    private static final byte[] AUDIO = "audio".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir Path directory;
+
+    private HttpServer server;
+    private AudioPrefetcher prefetcher;
+    private MockScraper mockScraper;
+    private volatile CountDownLatch downloadsAllowed = new CountDownLatch(0);
+
+    @BeforeEach
+    void init() throws IOException {
+      server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+      server.createContext(
+          "/",
+          exchange -> {
+            try {
+              downloadsAllowed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, AUDIO.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+              body.write(AUDIO);
+            }
+          });
+      server.start();
+      prefetcher =
+          new AudioPrefetcher(
+              new AudioStore(directory),
+              AudioPrefetchSettings.defaults(),
+              new RateLimiterRegistry(new RateLimit(1000, 1000)));
+
+      String audio = String.format("http://127.0.0.1:%d/hello.mp3", server.getAddress().getPort());
+      mockScraper = new MockScraper();
+      mockScraper.setSource(MockSource.MOCK_SOURCE_1);
+      mockScraper.register(dictionaryScraper);
+      mockScraper.setDictionaryEntry(
+          new DictionaryEntry(
+              List.of("hello"),
+              Map.of(Region.UK, List.of(new IpaInfo("", "/heˈləʊ/", audio))),
+              List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+      prefetcher.close();
+      server.stop(0);
+    }
+
+    @Test
+    void prefetcherCanNotBeNull() {
+      Exception exception =
+          assertThrows(
+              IllegalArgumentException.class, () -> dictionaryScraper.setAudioPrefetcher(null));
+      assertEquals("audioPrefetcher can not be null", exception.getMessage());
+    }
+
+    @Test
+    void searchesShouldNotWaitForDownloads()
+        throws ExecutionException, InterruptedException, TimeoutException {
+      dictionaryScraper.setAudioPrefetcher(prefetcher);
+      downloadsAllowed = new CountDownLatch(1);
+
+      try {
+        DictionaryWord searched = dictionaryScraper.search("hello", MockSource.MOCK_SOURCE_1);
+        DictionaryWord searchedAsync =
+            dictionaryScraper
+                .searchAsync("hello", MockSource.MOCK_SOURCE_1)
+                .get(1, TimeUnit.SECONDS);
+
+        assertNull(searched.entry().ipaListings().get(Region.UK).getFirst().localAudio());
+        assertNull(searchedAsync.entry().ipaListings().get(Region.UK).getFirst().localAudio());
+      } finally {
+        downloadsAllowed.countDown();
+      }
+    }
+
+    @Test
+    void entriesShouldCarryLocalAudioOnceDownloaded()
+        throws IOException, ExecutionException, InterruptedException {
+      dictionaryScraper.setAudioPrefetcher(prefetcher);
+
+      DictionaryWord first = dictionaryScraper.search("hello", MockSource.MOCK_SOURCE_1);
+      prefetcher.prefetch(first.entry()).get();
+      DictionaryWord searched = dictionaryScraper.search("hello", MockSource.MOCK_SOURCE_1);
+      DictionaryWord searchedAsync =
+          dictionaryScraper.searchAsync("hello", MockSource.MOCK_SOURCE_1).get();
+
+      String localAudio = searched.entry().ipaListings().get(Region.UK).getFirst().localAudio();
+      assertArrayEquals(AUDIO, Files.readAllBytes(Path.of(localAudio)));
+      assertEquals(
+          localAudio, searchedAsync.entry().ipaListings().get(Region.UK).getFirst().localAudio());
+    }
+
+    @Test
+    void cachedEntriesShouldBeReplacedOnceDownloaded() throws InterruptedException {
+      DictionaryEntryCache cache =
+          new DictionaryEntryCache(DictionaryEntryCacheSettings.defaults());
+      dictionaryScraper.setDictionaryEntryCache(cache);
+      dictionaryScraper.setAudioPrefetcher(prefetcher);
+
+      dictionaryScraper.search("hello", MockSource.MOCK_SOURCE_1);
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      String localAudio = null;
+      while (localAudio == null && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+        DictionaryEntry cached = cache.get(MockSource.MOCK_SOURCE_1, "hello");
+        localAudio = cached.ipaListings().get(Region.UK).getFirst().localAudio();
+      }
+
+      assertNotNull(localAudio);
+      assertEquals(1, mockScraper.getScrapes());
+    }
+
+    @Test
+    void entriesShouldNotBePrefetchedByDefault() {
+      DictionaryWord searched = dictionaryScraper.search("hello", MockSource.MOCK_SOURCE_1);
+
+      assertNull(searched.entry().ipaListings().get(Region.UK).getFirst().localAudio());
+    }
+  }
+
+  static class MultiConstructorScraper extends MockScraper {
+    MultiConstructorScraper(RateLimiterRegistry rateLimiters) {}
+
+    MultiConstructorScraper() {}
+  }
+
+  static class ArgConstructorScraper extends MockScraper {
+    ArgConstructorScraper(RateLimiterRegistry rateLimiters) {}
+  }
 }
@@ -0,0 +1,100 @@
+package io.github.khshourov.dictionaryscraper.archives;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PackFileTest {
+  @TempDir Path directory;
+
+  private Path pages;
+  private Path file;
+
+  @BeforeEach
+  void init() throws IOException {
+    pages = directory.resolve("pages");
+    file = directory.resolve("pages.pack");
+
+    write("meaning/hello.html", "<html>hello</html>");
+    write("meaning/present.html", "<html>présent</html>");
+    write("pronunciation/hello.html", "<html>/həˈləʊ/</html>");
+    write("pronunciation/notes.txt", "not a page");
+  }
+
+  @Nested
+  class WhenBuild {
+    @Test
+    void pagesShouldBeCountedPerPurpose() throws IOException {
+      assertEquals(3, PackFileBuilder.build(pages, file));
+
+      try (PackFile packFile = new PackFile(file)) {
+        assertEquals(3, packFile.size());
+      }
+    }
+
+    @Test
+    void fileThatIsNotAPackShouldBeRejected() throws IOException {
+      Files.writeString(file, "x".repeat(PackFile.HEADER_SIZE));
+
+      assertThrows(IOException.class, () -> new PackFile(file));
+    }
+  }
+
+  @Nested
+  class WhenGet {
+    @BeforeEach
+    void init() throws IOException {
+      PackFileBuilder.build(pages, file);
+    }
+
+    @Test
+    void pageShouldBeServedByWordAndPurpose() throws IOException {
+      try (PackFile packFile = new PackFile(file)) {
+        assertEquals("<html>hello</html>", text(packFile, "hello", ReadingPurpose.MEANING));
+        assertEquals("<html>présent</html>", text(packFile, "present", ReadingPurpose.MEANING));
+        assertEquals(
+            "<html>/həˈləʊ/</html>", text(packFile, "hello", ReadingPurpose.PRONUNCIATION));
+      }
+    }
+
+    @Test
+    void missingPageShouldBeNull() throws IOException {
+      try (PackFile packFile = new PackFile(file)) {
+        assertNull(text(packFile, "present", ReadingPurpose.PRONUNCIATION));
+        assertNull(text(packFile, "notes", ReadingPurpose.PRONUNCIATION));
+      }
+    }
+
+    @Test
+    void pagesShouldBeServedAcrossSegments() throws IOException {
+      try (PackFile packFile = new PackFile(file, 8)) {
+        assertEquals("<html>hello</html>", text(packFile, "hello", ReadingPurpose.MEANING));
+        assertEquals("<html>présent</html>", text(packFile, "present", ReadingPurpose.MEANING));
+        assertEquals(
+            "<html>/həˈləʊ/</html>", text(packFile, "hello", ReadingPurpose.PRONUNCIATION));
+      }
+    }
+  }
+
+  private static String text(PackFile packFile, String word, ReadingPurpose purpose) {
+    ByteBuffer body = packFile.get(word, purpose);
+    return body == null ? null : StandardCharsets.UTF_8.decode(body).toString();
+  }
+
+  private void write(String page, String body) throws IOException {
+    Path path = pages.resolve(page);
+    Files.createDirectories(path.getParent());
+    Files.writeString(path, body);
+  }
+}
@@ -0,0 +1,54 @@
+package io.github.khshourov.dictionaryscraper.caches;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AudioStoreTest {
+  private static final byte[] HELLO = "hello".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] WORLD = "world".getBytes(StandardCharsets.UTF_8);
+
+  @TempDir Path directory;
+
+  @Test
+  void directoryCanNotBeNull() {
+    assertThrows(IllegalArgumentException.class, () -> new AudioStore(null));
+  }
+
+  @Test
+  void storedFileShouldBeNamedAfterItsContent() throws IOException {
+    AudioStore audioStore = new AudioStore(directory);
+
+    Path file = audioStore.put(HELLO, "mp3");
+
+    assertArrayEquals(HELLO, Files.readAllBytes(file));
+    assertEquals(
+        "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824.mp3",
+        file.getFileName().toString());
+    assertEquals(directory.resolve("2c"), file.getParent());
+  }
+
+  @Test
+  void sameContentShouldBeStoredOnce() throws IOException {
+    AudioStore audioStore = new AudioStore(directory);
+
+    Path first = audioStore.put(HELLO, "mp3");
+    Path second = audioStore.put(HELLO.clone(), "mp3");
+    Path other = audioStore.put(WORLD, "mp3");
+
+    assertEquals(first, second);
+    assertNotEquals(first, other);
+    try (Stream<Path> files = Files.walk(directory)) {
+      assertEquals(2, files.filter(Files::isRegularFile).count());
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package io.github.khshourov.dictionaryscraper.caches;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.github.khshourov.dictionaryscraper.mocks.MockSource;
+import io.github.khshourov.dictionaryscraper.models.CacheStats;
+import io.github.khshourov.dictionaryscraper.models.DictionaryEntry;
+import io.github.khshourov.dictionaryscraper.models.DictionaryEntryCacheSettings;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class DictionaryEntryCacheTest {
+  private static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+
+  private long now;
+  private DictionaryEntryCache cache;
+
+  @BeforeEach
+  void init() {
+    now = 0L;
+    cache = new DictionaryEntryCache(new DictionaryEntryCacheSettings(30, TIME_TO_LIVE), () -> now);
+  }
+
+  @Nested
+  class WhenGet {
+    @Test
+    void cachedEntryShouldBeReturned() {
+      DictionaryEntry entry = entryOf("hello");
+      cache.put(MockSource.MOCK_SOURCE_1, "hello", entry);
+
+      assertSame(entry, cache.get(MockSource.MOCK_SOURCE_1, "hello"));
+      assertNull(cache.get(MockSource.MOCK_SOURCE_2, "hello"));
+      assertEquals(new CacheStats(1, 1, 0, 0), cache.stats());
+    }
+
+    @Test
+    void expiredEntryShouldNotBeReturned() {
+      cache.put(MockSource.MOCK_SOURCE_1, "hello", entryOf("hello"));
+
+      now += TIME_TO_LIVE.toNanos();
+
+      assertNull(cache.get(MockSource.MOCK_SOURCE_1, "hello"));
+      assertEquals(new CacheStats(0, 1, 1, 0), cache.stats());
+      assertEquals(0, cache.weight());
+    }
+  }
+
+  @Nested
+  class WhenPut {
+    @Test
+    void weightShouldFollowSizeOfEntries() {
+      cache.put(MockSource.MOCK_SOURCE_1, "hello", entryOf("hello"));
+      cache.put(MockSource.MOCK_SOURCE_1, "present", entryOf("present"));
+
+      assertEquals("hello".length() + "present".length(), cache.weight());
+    }
+
+    @Test
+    void entryLargerThanCacheShouldBeRejected() {
+      cache.put(MockSource.MOCK_SOURCE_1, "long", entryOf("x".repeat(31)));
+
+      assertEquals(0, cache.weight());
+      assertEquals(1, cache.stats().rejections());
+    }
+
+    @Test
+    void popularEntryShouldNotBeEvictedByOneOffEntry() {
+      cache.put(MockSource.MOCK_SOURCE_1, "hello", entryOf("x".repeat(20)));
+      cache.get(MockSource.MOCK_SOURCE_1, "hello");
+      cache.get(MockSource.MOCK_SOURCE_1, "hello");
+
+      cache.get(MockSource.MOCK_SOURCE_1, "rare");
+      cache.put(MockSource.MOCK_SOURCE_1, "rare", entryOf("y".repeat(20)));
+
+      assertNull(cache.get(MockSource.MOCK_SOURCE_1, "rare"));
+      assertEquals(20, cache.weight());
+      assertEquals(1, cache.stats().rejections());
+    }
+
+    @Test
+    void moreFrequentEntryShouldEvictLessFrequentOnes() {
+      cache.put(MockSource.MOCK_SOURCE_1, "hello", entryOf("x".repeat(15)));
+      cache.put(MockSource.MOCK_SOURCE_1, "world", entryOf("x".repeat(15)));
+      for (int i = 0; i < 3; i++) {
+        cache.get(MockSource.MOCK_SOURCE_1, "present");
+      }
+
+      cache.put(MockSource.MOCK_SOURCE_1, "present", entryOf("y".repeat(20)));
+
+      assertNull(cache.get(MockSource.MOCK_SOURCE_1, "hello"));
+      assertNull(cache.get(MockSource.MOCK_SOURCE_1, "world"));
+      assertEquals(20, cache.weight());
+      assertEquals(2, cache.stats().evictions());
+    }
+  }
+
+  private static DictionaryEntry entryOf(String link) {
+    return new DictionaryEntry(List.of(link), Map.of(), List.of());
+  }
+}
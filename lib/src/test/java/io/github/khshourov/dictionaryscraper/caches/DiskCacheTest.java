@@ -0,0 +1,92 @@
+package io.github.khshourov.dictionaryscraper.caches;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.github.khshourov.dictionaryscraper.models.DiskCacheSettings;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DiskCacheTest {
+  private static final byte[] PAGE = "<html></html>".getBytes(StandardCharsets.UTF_8);
+
+  @TempDir Path directory;
+
+  @Nested
+  class WhenPut {
+    @Test
+    void storedValueShouldBeRetrieved() throws IOException {
+      DiskCache diskCache = new DiskCache(DiskCacheSettings.defaults(directory));
+
+      diskCache.put("hello", PAGE);
+
+      assertArrayEquals(PAGE, diskCache.get("hello"));
+      assertNull(diskCache.get("present"));
+    }
+
+    @Test
+    void noTemporaryFileShouldBeLeftBehind() throws IOException {
+      DiskCache diskCache = new DiskCache(DiskCacheSettings.defaults(directory));
+
+      diskCache.put("hello", PAGE);
+      diskCache.put("hello", PAGE);
+
+      try (Stream<Path> files = Files.list(directory)) {
+        assertEquals(1, files.count());
+      }
+    }
+
+    @Test
+    void leastRecentlyUsedValueShouldBeEvicted() throws IOException {
+      DiskCache diskCache =
+          new DiskCache(new DiskCacheSettings(directory, Duration.ofDays(1), 2L * PAGE.length));
+
+      diskCache.put("hello", PAGE);
+      diskCache.put("present", PAGE);
+      diskCache.get("hello");
+      diskCache.put("world", PAGE);
+
+      assertArrayEquals(PAGE, diskCache.get("hello"));
+      assertNull(diskCache.get("present"));
+      assertEquals(2L * PAGE.length, diskCache.size());
+    }
+  }
+
+  @Nested
+  class WhenGet {
+    @Test
+    void expiredValueShouldNotBeRetrieved() throws IOException {
+      DiskCache diskCache =
+          new DiskCache(new DiskCacheSettings(directory, Duration.ofHours(1), 1024));
+      diskCache.put("hello", PAGE);
+
+      try (Stream<Path> files = Files.list(directory)) {
+        Path file = files.findFirst().orElseThrow();
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+      }
+
+      assertNull(diskCache.get("hello"));
+      assertEquals(0L, diskCache.size());
+    }
+
+    @Test
+    void valueOfEarlierRunShouldBeRetrieved() throws IOException {
+      new DiskCache(DiskCacheSettings.defaults(directory)).put("hello", PAGE);
+
+      DiskCache diskCache = new DiskCache(DiskCacheSettings.defaults(directory));
+
+      assertEquals(PAGE.length, diskCache.size());
+      assertArrayEquals(PAGE, diskCache.get("hello"));
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package io.github.khshourov.dictionaryscraper.caches;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.khshourov.dictionaryscraper.mocks.MockSource;
+import io.github.khshourov.dictionaryscraper.models.CacheStats;
+import io.github.khshourov.dictionaryscraper.models.NegativeCacheSettings;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NegativeCacheTest {
+  private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+  private long now;
+  private NegativeCache cache;
+
+  @BeforeEach
+  void init() {
+    now = 0L;
+    cache = new NegativeCache(new NegativeCacheSettings(2, TIME_TO_LIVE), () -> now);
+  }
+
+  @Test
+  void missShouldBeRememberedPerSource() {
+    cache.put(MockSource.MOCK_SOURCE_1, "helo");
+
+    assertTrue(cache.contains(MockSource.MOCK_SOURCE_1, "helo"));
+    assertFalse(cache.contains(MockSource.MOCK_SOURCE_2, "helo"));
+    assertEquals(new CacheStats(1, 1, 0, 0), cache.stats());
+  }
+
+  @Test
+  void missShouldBeForgottenAfterTimeToLive() {
+    cache.put(MockSource.MOCK_SOURCE_1, "helo");
+
+    now += TIME_TO_LIVE.toNanos();
+
+    assertFalse(cache.contains(MockSource.MOCK_SOURCE_1, "helo"));
+    assertEquals(1, cache.stats().evictions());
+  }
+
+  @Test
+  void leastRecentlyUsedMissShouldBeForgottenWhenFull() {
+    cache.put(MockSource.MOCK_SOURCE_1, "helo");
+    cache.put(MockSource.MOCK_SOURCE_1, "wrld");
+    cache.contains(MockSource.MOCK_SOURCE_1, "helo");
+    cache.put(MockSource.MOCK_SOURCE_1, "prsent");
+
+    assertTrue(cache.contains(MockSource.MOCK_SOURCE_1, "helo"));
+    assertFalse(cache.contains(MockSource.MOCK_SOURCE_1, "wrld"));
+  }
+}
@@ -0,0 +1,139 @@
+package io.github.khshourov.dictionaryscraper.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.github.khshourov.dictionaryscraper.enums.CircuitState;
+import io.github.khshourov.dictionaryscraper.models.CircuitBreakerSettings;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+  private static final Duration FAST = Duration.ofMillis(10);
+  private static final Duration SLOW = Duration.ofSeconds(2);
+  private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+  private long now;
+  private CircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  void init() {
+    now = 0L;
+    circuitBreaker =
+        new CircuitBreaker(
+            new CircuitBreakerSettings(4, 2, 0.5, Duration.ofSeconds(1), 0.75, OPEN_DURATION, 2),
+            () -> now);
+  }
+
+  @Nested
+  class WhenClosed {
+    @Test
+    void circuitShouldOpenAtFailureRate() {
+      circuitBreaker.tryAcquire().onSuccess(FAST);
+      circuitBreaker.tryAcquire().onFailure();
+
+      assertEquals(CircuitState.OPEN, circuitBreaker.getState());
+      assertNull(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void circuitShouldNotOpenBeforeMinimumNumberOfCalls() {
+      circuitBreaker.tryAcquire().onFailure();
+
+      assertEquals(CircuitState.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void circuitShouldOpenAtSlowCallRate() {
+      circuitBreaker.tryAcquire().onSuccess(FAST);
+      circuitBreaker.tryAcquire().onSuccess(SLOW);
+      circuitBreaker.tryAcquire().onSuccess(SLOW);
+
+      assertEquals(CircuitState.CLOSED, circuitBreaker.getState());
+
+      circuitBreaker.tryAcquire().onSuccess(SLOW);
+
+      assertEquals(CircuitState.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void oldOutcomesShouldSlideOutOfWindow() {
+      CircuitBreaker.Permit failed = circuitBreaker.tryAcquire();
+      for (int i = 0; i < 4; i++) {
+        circuitBreaker.tryAcquire().onSuccess(FAST);
+      }
+      failed.onFailure();
+      circuitBreaker.tryAcquire().onSuccess(FAST);
+
+      assertEquals(CircuitState.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void ignoredAndRepeatedReportsShouldNotCount() {
+      CircuitBreaker.Permit permit = circuitBreaker.tryAcquire();
+      permit.onIgnored();
+      permit.onFailure();
+      circuitBreaker.tryAcquire().onIgnored();
+
+      assertEquals(CircuitState.CLOSED, circuitBreaker.getState());
+    }
+  }
+
+  @Nested
+  class WhenOpen {
+    @BeforeEach
+    void init() {
+      circuitBreaker.tryAcquire().onFailure();
+      circuitBreaker.tryAcquire().onFailure();
+    }
+
+    @Test
+    void circuitShouldHalfOpenAfterOpenDuration() {
+      now += OPEN_DURATION.toNanos();
+
+      assertEquals(CircuitState.HALF_OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void onlyProbeCallsShouldBePermittedWhileHalfOpen() {
+      now += OPEN_DURATION.toNanos();
+
+      assertNotNull(circuitBreaker.tryAcquire());
+      assertNotNull(circuitBreaker.tryAcquire());
+      assertNull(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void circuitShouldCloseWhenProbesSucceed() {
+      now += OPEN_DURATION.toNanos();
+
+      circuitBreaker.tryAcquire().onSuccess(FAST);
+      circuitBreaker.tryAcquire().onSuccess(FAST);
+
+      assertEquals(CircuitState.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void circuitShouldReopenWhenProbeFails() {
+      now += OPEN_DURATION.toNanos();
+
+      circuitBreaker.tryAcquire().onSuccess(FAST);
+      circuitBreaker.tryAcquire().onFailure();
+
+      assertEquals(CircuitState.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void ignoredProbeShouldFreeItsSlot() {
+      now += OPEN_DURATION.toNanos();
+
+      circuitBreaker.tryAcquire().onIgnored();
+
+      assertNotNull(circuitBreaker.tryAcquire());
+      assertNotNull(circuitBreaker.tryAcquire());
+    }
+  }
+}
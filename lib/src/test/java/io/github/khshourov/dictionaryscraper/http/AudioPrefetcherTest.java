@@ -0,0 +1,182 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.khshourov.dictionaryscraper.caches.AudioStore;
+import io.github.khshourov.dictionaryscraper.enums.Region;
+import io.github.khshourov.dictionaryscraper.models.AudioPrefetchSettings;
+import io.github.khshourov.dictionaryscraper.models.DictionaryEntry;
+import io.github.khshourov.dictionaryscraper.models.IpaInfo;
+import io.github.khshourov.dictionaryscraper.models.RateLimit;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AudioPrefetcherTest {
+  private static final String LOOPBACK = "127.0.0.1";
+  private static final byte[] UK_AUDIO = "uk audio".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] US_AUDIO = "us audio".getBytes(StandardCharsets.UTF_8);
+
+  @TempDir Path directory;
+
+  private final Map<String, AtomicInteger> downloads = new ConcurrentHashMap<>();
+  private HttpServer server;
+  private String baseUri;
+  private AudioPrefetcher prefetcher;
+
+  @BeforeEach
+  void init() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(LOOPBACK, 0), 0);
+    server.createContext("/", this::handle);
+    server.start();
+    baseUri = String.format("http://%s:%d", LOOPBACK, server.getAddress().getPort());
+
+    prefetcher =
+        new AudioPrefetcher(
+            new AudioStore(directory),
+            new AudioPrefetchSettings(2, Duration.ofSeconds(5), 1024, 1),
+            new RateLimiterRegistry(new RateLimit(1000, 1000)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    prefetcher.close();
+    server.stop(0);
+  }
+
+  @Test
+  void entryCanNotBeNull() {
+    assertThrows(IllegalArgumentException.class, () -> prefetcher.prefetch(null));
+  }
+
+  @Test
+  void pronunciationsShouldCarryLocalCopies()
+      throws ExecutionException, InterruptedException, IOException {
+    DictionaryEntry entry =
+        entryOf(
+            List.of(new IpaInfo("noun", "/ˈprez.ənt/", baseUri + "/uk.mp3")),
+            List.of(new IpaInfo("noun", "/ˈprez.ənt/", baseUri + "/us.mp3")));
+
+    DictionaryEntry prefetched = prefetcher.prefetch(entry).get();
+
+    IpaInfo uk = prefetched.ipaListings().get(Region.UK).getFirst();
+    IpaInfo us = prefetched.ipaListings().get(Region.US).getFirst();
+    assertEquals(baseUri + "/uk.mp3", uk.audio());
+    assertArrayEquals(UK_AUDIO, Files.readAllBytes(Path.of(uk.localAudio())));
+    assertArrayEquals(US_AUDIO, Files.readAllBytes(Path.of(us.localAudio())));
+  }
+
+  @Test
+  void sharedAudioShouldBeDownloadedOnce() throws ExecutionException, InterruptedException {
+    DictionaryEntry entry =
+        entryOf(
+            List.of(
+                new IpaInfo("noun", "/ˈprez.ənt/", baseUri + "/uk.mp3"),
+                new IpaInfo("adjective", "/ˈprez.ənt/", baseUri + "/uk.mp3")),
+            List.of());
+
+    DictionaryEntry prefetched = prefetcher.prefetch(entry).get();
+    prefetcher.prefetch(entry).get();
+
+    List<IpaInfo> uk = prefetched.ipaListings().get(Region.UK);
+    assertEquals(uk.get(0).localAudio(), uk.get(1).localAudio());
+    assertEquals(1, downloads.get("/uk.mp3").get());
+  }
+
+  @Test
+  void failedDownloadShouldLeaveRemoteUrlOnly() throws ExecutionException, InterruptedException {
+    DictionaryEntry entry =
+        entryOf(
+            List.of(new IpaInfo("noun", "/ˈprez.ənt/", baseUri + "/missing.mp3")),
+            List.of(new IpaInfo("noun", "/ˈprez.ənt/", baseUri + "/us.mp3")));
+
+    DictionaryEntry prefetched = prefetcher.prefetch(entry).get();
+
+    IpaInfo uk = prefetched.ipaListings().get(Region.UK).getFirst();
+    assertEquals(baseUri + "/missing.mp3", uk.audio());
+    assertNull(uk.localAudio());
+    assertEquals(1, downloads.get("/us.mp3").get());
+  }
+
+  @Test
+  void storedAudioShouldBeAttachedWithoutDownloading()
+      throws ExecutionException, InterruptedException {
+    DictionaryEntry entry =
+        entryOf(
+            List.of(new IpaInfo("noun", "/ˈprez.ənt/", baseUri + "/uk.mp3")),
+            List.of(new IpaInfo("noun", "/ˈprez.ənt/", baseUri + "/us.mp3")));
+    DictionaryEntry ukOnly =
+        entryOf(List.of(new IpaInfo("noun", "/ˈprez.ənt/", baseUri + "/uk.mp3")), List.of());
+
+    DictionaryEntry prefetched = prefetcher.prefetch(ukOnly).get();
+    DictionaryEntry stored = prefetcher.withStoredAudio(entry);
+
+    assertEquals(
+        prefetched.ipaListings().get(Region.UK).getFirst().localAudio(),
+        stored.ipaListings().get(Region.UK).getFirst().localAudio());
+    assertNull(stored.ipaListings().get(Region.US).getFirst().localAudio());
+    assertNull(downloads.get("/us.mp3"));
+  }
+
+  @Test
+  void leastRecentlyUsedFilesShouldBeForgotten() throws ExecutionException, InterruptedException {
+    DictionaryEntry uk =
+        entryOf(List.of(new IpaInfo("noun", "/ˈprez.ənt/", baseUri + "/uk.mp3")), List.of());
+    DictionaryEntry us =
+        entryOf(List.of(), List.of(new IpaInfo("noun", "/ˈprez.ənt/", baseUri + "/us.mp3")));
+
+    prefetcher.prefetch(uk).get();
+    prefetcher.prefetch(us).get();
+    prefetcher.prefetch(uk).get();
+
+    assertEquals(2, downloads.get("/uk.mp3").get());
+    assertNull(prefetcher.withStoredAudio(us).ipaListings().get(Region.US).getFirst().localAudio());
+  }
+
+  private static DictionaryEntry entryOf(List<IpaInfo> uk, List<IpaInfo> us) {
+    return new DictionaryEntry(
+        List.of("https://dictionary.cambridge.org/pronunciation/present"),
+        Map.of(Region.UK, uk, Region.US, us),
+        List.of());
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    String path = exchange.getRequestURI().getPath();
+    downloads.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+
+    byte[] body =
+        switch (path) {
+          case "/uk.mp3" -> UK_AUDIO;
+          case "/us.mp3" -> US_AUDIO;
+          default -> null;
+        };
+    if (body == null) {
+      exchange.sendResponseHeaders(404, -1);
+      exchange.close();
+      return;
+    }
+
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream responseBody = exchange.getResponseBody()) {
+      responseBody.write(body);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.khshourov.dictionaryscraper.exceptions.BodyTooLargeException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class BufferPoolTest {
+  private static final byte[] PAGE =
+      "<html><body><div class=\"pron-block\">hello</div></body></html>"
+          .getBytes(StandardCharsets.UTF_8);
+
+  private BufferPool bufferPool;
+
+  @BeforeEach
+  void init() {
+    bufferPool = new BufferPool(8, 4);
+  }
+
+  @Nested
+  class WhenReadFully {
+    @Test
+    void bodyShouldBeReadIntoAnArrayOfItsExactSize() throws IOException {
+      ByteBuffer body = bufferPool.readFully(new ByteArrayInputStream(PAGE), PAGE.length);
+
+      assertEquals(PAGE.length, body.array().length);
+      assertArrayEquals(PAGE, body.array());
+    }
+
+    @Test
+    void emptyBodyShouldBeRead() throws IOException {
+      ByteBuffer body = bufferPool.readFully(new ByteArrayInputStream(new byte[0]), 1);
+
+      assertEquals(0, body.remaining());
+    }
+
+    @Test
+    void chunksShouldBeReturnedToThePool() throws IOException {
+      bufferPool.readFully(new ByteArrayInputStream(PAGE), PAGE.length);
+
+      assertEquals(4, bufferPool.idleChunks());
+    }
+
+    @Test
+    void bodyLargerThanTheLimitShouldBeRejected() {
+      assertThrows(
+          BodyTooLargeException.class,
+          () -> bufferPool.readFully(new ByteArrayInputStream(PAGE), PAGE.length - 1));
+      assertEquals(4, bufferPool.idleChunks());
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ContentDecodersTest {
+  private static final String PAGE =
+      "<html><body><div class=\"pron-block\">hello</div></body></html>";
+
+  private ContentDecoders contentDecoders;
+
+  @BeforeEach
+  void init() {
+    contentDecoders = new ContentDecoders();
+  }
+
+  @Nested
+  class WhenAcceptEncoding {
+    @Test
+    void defaultDecodersShouldBeAdvertised() {
+      assertEquals("gzip, deflate", contentDecoders.acceptEncoding());
+    }
+
+    @Test
+    void registeredDecoderShouldBeAdvertised() {
+      contentDecoders.register("BR", encoded -> encoded);
+
+      assertEquals("gzip, deflate, br", contentDecoders.acceptEncoding());
+    }
+
+    @Test
+    void identityCanNotBeRegistered() {
+      Exception exception =
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> contentDecoders.register("identity", encoded -> encoded));
+      assertEquals("identity encoding can not be registered", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class WhenDecode {
+    @ParameterizedTest
+    @MethodSource("encodedPages")
+    void bodyShouldBeDecodedAccordingToContentEncoding(String contentEncoding, byte[] body)
+        throws IOException {
+      assertEquals(PAGE, decode(body, contentEncoding));
+    }
+
+    @Test
+    void multipleEncodingsShouldBeDecodedInReverseOrder() throws IOException {
+      byte[] body = gzip(deflate(PAGE.getBytes(StandardCharsets.UTF_8), false));
+
+      assertEquals(PAGE, decode(body, "deflate, gzip"));
+    }
+
+    @Test
+    void unsupportedEncodingShouldBeRejected() {
+      byte[] body = PAGE.getBytes(StandardCharsets.UTF_8);
+
+      Exception exception = assertThrows(IOException.class, () -> decode(body, "br"));
+      assertEquals("Unsupported Content-Encoding: br", exception.getMessage());
+    }
+
+    @Test
+    void corruptBodyShouldBeRejected() {
+      assertThrows(IOException.class, () -> decode(PAGE.getBytes(StandardCharsets.UTF_8), "gzip"));
+    }
+
+    static Stream<Arguments> encodedPages() throws IOException {
+      byte[] page = PAGE.getBytes(StandardCharsets.UTF_8);
+
+      return Stream.of(
+          arguments("", page),
+          arguments(null, page),
+          arguments("identity", page),
+          arguments("gzip", gzip(page)),
+          arguments("GZIP", gzip(page)),
+          arguments("deflate", deflate(page, false)),
+          arguments("deflate", deflate(page, true)));
+    }
+  }
+
+  private String decode(byte[] body, String contentEncoding) throws IOException {
+    try (InputStream decoded =
+        contentDecoders.decode(new ByteArrayInputStream(body), contentEncoding)) {
+      return new String(decoded.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private static byte[] gzip(byte[] data) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (OutputStream gzip = new GZIPOutputStream(output)) {
+      gzip.write(data);
+    }
+
+    return output.toByteArray();
+  }
+
+  private static byte[] deflate(byte[] data, boolean raw) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (OutputStream deflate =
+        new DeflaterOutputStream(output, new Deflater(Deflater.DEFAULT_COMPRESSION, raw))) {
+      deflate.write(data);
+    }
+
+    return output.toByteArray();
+  }
+}
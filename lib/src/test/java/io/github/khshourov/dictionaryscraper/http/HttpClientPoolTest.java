@@ -0,0 +1,103 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.khshourov.dictionaryscraper.models.ConnectionPoolSettings;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class HttpClientPoolTest {
+  private static final String BASE_URI = "https://dictionary.cambridge.org";
+
+  private HttpClientPool pool = new HttpClientPool();
+
+  @AfterEach
+  void tearDown() {
+    pool.close();
+  }
+
+  @Nested
+  class WhenLease {
+    @Test
+    void sameBaseUriShouldShareOneClient() throws InterruptedException {
+      HttpClient first;
+      try (HttpClientPool.Lease lease = pool.lease(BASE_URI)) {
+        first = lease.client();
+      }
+
+      try (HttpClientPool.Lease lease = pool.lease(BASE_URI)) {
+        assertSame(first, lease.client());
+      }
+    }
+
+    @Test
+    void differentBaseUrisShouldUseDifferentClients() throws InterruptedException {
+      try (HttpClientPool.Lease cambridge = pool.lease(BASE_URI);
+          HttpClientPool.Lease other = pool.lease("https://example.com")) {
+        assertNotSame(cambridge.client(), other.client());
+      }
+    }
+
+    @Test
+    void pooledClientShouldPreferHttp2() throws InterruptedException {
+      try (HttpClientPool.Lease lease = pool.lease(BASE_URI)) {
+        assertEquals(HttpClient.Version.HTTP_2, lease.client().version());
+      }
+    }
+
+    @Test
+    void idleClientShouldBeReplaced() throws InterruptedException {
+      pool.close();
+      pool =
+          new HttpClientPool(
+              new ConnectionPoolSettings(
+                  Duration.ofSeconds(1), 1, Duration.ofMillis(1), HttpClient.Version.HTTP_2));
+
+      HttpClient first;
+      try (HttpClientPool.Lease lease = pool.lease(BASE_URI)) {
+        first = lease.client();
+      }
+
+      Thread.sleep(20);
+
+      try (HttpClientPool.Lease lease = pool.lease(BASE_URI)) {
+        assertNotSame(first, lease.client());
+      }
+    }
+
+    @Test
+    void closedPoolCanNotBeLeased() {
+      pool.close();
+
+      Exception exception = assertThrows(IllegalStateException.class, () -> pool.lease(BASE_URI));
+      assertEquals("client pool is closed", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class WhenCreate {
+    @Test
+    void settingsCanNotBeNull() {
+      Exception exception =
+          assertThrows(IllegalArgumentException.class, () -> new HttpClientPool(null));
+      assertEquals("settings can not be null", exception.getMessage());
+    }
+
+    @Test
+    void maxConnectionsShouldBePositive() {
+      Exception exception =
+          assertThrows(
+              IllegalArgumentException.class,
+              () ->
+                  new ConnectionPoolSettings(
+                      Duration.ofSeconds(1), 0, Duration.ofMinutes(1), HttpClient.Version.HTTP_2));
+      assertEquals("maxConnections must be at least 1", exception.getMessage());
+    }
+  }
+}
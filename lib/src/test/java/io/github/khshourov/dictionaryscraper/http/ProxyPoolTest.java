@@ -0,0 +1,202 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.khshourov.dictionaryscraper.enums.CircuitState;
+import io.github.khshourov.dictionaryscraper.enums.ProxySelection;
+import io.github.khshourov.dictionaryscraper.exceptions.BodyTooLargeException;
+import io.github.khshourov.dictionaryscraper.exceptions.CircuitOpenException;
+import io.github.khshourov.dictionaryscraper.exceptions.HttpStatusException;
+import io.github.khshourov.dictionaryscraper.models.CircuitBreakerSettings;
+import io.github.khshourov.dictionaryscraper.models.ProxyPoolSettings;
+import io.github.khshourov.dictionaryscraper.models.RateLimit;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ProxyPoolTest {
+  private static final InetSocketAddress FIRST = InetSocketAddress.createUnresolved("first", 3128);
+  private static final InetSocketAddress SECOND =
+      InetSocketAddress.createUnresolved("second", 3128);
+  private static final InetSocketAddress THIRD = InetSocketAddress.createUnresolved("third", 3128);
+  private static final List<InetSocketAddress> PROXIES = List.of(FIRST, SECOND, THIRD);
+  private static final CircuitBreakerSettings EJECT_ON_FIRST_FAILURE =
+      new CircuitBreakerSettings(1, 1, 1, Duration.ofSeconds(10), 1, Duration.ofHours(1), 1);
+
+  private ProxyPool pool;
+
+  @AfterEach
+  void tearDown() {
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  @Test
+  void proxiesCanNotBeEmpty() {
+    assertThrows(IllegalArgumentException.class, () -> new ProxyPool(List.of()));
+  }
+
+  @Test
+  void executionModeCanNotBeNull() {
+    Exception exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ProxyPool(PROXIES, ProxyPoolSettings.defaults(), null));
+    assertEquals("executionMode can not be null", exception.getMessage());
+  }
+
+  @Nested
+  class WhenSelect {
+    @Test
+    void roundRobinShouldRotateProxies() throws Exception {
+      pool = new ProxyPool(PROXIES, settingsOf(ProxySelection.ROUND_ROBIN, new RateLimit(100, 10)));
+
+      List<InetSocketAddress> picked = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        try (ProxyPool.Lease lease = pool.lease()) {
+          picked.add(lease.address());
+        }
+      }
+
+      assertEquals(List.of(FIRST, SECOND, THIRD, FIRST), picked);
+    }
+
+    @Test
+    void leastLoadedShouldPreferIdleProxies() throws Exception {
+      pool =
+          new ProxyPool(PROXIES, settingsOf(ProxySelection.LEAST_LOADED, new RateLimit(100, 10)));
+
+      try (ProxyPool.Lease first = pool.lease();
+          ProxyPool.Lease second = pool.lease()) {
+        for (int i = 0; i < 3; i++) {
+          try (ProxyPool.Lease lease = pool.lease()) {
+            assertEquals(THIRD, lease.address());
+          }
+        }
+        assertEquals(List.of(FIRST, SECOND), List.of(first.address(), second.address()));
+      }
+    }
+  }
+
+  @Nested
+  class WhenReportFailure {
+    @Test
+    void failingProxyShouldBeEjected() throws Exception {
+      pool = new ProxyPool(PROXIES, settingsOf(ProxySelection.ROUND_ROBIN, new RateLimit(100, 10)));
+
+      try (ProxyPool.Lease lease = pool.lease()) {
+        lease.onFailure(new ConnectException("Connection refused"));
+      }
+
+      assertEquals(CircuitState.OPEN, pool.getState(FIRST));
+      for (int i = 0; i < 4; i++) {
+        try (ProxyPool.Lease lease = pool.lease()) {
+          assertFalse(lease.address().equals(FIRST));
+        }
+      }
+    }
+
+    @Test
+    void answerOfServerShouldNotEjectProxy() throws Exception {
+      pool = new ProxyPool(PROXIES, settingsOf(ProxySelection.ROUND_ROBIN, new RateLimit(100, 10)));
+
+      try (ProxyPool.Lease lease = pool.lease()) {
+        lease.onFailure(new HttpStatusException("http://example.com", 429, null));
+      }
+
+      assertEquals(CircuitState.CLOSED, pool.getState(FIRST));
+    }
+
+    @Test
+    void failureToConnectShouldEjectProxyWhenWrapped() throws Exception {
+      pool = new ProxyPool(PROXIES, settingsOf(ProxySelection.ROUND_ROBIN, new RateLimit(100, 10)));
+
+      try (ProxyPool.Lease lease = pool.lease()) {
+        lease.onFailure(new IOException(new HttpConnectTimeoutException("Connect timed out")));
+      }
+
+      assertEquals(CircuitState.OPEN, pool.getState(FIRST));
+    }
+
+    @Test
+    void refusalOfProxyShouldEjectProxy() throws Exception {
+      pool = new ProxyPool(PROXIES, settingsOf(ProxySelection.ROUND_ROBIN, new RateLimit(100, 10)));
+
+      try (ProxyPool.Lease lease = pool.lease()) {
+        lease.onFailure(new HttpStatusException("http://example.com", 407, null));
+      }
+
+      assertEquals(CircuitState.OPEN, pool.getState(FIRST));
+    }
+
+    @Test
+    void failuresPastTheProxyShouldNotEjectProxy() throws Exception {
+      pool = new ProxyPool(PROXIES, settingsOf(ProxySelection.ROUND_ROBIN, new RateLimit(100, 10)));
+
+      for (IOException failure :
+          List.of(
+              new HttpTimeoutException("http://example.com timed out after PT10S"),
+              new BodyTooLargeException(1024),
+              new IOException("Connection reset"))) {
+        try (ProxyPool.Lease lease = pool.lease()) {
+          lease.onFailure(failure);
+        }
+      }
+
+      assertEquals(CircuitState.CLOSED, pool.getState(FIRST));
+      assertEquals(CircuitState.CLOSED, pool.getState(SECOND));
+      assertEquals(CircuitState.CLOSED, pool.getState(THIRD));
+    }
+
+    @Test
+    void leaseShouldFailOnceEveryProxyIsEjected() throws Exception {
+      pool = new ProxyPool(PROXIES, settingsOf(ProxySelection.ROUND_ROBIN, new RateLimit(100, 10)));
+      for (int i = 0; i < PROXIES.size(); i++) {
+        try (ProxyPool.Lease lease = pool.lease()) {
+          lease.onFailure(new ConnectException("Connection refused"));
+        }
+      }
+
+      assertThrows(CircuitOpenException.class, () -> pool.lease());
+      assertTrue(pool.leaseAsync().isCompletedExceptionally());
+    }
+  }
+
+  @Nested
+  class WhenRateLimited {
+    @Test
+    void everyProxyShouldHaveItsOwnBudget() {
+      pool =
+          new ProxyPool(
+              List.of(FIRST, SECOND),
+              settingsOf(ProxySelection.ROUND_ROBIN, new RateLimit(0.5, 1)));
+
+      CompletableFuture<ProxyPool.Lease> first = pool.leaseAsync();
+      CompletableFuture<ProxyPool.Lease> second = pool.leaseAsync();
+      CompletableFuture<ProxyPool.Lease> third = pool.leaseAsync();
+
+      assertTrue(first.isDone());
+      assertTrue(second.isDone());
+      assertFalse(third.isDone());
+      third.cancel(false);
+    }
+  }
+
+  private static ProxyPoolSettings settingsOf(ProxySelection selection, RateLimit rateLimit) {
+    return new ProxyPoolSettings(
+        selection, rateLimit, EJECT_ON_FIRST_FAILURE, Duration.ofSeconds(1));
+  }
+}
@@ -0,0 +1,70 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class StopMarkerInputStreamTest {
+  private static final String UK = "<div data-id=\"cald4\">UK</div>";
+  private static final String US = "<div data-id=\"cacd\">US</div>";
+  private static final String BUSINESS = "<div data-id=\"cbed\">Business</div>";
+
+  @Nested
+  class WhenRead {
+    @Test
+    void streamShouldEndBeforeTheFirstMarker() throws IOException {
+      StopMarkerInputStream input = stopMarkerStream(UK + BUSINESS + US, "cacd", "cbed");
+
+      assertEquals(UK + "<div data-id=\"", read(input));
+      assertTrue(input.isStopped());
+    }
+
+    @Test
+    void streamWithoutMarkerShouldBeReadWhole() throws IOException {
+      StopMarkerInputStream input = stopMarkerStream(UK, "cacd");
+
+      assertEquals(UK, read(input));
+      assertFalse(input.isStopped());
+    }
+
+    @Test
+    void markerSplitBetweenReadsShouldBeFound() throws IOException {
+      String head = "x".repeat(8 * 1024 - 2);
+      InputStream trickle = new ByteArrayInputStream((head + US).getBytes(StandardCharsets.UTF_8)) {
+        @Override
+        public synchronized int read(byte[] bytes, int offset, int length) {
+          return super.read(bytes, offset, Math.min(length, 7));
+        }
+      };
+
+      StopMarkerInputStream input =
+          new StopMarkerInputStream(trickle, List.of(US.getBytes(StandardCharsets.UTF_8)));
+
+      assertEquals(head, read(input));
+    }
+
+    @Test
+    void emptyMarkerShouldBeRejected() {
+      assertThrows(IllegalArgumentException.class, () -> stopMarkerStream(UK, ""));
+    }
+  }
+
+  private static StopMarkerInputStream stopMarkerStream(String text, String... markers) {
+    return new StopMarkerInputStream(
+        new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)),
+        List.of(markers).stream().map(marker -> marker.getBytes(StandardCharsets.UTF_8)).toList());
+  }
+
+  private static String read(InputStream input) throws IOException {
+    return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+  }
+}
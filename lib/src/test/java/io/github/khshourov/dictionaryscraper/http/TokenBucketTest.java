@@ -0,0 +1,75 @@
+package io.github.khshourov.dictionaryscraper.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.github.khshourov.dictionaryscraper.models.RateLimit;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private long now;
+  private TokenBucket bucket;
+
+  @BeforeEach
+  void init() {
+    now = 0L;
+    bucket = new TokenBucket(new RateLimit(2, 3), () -> now);
+  }
+
+  @Nested
+  class WhenReserve {
+    @Test
+    void burstShouldBeSentRightAway() {
+      assertEquals(0L, bucket.reserve());
+      assertEquals(0L, bucket.reserve());
+      assertEquals(0L, bucket.reserve());
+    }
+
+    @Test
+    void requestsAfterBurstShouldBePacedToSustainedRate() {
+      bucket.reserve();
+      bucket.reserve();
+      bucket.reserve();
+
+      assertEquals(SECOND / 2, bucket.reserve());
+      assertEquals(SECOND, bucket.reserve());
+    }
+
+    @Test
+    void budgetShouldRefillOverTime() {
+      bucket.reserve();
+      bucket.reserve();
+      bucket.reserve();
+
+      now += SECOND;
+
+      assertEquals(0L, bucket.reserve());
+      assertEquals(0L, bucket.reserve());
+      assertEquals(SECOND / 2, bucket.reserve());
+    }
+  }
+
+  @Nested
+  class WhenPause {
+    @Test
+    void requestsShouldWaitForPauseWithoutBurst() {
+      bucket.pause(Duration.ofSeconds(5));
+
+      assertEquals(5 * SECOND, bucket.reserve());
+      assertEquals(5 * SECOND + SECOND / 2, bucket.reserve());
+    }
+
+    @Test
+    void shorterPauseShouldNotShortenPendingWait() {
+      bucket.pause(Duration.ofSeconds(5));
+      bucket.pause(Duration.ofSeconds(1));
+
+      assertEquals(5 * SECOND, bucket.reserve());
+    }
+  }
+}
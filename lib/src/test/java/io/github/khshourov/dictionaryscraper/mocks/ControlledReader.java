@@ -0,0 +1,52 @@
+package io.github.khshourov.dictionaryscraper.mocks;
+
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.interfaces.Reader;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A mock implementation of the {@code Reader} class whose asynchronous reads are completed by the
+ * test itself. This is used for testing purposes, where the order and timing of concurrent reads
+ * have to be observed or controlled.
+ *
+ * <p>Method Behavior: - {@code readAsync}: Returns a pending {@code CompletableFuture} that can be
+ * retrieved through {@code pending(purpose)}. - {@code read}: Always throws an {@code IOException};
+ * only the asynchronous API is supported.
+ */
+public class ControlledReader extends Reader {
+  private final Map<ReadingPurpose, CompletableFuture<ReaderResponse>> pendingReads =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Sets the baseUri which serves as the base path for generating resource links.
+   *
+   * @param baseUri the baseUri of the generated resource links
+   */
+  public ControlledReader(String baseUri) {
+    this.baseUri = baseUri;
+  }
+
+  @Override
+  public ReaderResponse read(String word, ReadingPurpose purpose) throws IOException {
+    throw new IOException("Only asynchronous reads are supported");
+  }
+
+  @Override
+  public CompletableFuture<ReaderResponse> readAsync(String word, ReadingPurpose purpose) {
+    return this.pendingReads.computeIfAbsent(purpose, key -> new CompletableFuture<>());
+  }
+
+  /**
+   * Retrieves the pending read of the given purpose.
+   *
+   * @param purpose the purpose of the read
+   * @return the pending read, or {@code null} if it has not been requested yet
+   */
+  public CompletableFuture<ReaderResponse> pending(ReadingPurpose purpose) {
+    return this.pendingReads.get(purpose);
+  }
+}
@@ -0,0 +1,52 @@
+package io.github.khshourov.dictionaryscraper.mocks;
+
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.interfaces.Reader;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A mock implementation of the {@code Reader} class that fails a given number of times before it
+ * succeeds. This is used for testing purposes, where retries of failed reads have to be observed.
+ *
+ * <p>Method Behavior: - {@code read}: Throws the given {@code IOException} for the first {@code
+ * failures} calls, then returns a response whose link is {@code baseUri/word}. - {@code attempts}:
+ * Returns how many times {@code read} has been called.
+ */
+public class FlakyReader extends Reader {
+  private final int failures;
+  private final IOException failure;
+  private final AtomicInteger attempts = new AtomicInteger();
+
+  /**
+   * Initializes the reader.
+   *
+   * @param baseUri the baseUri of the generated resource links
+   * @param failures how many reads fail before the reads succeed
+   * @param failure the exception the failing reads throw
+   */
+  public FlakyReader(String baseUri, int failures, IOException failure) {
+    this.baseUri = baseUri;
+    this.failures = failures;
+    this.failure = failure;
+  }
+
+  @Override
+  public ReaderResponse read(String word, ReadingPurpose purpose) throws IOException {
+    if (this.attempts.incrementAndGet() <= this.failures) {
+      throw this.failure;
+    }
+
+    return new ReaderResponse(this.baseUri + "/" + word, purpose.name());
+  }
+
+  /**
+   * Retrieves how many times the reader has been called.
+   *
+   * @return the number of calls to {@code read}
+   */
+  public int attempts() {
+    return this.attempts.get();
+  }
+}
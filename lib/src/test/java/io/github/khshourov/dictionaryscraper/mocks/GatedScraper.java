@@ -0,0 +1,82 @@
+package io.github.khshourov.dictionaryscraper.mocks;
+
+import io.github.khshourov.dictionaryscraper.interfaces.DictionaryScraper;
+import io.github.khshourov.dictionaryscraper.interfaces.Scraper;
+import io.github.khshourov.dictionaryscraper.models.DictionaryEntry;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GatedScraper is a mock implementation of the {@code Scraper} interface whose scrapes block until
+ * the test opens the gate. This is used for testing purposes, where searches have to overlap.
+ *
+ * <p>Method Behavior: - {@code scrape}: Waits for {@code open()}, then returns an entry with the
+ * cleaned word as its only source link. - {@code cleanWord}: Keeps the letters of the word, in
+ * lower case. - {@code getScrapes}: Returns how many scrapes have been started. - {@code
+ * getLastScrapingThread}: Returns the thread the latest scrape was started on.
+ */
+public class GatedScraper implements Scraper {
+  private final MockSource source;
+  private final CountDownLatch gate = new CountDownLatch(1);
+  private final AtomicInteger scrapes = new AtomicInteger();
+  private volatile Thread lastScrapingThread;
+
+  /**
+   * Initializes the scraper with a closed gate.
+   *
+   * @param source the source the scraper registers itself for
+   */
+  public GatedScraper(MockSource source) {
+    this.source = source;
+  }
+
+  @Override
+  public void register(DictionaryScraper dictionaryScraper) {
+    dictionaryScraper.registerScraper(this.source, this);
+  }
+
+  @Override
+  public DictionaryEntry scrape(String word) throws IOException {
+    this.lastScrapingThread = Thread.currentThread();
+    this.scrapes.incrementAndGet();
+    try {
+      this.gate.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    }
+
+    return new DictionaryEntry(List.of(this.cleanWord(word)), Map.of(), List.of());
+  }
+
+  @Override
+  public String cleanWord(String word) {
+    return word == null ? "" : word.replaceAll("[^a-zA-Z]", "").toLowerCase();
+  }
+
+  /** Lets every pending and future scrape complete. */
+  public void open() {
+    this.gate.countDown();
+  }
+
+  /**
+   * Retrieves how many scrapes have been started.
+   *
+   * @return the number of scrapes
+   */
+  public int getScrapes() {
+    return this.scrapes.get();
+  }
+
+  /**
+   * Retrieves the thread the latest scrape was started on.
+   *
+   * @return the thread, or {@code null} if no scrape has been started
+   */
+  public Thread getLastScrapingThread() {
+    return this.lastScrapingThread;
+  }
+}
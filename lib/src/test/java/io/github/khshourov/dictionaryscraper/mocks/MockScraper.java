@@ -4,6 +4,7 @@ import io.github.khshourov.dictionaryscraper.interfaces.DictionaryScraper;
 import io.github.khshourov.dictionaryscraper.interfaces.Scraper;
 import io.github.khshourov.dictionaryscraper.models.DictionaryEntry;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * MockScraper is a mock implementation of the {@code Scraper} interface, intended for testing
@@ -13,11 +14,16 @@ import java.io.IOException;
  * <p>Features: - Supports registration with a {@code DictionaryScraper}, associating this scraper
  * with a specific mock source. - Provides a simulated dictionary entry retrieval for a specified
  * word. - Allows configuration of the mock source and the predefined dictionary entry for testing
- * scenarios.
+ * scenarios. - Can be made to fail with a predefined {@code IOException}, and counts its scrapes. -
+ * Its warm-up completes when the test completes the future set with {@code setWarmUp}, right away
+ * by default.
  */
 public class MockScraper implements Scraper {
   private MockSource source;
   private DictionaryEntry dictionaryEntry;
+  private IOException failure;
+  private int scrapes;
+  private CompletableFuture<Void> warmUp = CompletableFuture.completedFuture(null);
 
   /**
    * Registers this mock scraper instance with the provided {@code DictionaryScraper}. The
@@ -42,9 +48,28 @@ public class MockScraper implements Scraper {
    */
   @Override
   public DictionaryEntry scrape(String word) throws IOException {
+    this.scrapes++;
+    if (this.failure != null) {
+      throw this.failure;
+    }
+
     return this.dictionaryEntry;
   }
 
+  @Override
+  public CompletableFuture<Void> warmUp(boolean extractSamples) {
+    return this.warmUp;
+  }
+
+  /**
+   * Makes the following warm-ups complete along with the given future.
+   *
+   * @param warmUp the future the warm-up completes with
+   */
+  public void setWarmUp(CompletableFuture<Void> warmUp) {
+    this.warmUp = warmUp;
+  }
+
   public void setSource(MockSource source) {
     this.source = source;
   }
@@ -52,4 +77,22 @@ public class MockScraper implements Scraper {
   public void setDictionaryEntry(DictionaryEntry dictionaryEntry) {
     this.dictionaryEntry = dictionaryEntry;
   }
+
+  /**
+   * Makes every following scrape fail with the given exception.
+   *
+   * @param failure the exception to throw, or {@code null} to scrape successfully again
+   */
+  public void setFailure(IOException failure) {
+    this.failure = failure;
+  }
+
+  /**
+   * Retrieves how many times this scraper has been asked to scrape.
+   *
+   * @return the number of scrapes
+   */
+  public int getScrapes() {
+    return this.scrapes;
+  }
 }
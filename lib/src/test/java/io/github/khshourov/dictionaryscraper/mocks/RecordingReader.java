@@ -0,0 +1,53 @@
+package io.github.khshourov.dictionaryscraper.mocks;
+
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.interfaces.Reader;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A mock implementation of the {@code Reader} class that records every asynchronous read and leaves
+ * it to the test to complete. Unlike {@code ControlledReader}, every call gets its own pending
+ * read, so repeated reads of the same page can be told apart.
+ *
+ * <p>Method Behavior: - {@code readAsync}: Returns a new pending {@code CompletableFuture} and
+ * records it. - {@code calls}: Returns the recorded reads in the order they were sent. - {@code
+ * read}: Always throws an {@code IOException}; only the asynchronous API is supported.
+ */
+public class RecordingReader extends Reader {
+  private final List<CompletableFuture<ReaderResponse>> calls = new CopyOnWriteArrayList<>();
+
+  /**
+   * Sets the baseUri which serves as the base path for generating resource links.
+   *
+   * @param baseUri the baseUri of the generated resource links
+   */
+  public RecordingReader(String baseUri) {
+    this.baseUri = baseUri;
+  }
+
+  @Override
+  public ReaderResponse read(String word, ReadingPurpose purpose) throws IOException {
+    throw new IOException("Only asynchronous reads are supported");
+  }
+
+  @Override
+  public CompletableFuture<ReaderResponse> readAsync(String word, ReadingPurpose purpose) {
+    CompletableFuture<ReaderResponse> call = new CompletableFuture<>();
+    this.calls.add(call);
+
+    return call;
+  }
+
+  /**
+   * Retrieves the reads sent so far.
+   *
+   * @return the pending or completed reads, in the order they were sent
+   */
+  public List<CompletableFuture<ReaderResponse>> calls() {
+    return this.calls;
+  }
+}
@@ -0,0 +1,59 @@
+package io.github.khshourov.dictionaryscraper.models;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ReaderResponseTest {
+  private static final String LINK = "https://example.com/meaning/hello";
+  private static final String PAGE = "<html>/həˈləʊ/</html>";
+
+  @Nested
+  class WhenCreatedFromBytes {
+    private final ReaderResponse response =
+        new ReaderResponse(LINK, StandardCharsets.UTF_8.encode(PAGE), false, Map.of());
+
+    @Test
+    void dataShouldBeDecodedOnce() {
+      assertEquals(PAGE, response.data());
+      assertSame(response.data(), response.data());
+    }
+
+    @Test
+    void responseShouldEqualResponseOfTheSameText() {
+      ReaderResponse textResponse = new ReaderResponse(LINK, PAGE);
+
+      assertEquals(textResponse, response);
+      assertEquals(textResponse.hashCode(), response.hashCode());
+    }
+
+    @Test
+    void bodyShouldBeReadOnlyAndReadableRepeatedly() throws IOException {
+      assertTrue(response.body().isReadOnly());
+
+      for (int i = 0; i < 2; i++) {
+        try (InputStream body = response.openStream()) {
+          assertArrayEquals(PAGE.getBytes(StandardCharsets.UTF_8), body.readAllBytes());
+        }
+      }
+    }
+
+    @Test
+    void movingTheBufferShouldNotAffectTheResponse() {
+      ByteBuffer buffer = StandardCharsets.UTF_8.encode(PAGE);
+      ReaderResponse bufferResponse = new ReaderResponse(LINK, buffer, false, Map.of());
+      buffer.position(buffer.limit());
+
+      assertEquals(PAGE, bufferResponse.data());
+    }
+  }
+}
@@ -0,0 +1,637 @@
+package io.github.khshourov.dictionaryscraper.readers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.khshourov.dictionaryscraper.enums.CircuitState;
+import io.github.khshourov.dictionaryscraper.enums.ProxySelection;
+import io.github.khshourov.dictionaryscraper.enums.ExecutionMode;
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.exceptions.BodyTooLargeException;
+import io.github.khshourov.dictionaryscraper.exceptions.HttpStatusException;
+import io.github.khshourov.dictionaryscraper.http.ProxyPool;
+import io.github.khshourov.dictionaryscraper.http.RateLimiterRegistry;
+import io.github.khshourov.dictionaryscraper.http.RevalidationCache;
+import io.github.khshourov.dictionaryscraper.models.CircuitBreakerSettings;
+import io.github.khshourov.dictionaryscraper.models.ProxyPoolSettings;
+import io.github.khshourov.dictionaryscraper.models.RateLimit;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import io.github.khshourov.dictionaryscraper.models.ReaderSettings;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CambridgeReaderTest {
+  private static final String PAGE = "<html><body><div class=\"pron-block\"></div></body></html>";
+  private static final String ETAG = "\"v1\"";
+  private static final String LOOPBACK = "127.0.0.1";
+  private static final String THROTTLED_WORD = "busy";
+  private static final String BLOCKED_WORD = "blocked";
+  private static final String REDIRECTED_WORD = "helo";
+  private static final String MISSING_WORD = "hellooo";
+  private static final String LONG_WORD = "long";
+  private static final String DICTIONARIES_WORD = "dictionaries";
+  private static final String CAPTURED_PAGE =
+      "io/github/khshourov/dictionaryscraper/cambridge/meaning/hello-dictionaries.html";
+  private static final String STALLED_WORD = "stalled";
+  private static final RateLimiterRegistry RATE_LIMITERS =
+      new RateLimiterRegistry(new RateLimit(1000, 1000));
+  private static final String AMERICAN_SECTION =
+      "<div class=\"pr dictionary\" data-id=\"cacd\" data-tab=\"ds-cacd\">"
+          + "<div class=\"di-body\">American</div></div>".repeat(1000);
+
+  private final List<HttpExchange> exchanges = new CopyOnWriteArrayList<>();
+  private final CountDownLatch stall = new CountDownLatch(1);
+  private HttpServer server;
+  private CambridgeReader reader;
+
+  @BeforeEach
+  void init() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(LOOPBACK, 0), 0);
+    server.createContext("/", this::handle);
+    server.start();
+
+    reader =
+        new CambridgeReader(String.format("http://%s:%d", LOOPBACK, server.getAddress().getPort()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    stall.countDown();
+    server.stop(0);
+  }
+
+  @Nested
+  class WhenRead {
+    @Test
+    void gzipEncodedPageShouldBeDecoded() throws IOException {
+      ReaderResponse response = reader.read("hello", ReadingPurpose.PRONUNCIATION);
+
+      assertEquals(reader.getBaseUri() + "/pronunciation/english/hello", response.link());
+      assertEquals(PAGE, response.data());
+      assertFalse(response.revalidated());
+      assertEquals(
+          "gzip, deflate", exchanges.get(0).getRequestHeaders().getFirst("Accept-Encoding"));
+    }
+
+    @Test
+    void readAsyncShouldReturnSameResponseAsRead()
+        throws IOException, ExecutionException, InterruptedException {
+      ReaderResponse response = reader.read("hello", ReadingPurpose.MEANING);
+      ReaderResponse asyncResponse = reader.readAsync("hello", ReadingPurpose.MEANING).get();
+
+      assertEquals(response.link(), asyncResponse.link());
+      assertEquals(response.data(), asyncResponse.data());
+    }
+
+    @Test
+    void warmUpShouldSendHeadRequestToBaseUri() throws ExecutionException, InterruptedException {
+      reader.warmUp().get();
+
+      assertEquals(1, exchanges.size());
+      assertEquals("HEAD", exchanges.get(0).getRequestMethod());
+      assertEquals("/", exchanges.get(0).getRequestURI().getPath());
+    }
+
+    @Test
+    void nonLatinWordShouldBePercentEncoded() throws IOException {
+      ReaderResponse response = reader.read("привет", ReadingPurpose.PRONUNCIATION);
+
+      assertEquals(
+          reader.getBaseUri() + "/pronunciation/english/%D0%BF%D1%80%D0%B8%D0%B2%D0%B5%D1%82",
+          response.link());
+      assertEquals("/pronunciation/english/привет", exchanges.get(0).getRequestURI().getPath());
+    }
+
+    @Test
+    void responseHeadersShouldBeKept() throws IOException {
+      ReaderResponse response = reader.read("hello", ReadingPurpose.MEANING);
+
+      assertEquals(List.of(ETAG), response.headers().get("etag"));
+    }
+  }
+
+  @Nested
+  class WhenBodyTooLarge {
+    @BeforeEach
+    void init() {
+      reader.setReaderSettings(settingsWithMaxBodySize(PAGE.length() - 1));
+    }
+
+    @Test
+    void readShouldBeAbandoned() {
+      BodyTooLargeException exception =
+          assertThrows(
+              BodyTooLargeException.class, () -> reader.read("hello", ReadingPurpose.MEANING));
+
+      assertEquals(PAGE.length() - 1, exception.getMaxBytes());
+    }
+
+    @Test
+    void asyncReadShouldBeAbandoned() {
+      ExecutionException exception =
+          assertThrows(
+              ExecutionException.class,
+              () -> reader.readAsync("hello", ReadingPurpose.MEANING).get());
+
+      assertTrue(exception.getCause() instanceof BodyTooLargeException);
+    }
+
+    @Test
+    void pageWithinLimitShouldBeRead() throws IOException {
+      reader.setReaderSettings(settingsWithMaxBodySize(PAGE.length()));
+
+      assertEquals(PAGE, reader.read("hello", ReadingPurpose.MEANING).data());
+    }
+  }
+
+  @Nested
+  class WhenTimedOut {
+    @BeforeEach
+    void init() {
+      ReaderSettings defaults = ReaderSettings.defaults();
+      reader.setReaderSettings(
+          new ReaderSettings(
+              defaults.connectTimeout(), Duration.ofMillis(200), defaults.maxBodySize()));
+    }
+
+    @Test
+    void stalledBodyShouldAbandonRead() {
+      assertThrows(
+          HttpTimeoutException.class,
+          () -> reader.read(STALLED_WORD, ReadingPurpose.PRONUNCIATION));
+    }
+
+    @Test
+    void stalledBodyShouldAbandonAsyncRead() {
+      ExecutionException exception =
+          assertThrows(
+              ExecutionException.class,
+              () -> reader.readAsync(STALLED_WORD, ReadingPurpose.PRONUNCIATION).get());
+
+      assertTrue(exception.getCause() instanceof HttpTimeoutException);
+    }
+
+    @Test
+    void stalledStreamedBodyShouldAbandonAsyncRead() {
+      ExecutionException exception =
+          assertThrows(
+              ExecutionException.class,
+              () -> reader.readAsync(STALLED_WORD, ReadingPurpose.MEANING).get());
+
+      assertTrue(exception.getCause() instanceof HttpTimeoutException);
+    }
+
+    @Test
+    void timelyReadShouldSucceed() throws IOException {
+      assertEquals(PAGE, reader.read("hello", ReadingPurpose.PRONUNCIATION).data());
+    }
+  }
+
+  @Nested
+  class WhenStopMarkerFound {
+    @Test
+    void meaningPageShouldBeReadWholeByDefault() throws IOException {
+      ReaderResponse response = reader.read(LONG_WORD, ReadingPurpose.MEANING);
+
+      assertEquals(PAGE + AMERICAN_SECTION, response.data());
+      assertFalse(response.truncated());
+    }
+
+    @Test
+    void meaningPageShouldStopBeforeAmericanDictionary() throws IOException {
+      reader.setStopMarkers(ReadingPurpose.MEANING, CambridgeReader.OTHER_DICTIONARY_MARKERS);
+
+      ReaderResponse response = reader.read(LONG_WORD, ReadingPurpose.MEANING);
+
+      assertUkOnly(response.data());
+      assertTrue(response.truncated());
+    }
+
+    @Test
+    void meaningPageShouldStopBeforeAmericanDictionaryForAsyncRead()
+        throws ExecutionException, InterruptedException {
+      reader.setStopMarkers(ReadingPurpose.MEANING, CambridgeReader.OTHER_DICTIONARY_MARKERS);
+
+      assertUkOnly(reader.readAsync(LONG_WORD, ReadingPurpose.MEANING).get().data());
+    }
+
+    @Test
+    void capturedPageShouldStopWhereOtherDictionariesStart() throws IOException {
+      reader.setStopMarkers(ReadingPurpose.MEANING, CambridgeReader.OTHER_DICTIONARY_MARKERS);
+
+      String page = reader.read(DICTIONARIES_WORD, ReadingPurpose.MEANING).data();
+
+      String capturedPage = capturedPage();
+      assertEquals(capturedPage.substring(0, capturedPage.indexOf("data-id=\"cacd\"")), page);
+      assertTrue(page.contains("data-id=\"cald4\""));
+      assertFalse(page.contains("Cambridge Academic Content Dictionary"));
+      assertFalse(page.contains("Cambridge Business English Dictionary"));
+    }
+
+    @Test
+    void pagesWithoutMarkersShouldBeReadWhole() throws IOException {
+      reader.setStopMarkers(ReadingPurpose.MEANING, CambridgeReader.OTHER_DICTIONARY_MARKERS);
+
+      assertEquals(
+          PAGE + AMERICAN_SECTION, reader.read(LONG_WORD, ReadingPurpose.PRONUNCIATION).data());
+    }
+
+    @Test
+    void customMarkersShouldReplacePreviousOnes()
+        throws IOException, ExecutionException, InterruptedException {
+      reader.setStopMarkers(ReadingPurpose.MEANING, CambridgeReader.OTHER_DICTIONARY_MARKERS);
+      reader.setStopMarkers(ReadingPurpose.PRONUNCIATION, List.of("<body>"));
+      reader.setStopMarkers(ReadingPurpose.MEANING, List.of());
+
+      assertEquals("<html>", reader.read(LONG_WORD, ReadingPurpose.PRONUNCIATION).data());
+      assertEquals(
+          PAGE + AMERICAN_SECTION,
+          reader.readAsync(LONG_WORD, ReadingPurpose.MEANING).get().data());
+    }
+
+    @Test
+    void truncatedPageShouldNotBeRevalidated() throws IOException {
+      reader.setRevalidationCache(new RevalidationCache());
+      reader.setStopMarkers(ReadingPurpose.MEANING, CambridgeReader.OTHER_DICTIONARY_MARKERS);
+
+      reader.read(LONG_WORD, ReadingPurpose.MEANING);
+      ReaderResponse response = reader.read(LONG_WORD, ReadingPurpose.MEANING);
+
+      assertNull(exchanges.get(1).getRequestHeaders().getFirst("If-None-Match"));
+      assertFalse(response.revalidated());
+      assertTrue(response.truncated());
+    }
+
+    private static void assertUkOnly(String page) {
+      assertTrue(page.startsWith(PAGE));
+      assertFalse(page.contains("American"));
+    }
+  }
+
+  @Nested
+  class WhenRevalidate {
+    @BeforeEach
+    void init() {
+      reader.setRevalidationCache(new RevalidationCache());
+    }
+
+    @Test
+    void unchangedPageShouldBeServedFromCache() throws IOException {
+      reader.read("hello", ReadingPurpose.PRONUNCIATION);
+      ReaderResponse response = reader.read("hello", ReadingPurpose.PRONUNCIATION);
+
+      assertEquals(2, exchanges.size());
+      assertNull(exchanges.get(0).getRequestHeaders().getFirst("If-None-Match"));
+      assertEquals(ETAG, exchanges.get(1).getRequestHeaders().getFirst("If-None-Match"));
+      assertEquals(PAGE, response.data());
+      assertTrue(response.revalidated());
+    }
+
+    @Test
+    void unchangedPageShouldBeServedFromCacheForAsyncRead()
+        throws ExecutionException, InterruptedException {
+      reader.readAsync("hello", ReadingPurpose.MEANING).get();
+      ReaderResponse response = reader.readAsync("hello", ReadingPurpose.MEANING).get();
+
+      assertEquals(PAGE, response.data());
+      assertTrue(response.revalidated());
+    }
+
+    @Test
+    void pageOfAnotherWordShouldNotBeRevalidated() throws IOException {
+      reader.read("hello", ReadingPurpose.PRONUNCIATION);
+      ReaderResponse response = reader.read("present", ReadingPurpose.PRONUNCIATION);
+
+      assertNull(exchanges.get(1).getRequestHeaders().getFirst("If-None-Match"));
+      assertFalse(response.revalidated());
+    }
+
+    @Test
+    void readerShouldReportThatItRevalidates() {
+      assertTrue(reader.revalidates());
+      assertTrue(new RetryingReader(new RateLimitedReader(reader, RATE_LIMITERS)).revalidates());
+      assertFalse(new CambridgeReader(reader.getBaseUri()).revalidates());
+    }
+  }
+
+  @Nested
+  class WhenRefused {
+    @Test
+    void blockPageShouldBeReportedInsteadOfParsed() {
+      HttpStatusException exception =
+          assertThrows(
+              HttpStatusException.class,
+              () -> reader.read(BLOCKED_WORD, ReadingPurpose.PRONUNCIATION));
+
+      assertEquals(403, exception.getStatusCode());
+      assertFalse(exception.isThrottled());
+    }
+
+    @Test
+    void blockPageShouldBeReportedForAsyncRead() {
+      ExecutionException exception =
+          assertThrows(
+              ExecutionException.class,
+              () -> reader.readAsync(BLOCKED_WORD, ReadingPurpose.MEANING).get());
+
+      assertInstanceOf(HttpStatusException.class, exception.getCause());
+    }
+  }
+
+  @Nested
+  class WhenNotFound {
+    @Test
+    void redirectShouldBeReturnedAsPageWithoutFollowingIt() throws IOException {
+      ReaderResponse response = reader.read(REDIRECTED_WORD, ReadingPurpose.PRONUNCIATION);
+
+      assertEquals(1, exchanges.size());
+      assertEquals("", response.data());
+    }
+
+    @Test
+    void notFoundPageShouldBeReturnedAsPage() throws ExecutionException, InterruptedException {
+      ReaderResponse response = reader.readAsync(MISSING_WORD, ReadingPurpose.MEANING).get();
+
+      assertEquals("<html><body>Not found</body></html>", response.data());
+    }
+
+    @Test
+    void notFoundPageShouldNotBeRevalidated() throws IOException {
+      reader.setRevalidationCache(new RevalidationCache());
+
+      reader.read(MISSING_WORD, ReadingPurpose.PRONUNCIATION);
+      ReaderResponse response = reader.read(MISSING_WORD, ReadingPurpose.PRONUNCIATION);
+
+      assertNull(exchanges.get(1).getRequestHeaders().getFirst("If-None-Match"));
+      assertFalse(response.revalidated());
+    }
+  }
+
+  @Nested
+  class WhenThrottled {
+    @Test
+    void tooManyRequestsShouldBeReportedWithRetryAfter() {
+      HttpStatusException exception =
+          assertThrows(
+              HttpStatusException.class,
+              () -> reader.read(THROTTLED_WORD, ReadingPurpose.PRONUNCIATION));
+
+      assertEquals(429, exception.getStatusCode());
+      assertEquals(Duration.ofSeconds(7), exception.getRetryAfter());
+      assertTrue(exception.isThrottled());
+    }
+
+    @Test
+    void tooManyRequestsShouldBeReportedForAsyncRead() {
+      ExecutionException exception =
+          assertThrows(
+              ExecutionException.class,
+              () -> reader.readAsync(THROTTLED_WORD, ReadingPurpose.MEANING).get());
+
+      assertTrue(exception.getCause() instanceof HttpStatusException);
+    }
+
+    @Test
+    void rateLimitedReaderShouldPassThrottlingOn() throws IOException {
+      try (RateLimitedReader rateLimitedReader = new RateLimitedReader(reader, RATE_LIMITERS)) {
+        assertEquals(reader.getBaseUri(), rateLimitedReader.getBaseUri());
+        assertThrows(
+            HttpStatusException.class,
+            () -> rateLimitedReader.read(THROTTLED_WORD, ReadingPurpose.PRONUNCIATION));
+      }
+    }
+  }
+
+  @Nested
+  class WhenProxied {
+    private final List<HttpServer> proxies = new ArrayList<>();
+    private final Map<HttpServer, List<HttpExchange>> proxied = new ConcurrentHashMap<>();
+    private ProxyPool proxyPool;
+
+    @AfterEach
+    void tearDown() {
+      proxyPool.close();
+      proxies.forEach(proxy -> proxy.stop(0));
+    }
+
+    @Test
+    void readsShouldBeSpreadAcrossProxies()
+        throws IOException, ExecutionException, InterruptedException {
+      HttpServer first = startProxy();
+      HttpServer second = startProxy();
+      proxyPool = new ProxyPool(List.of(first.getAddress(), second.getAddress()), settings());
+      reader.setProxyPool(proxyPool);
+
+      assertEquals(PAGE, reader.read("hello", ReadingPurpose.MEANING).data());
+      assertEquals(PAGE, reader.read("hello", ReadingPurpose.MEANING).data());
+      assertEquals(PAGE, reader.readAsync("hello", ReadingPurpose.MEANING).get().data());
+      assertEquals(PAGE, reader.readAsync("hello", ReadingPurpose.MEANING).get().data());
+
+      assertEquals(2, proxied.get(first).size());
+      assertEquals(2, proxied.get(second).size());
+      assertEquals(
+          reader.getBaseUri() + "/dictionary/english/hello",
+          proxied.get(first).get(0).getRequestURI().toString());
+    }
+
+    @Test
+    void readsShouldGoThroughProxiesOnVirtualThreads()
+        throws IOException, ExecutionException, InterruptedException {
+      HttpServer proxy = startProxy();
+      proxyPool =
+          new ProxyPool(List.of(proxy.getAddress()), settings(), ExecutionMode.VIRTUAL_THREADS);
+      reader.setProxyPool(proxyPool);
+
+      assertEquals(PAGE, reader.read("hello", ReadingPurpose.MEANING).data());
+      assertEquals(PAGE, reader.readAsync("hello", ReadingPurpose.MEANING).get().data());
+      assertEquals(2, proxied.get(proxy).size());
+    }
+
+    @Test
+    void unreachableProxyShouldBeEjected() throws IOException {
+      InetSocketAddress unreachable;
+      try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getByName(LOOPBACK))) {
+        unreachable = (InetSocketAddress) socket.getLocalSocketAddress();
+      }
+      HttpServer live = startProxy();
+      proxyPool = new ProxyPool(List.of(unreachable, live.getAddress()), settings());
+      reader.setProxyPool(proxyPool);
+
+      assertThrows(IOException.class, () -> reader.read("hello", ReadingPurpose.MEANING));
+      assertEquals(CircuitState.OPEN, proxyPool.getState(unreachable));
+
+      assertEquals(PAGE, reader.read("hello", ReadingPurpose.MEANING).data());
+      assertEquals(PAGE, reader.read("hello", ReadingPurpose.MEANING).data());
+      assertEquals(2, proxied.get(live).size());
+    }
+
+    @Test
+    void warmUpShouldGoThroughEveryProxy()
+        throws IOException, ExecutionException, InterruptedException {
+      InetSocketAddress unreachable;
+      try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getByName(LOOPBACK))) {
+        unreachable = (InetSocketAddress) socket.getLocalSocketAddress();
+      }
+      HttpServer first = startProxy();
+      HttpServer second = startProxy();
+      proxyPool =
+          new ProxyPool(List.of(first.getAddress(), unreachable, second.getAddress()), settings());
+      reader.setProxyPool(proxyPool);
+
+      reader.warmUp().get();
+
+      assertEquals("HEAD", proxied.get(first).get(0).getRequestMethod());
+      assertEquals("HEAD", proxied.get(second).get(0).getRequestMethod());
+      assertEquals(CircuitState.OPEN, proxyPool.getState(unreachable));
+    }
+
+    private HttpServer startProxy() throws IOException {
+      // A stand-in forward proxy: it answers the proxied request itself, as the origin would.
+      HttpServer proxy = HttpServer.create(new InetSocketAddress(LOOPBACK, 0), 0);
+      List<HttpExchange> received = new CopyOnWriteArrayList<>();
+      proxy.createContext(
+          "/",
+          exchange -> {
+            received.add(exchange);
+            handle(exchange);
+          });
+      proxy.start();
+      proxies.add(proxy);
+      proxied.put(proxy, received);
+      return proxy;
+    }
+
+    private static ProxyPoolSettings settings() {
+      return new ProxyPoolSettings(
+          ProxySelection.ROUND_ROBIN,
+          new RateLimit(100, 10),
+          new CircuitBreakerSettings(1, 1, 1, Duration.ofSeconds(10), 1, Duration.ofHours(1), 1),
+          Duration.ofSeconds(1));
+    }
+  }
+
+  private static ReaderSettings settingsWithMaxBodySize(long maxBodySize) {
+    ReaderSettings defaults = ReaderSettings.defaults();
+    return new ReaderSettings(defaults.connectTimeout(), defaults.requestTimeout(), maxBodySize);
+  }
+
+  /** A meaning page whose UK dictionary is followed by the American and business ones. */
+  private static String capturedPage() throws IOException {
+    try (InputStream input =
+        CambridgeReaderTest.class.getClassLoader().getResourceAsStream(CAPTURED_PAGE)) {
+      return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    exchanges.add(exchange);
+
+    if ("HEAD".equals(exchange.getRequestMethod())) {
+      exchange.sendResponseHeaders(200, -1);
+      exchange.close();
+      return;
+    }
+
+    if (exchange.getRequestURI().getPath().endsWith("/" + STALLED_WORD)) {
+      exchange.sendResponseHeaders(200, 0);
+      OutputStream responseBody = exchange.getResponseBody();
+      responseBody.write("<html>".getBytes(StandardCharsets.UTF_8));
+      responseBody.flush();
+      try {
+        stall.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      exchange.close();
+      return;
+    }
+
+    if (exchange.getRequestURI().getPath().endsWith("/" + THROTTLED_WORD)) {
+      exchange.getResponseHeaders().add("Retry-After", "7");
+      exchange.sendResponseHeaders(429, -1);
+      exchange.close();
+      return;
+    }
+
+    if (exchange.getRequestURI().getPath().endsWith("/" + BLOCKED_WORD)) {
+      byte[] challenge =
+          "<html><body>Checking your browser</body></html>".getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(403, challenge.length);
+      try (OutputStream responseBody = exchange.getResponseBody()) {
+        responseBody.write(challenge);
+      }
+      return;
+    }
+
+    if (exchange.getRequestURI().getPath().endsWith("/" + REDIRECTED_WORD)) {
+      exchange.getResponseHeaders().add("Location", "/spellcheck/english/?q=" + REDIRECTED_WORD);
+      exchange.sendResponseHeaders(302, -1);
+      exchange.close();
+      return;
+    }
+
+    if (exchange.getRequestURI().getPath().endsWith("/" + MISSING_WORD)) {
+      byte[] notFound = "<html><body>Not found</body></html>".getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("ETag", ETAG);
+      exchange.sendResponseHeaders(404, notFound.length);
+      try (OutputStream responseBody = exchange.getResponseBody()) {
+        responseBody.write(notFound);
+      }
+      return;
+    }
+
+    if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+      exchange.sendResponseHeaders(304, -1);
+      exchange.close();
+      return;
+    }
+
+    String path = exchange.getRequestURI().getPath();
+    String page;
+    if (path.endsWith("/" + LONG_WORD)) {
+      page = PAGE + AMERICAN_SECTION;
+    } else if (path.endsWith("/" + DICTIONARIES_WORD)) {
+      page = capturedPage();
+    } else {
+      page = PAGE;
+    }
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    try (OutputStream gzip = new GZIPOutputStream(body)) {
+      gzip.write(page.getBytes(StandardCharsets.UTF_8));
+    }
+
+    exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+    exchange.getResponseHeaders().add("ETag", ETAG);
+    exchange.sendResponseHeaders(200, body.size());
+    try (OutputStream responseBody = exchange.getResponseBody()) {
+      body.writeTo(responseBody);
+    }
+  }
+}
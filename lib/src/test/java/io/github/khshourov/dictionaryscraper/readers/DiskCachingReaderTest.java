@@ -0,0 +1,114 @@
+package io.github.khshourov.dictionaryscraper.readers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.khshourov.dictionaryscraper.caches.DiskCache;
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.mocks.FlakyReader;
+import io.github.khshourov.dictionaryscraper.models.DiskCacheSettings;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DiskCachingReaderTest {
+  private static final String BASE_URI = "https://example.com";
+
+  @TempDir Path directory;
+
+  private DiskCache diskCache;
+
+  @BeforeEach
+  void init() throws IOException {
+    diskCache = new DiskCache(DiskCacheSettings.defaults(directory));
+  }
+
+  @Nested
+  class WhenRead {
+    @Test
+    void cachedPageShouldBeServedWithoutReading() throws IOException {
+      FlakyReader flakyReader = new FlakyReader(BASE_URI, 0, null);
+      DiskCachingReader reader = new DiskCachingReader(flakyReader, diskCache);
+
+      ReaderResponse response = reader.read("hello", ReadingPurpose.MEANING);
+
+      assertEquals(response, reader.read("hello", ReadingPurpose.MEANING));
+      assertEquals(1, flakyReader.attempts());
+    }
+
+    @Test
+    void cacheShouldBeSharedAcrossReaders() throws IOException {
+      FlakyReader flakyReader = new FlakyReader(BASE_URI, 0, null);
+      new DiskCachingReader(flakyReader, diskCache).read("hello", ReadingPurpose.MEANING);
+
+      DiskCachingReader reader =
+          new DiskCachingReader(flakyReader, new DiskCache(DiskCacheSettings.defaults(directory)));
+      reader.read("hello", ReadingPurpose.MEANING);
+
+      assertEquals(1, flakyReader.attempts());
+    }
+
+    @Test
+    void pagesShouldBeKeyedByPurpose() throws IOException {
+      FlakyReader flakyReader = new FlakyReader(BASE_URI, 0, null);
+      DiskCachingReader reader = new DiskCachingReader(flakyReader, diskCache);
+
+      reader.read("hello", ReadingPurpose.MEANING);
+
+      assertEquals(
+          ReadingPurpose.PRONUNCIATION.name(),
+          reader.read("hello", ReadingPurpose.PRONUNCIATION).data());
+      assertEquals(2, flakyReader.attempts());
+    }
+
+    @Test
+    void failedReadShouldNotBeCached() throws IOException {
+      FlakyReader flakyReader = new FlakyReader(BASE_URI, 1, new IOException("Read timeout"));
+      DiskCachingReader reader = new DiskCachingReader(flakyReader, diskCache);
+
+      assertThrows(IOException.class, () -> reader.read("hello", ReadingPurpose.MEANING));
+      reader.read("hello", ReadingPurpose.MEANING);
+
+      assertEquals(2, flakyReader.attempts());
+    }
+
+    @Test
+    void truncatedPageShouldNotBeCached() throws IOException {
+      FlakyReader truncatingReader =
+          new FlakyReader(BASE_URI, 0, null) {
+            @Override
+            public ReaderResponse read(String word, ReadingPurpose purpose) throws IOException {
+              ReaderResponse response = super.read(word, purpose);
+              return new ReaderResponse(response.link(), response.body(), false, true, Map.of());
+            }
+          };
+      DiskCachingReader reader = new DiskCachingReader(truncatingReader, diskCache);
+
+      reader.read("hello", ReadingPurpose.MEANING);
+      reader.read("hello", ReadingPurpose.MEANING);
+
+      assertEquals(2, truncatingReader.attempts());
+    }
+  }
+
+  @Nested
+  class WhenReadAsync {
+    @Test
+    void cachedPageShouldBeServedWithoutReading()
+        throws IOException, ExecutionException, InterruptedException {
+      FlakyReader flakyReader = new FlakyReader(BASE_URI, 0, null);
+      DiskCachingReader reader = new DiskCachingReader(flakyReader, diskCache);
+
+      ReaderResponse response = reader.read("hello", ReadingPurpose.MEANING);
+
+      assertEquals(response, reader.readAsync("hello", ReadingPurpose.MEANING).get());
+      assertEquals(1, flakyReader.attempts());
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package io.github.khshourov.dictionaryscraper.readers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.http.LatencyTracker;
+import io.github.khshourov.dictionaryscraper.mocks.RecordingReader;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class HedgingReaderTest {
+  private static final String BASE_URI = "https://example.com";
+  private static final Duration P95 = Duration.ofMillis(20);
+
+  private RecordingReader recordingReader;
+  private LatencyTracker latencyTracker;
+  private HedgingReader reader;
+
+  @BeforeEach
+  void init() {
+    recordingReader = new RecordingReader(BASE_URI);
+    latencyTracker = new LatencyTracker(16, 1);
+    reader = new HedgingReader(recordingReader, latencyTracker);
+  }
+
+  @Nested
+  class WhenReadAsync {
+    @Test
+    void readShouldNotBeHedgedWithoutObservedLatency() throws InterruptedException {
+      reader.readAsync("hello", ReadingPurpose.MEANING);
+
+      TimeUnit.MILLISECONDS.sleep(10 * P95.toMillis());
+
+      assertEquals(1, recordingReader.calls().size());
+    }
+
+    @Test
+    void slowReadShouldBeHedged() throws ExecutionException, InterruptedException {
+      latencyTracker.record(P95);
+      ReaderResponse hedgedResponse = new ReaderResponse(BASE_URI + "/hello", "hedged");
+
+      CompletableFuture<ReaderResponse> response =
+          reader.readAsync("hello", ReadingPurpose.MEANING);
+      awaitCalls(2);
+      recordingReader.calls().get(1).complete(hedgedResponse);
+
+      assertSame(hedgedResponse, response.get());
+      assertTrue(recordingReader.calls().get(0).isCancelled());
+    }
+
+    @Test
+    void failedReadShouldNotBeHedged() throws InterruptedException {
+      latencyTracker.record(P95);
+      IOException failure = new IOException("Read timeout");
+
+      CompletableFuture<ReaderResponse> response =
+          reader.readAsync("hello", ReadingPurpose.MEANING);
+      recordingReader.calls().get(0).completeExceptionally(failure);
+      TimeUnit.MILLISECONDS.sleep(10 * P95.toMillis());
+
+      ExecutionException exception = assertThrows(ExecutionException.class, response::get);
+      assertSame(failure, exception.getCause());
+      assertEquals(1, recordingReader.calls().size());
+    }
+
+    @Test
+    void hedgedReadShouldFailOnlyWhenBothReadsFail() throws InterruptedException {
+      latencyTracker.record(P95);
+
+      CompletableFuture<ReaderResponse> response =
+          reader.readAsync("hello", ReadingPurpose.MEANING);
+      awaitCalls(2);
+      recordingReader.calls().get(1).completeExceptionally(new IOException("hedge failed"));
+
+      assertFalse(response.isDone());
+
+      recordingReader.calls().get(0).completeExceptionally(new IOException("read failed"));
+
+      ExecutionException exception =
+          assertThrows(ExecutionException.class, () -> response.get(5, TimeUnit.SECONDS));
+      assertTrue(exception.getCause() instanceof IOException);
+    }
+
+    @Test
+    void cancellingReadShouldCancelEverySentRead() throws InterruptedException {
+      latencyTracker.record(P95);
+
+      CompletableFuture<ReaderResponse> response =
+          reader.readAsync("hello", ReadingPurpose.MEANING);
+      awaitCalls(2);
+      response.cancel(true);
+
+      // The hedge is recorded by the delegate right before it is tied to the result.
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (!recordingReader.calls().get(1).isDone() && System.nanoTime() < deadline) {
+        TimeUnit.MILLISECONDS.sleep(5);
+      }
+      assertTrue(recordingReader.calls().get(0).isCancelled());
+      assertTrue(recordingReader.calls().get(1).isCancelled());
+    }
+  }
+
+  @Nested
+  class WhenTrackLatency {
+    @Test
+    void percentileShouldNotBeReportedBeforeEnoughSamples() {
+      LatencyTracker tracker = new LatencyTracker(8, 2);
+      tracker.record(P95);
+
+      assertNull(tracker.percentile(95));
+    }
+
+    @Test
+    void percentileShouldFollowMostRecentSamples() {
+      LatencyTracker tracker = new LatencyTracker(4, 1);
+      for (int millis = 1; millis <= 8; millis++) {
+        tracker.record(Duration.ofMillis(millis));
+      }
+
+      assertEquals(Duration.ofMillis(8), tracker.percentile(95));
+      assertEquals(Duration.ofMillis(6), tracker.percentile(50));
+    }
+  }
+
+  private void awaitCalls(int calls) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (recordingReader.calls().size() < calls && System.nanoTime() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(5);
+    }
+    assertEquals(calls, recordingReader.calls().size());
+  }
+}
@@ -0,0 +1,79 @@
+package io.github.khshourov.dictionaryscraper.readers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.khshourov.dictionaryscraper.archives.PackFile;
+import io.github.khshourov.dictionaryscraper.archives.PackFileBuilder;
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.mocks.MockCambridgeReader;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PackFileReaderTest {
+  private static final String BASE_URI = "https://dictionary.cambridge.org";
+
+  @TempDir Path directory;
+
+  private PackFileReader reader;
+
+  @BeforeEach
+  void init() throws IOException, URISyntaxException {
+    Path pages =
+        Path.of(
+            Objects.requireNonNull(
+                    PackFileReaderTest.class
+                        .getClassLoader()
+                        .getResource("io/github/khshourov/dictionaryscraper/cambridge"))
+                .toURI());
+    Path file = directory.resolve("cambridge.pack");
+    PackFileBuilder.build(pages, file);
+
+    reader = new PackFileReader(new PackFile(file), BASE_URI);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    reader.close();
+  }
+
+  @Nested
+  class WhenRead {
+    @Test
+    void packedPageShouldMatchStoredPage() throws IOException {
+      MockCambridgeReader mockReader = new MockCambridgeReader(BASE_URI);
+
+      for (ReadingPurpose purpose : List.of(ReadingPurpose.MEANING, ReadingPurpose.PRONUNCIATION)) {
+        ReaderResponse expected = mockReader.read("hello", purpose);
+
+        assertEquals(expected, reader.read("hello", purpose));
+      }
+    }
+
+    @Test
+    void readAsyncShouldReturnSameResponseAsRead()
+        throws IOException, ExecutionException, InterruptedException {
+      assertEquals(
+          reader.read("present", ReadingPurpose.MEANING),
+          reader.readAsync("present", ReadingPurpose.MEANING).get());
+    }
+
+    @Test
+    void missingPageShouldFail() {
+      Exception exception =
+          assertThrows(
+              IOException.class, () -> reader.read("unknown", ReadingPurpose.PRONUNCIATION));
+      assertEquals("pronunciation/unknown is not in the pack", exception.getMessage());
+    }
+  }
+}
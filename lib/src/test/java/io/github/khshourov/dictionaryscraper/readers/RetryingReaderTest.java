@@ -0,0 +1,113 @@
+package io.github.khshourov.dictionaryscraper.readers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.exceptions.HttpStatusException;
+import io.github.khshourov.dictionaryscraper.mocks.FlakyReader;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import io.github.khshourov.dictionaryscraper.models.RetryPolicy;
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class RetryingReaderTest {
+  private static final String BASE_URI = "https://example.com";
+  private static final RetryPolicy POLICY =
+      new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(20));
+
+  @Nested
+  class WhenRead {
+    @Test
+    void transientFailureShouldBeRetried() throws IOException {
+      FlakyReader flakyReader =
+          new FlakyReader(BASE_URI, 2, new HttpTimeoutException("request timed out"));
+      RetryingReader reader = new RetryingReader(flakyReader, POLICY);
+
+      ReaderResponse response = reader.read("hello", ReadingPurpose.MEANING);
+
+      assertEquals(BASE_URI + "/hello", response.link());
+      assertEquals(3, flakyReader.attempts());
+    }
+
+    @Test
+    void attemptsShouldBeBounded() {
+      IOException failure = new IOException(new HttpTimeoutException("request timed out"));
+      FlakyReader flakyReader = new FlakyReader(BASE_URI, 5, failure);
+      RetryingReader reader = new RetryingReader(flakyReader, POLICY);
+
+      IOException exception =
+          assertThrows(IOException.class, () -> reader.read("hello", ReadingPurpose.MEANING));
+
+      assertSame(failure, exception);
+      assertEquals(3, flakyReader.attempts());
+    }
+
+    @Test
+    void permanentFailureShouldNotBeRetried() {
+      FlakyReader flakyReader =
+          new FlakyReader(BASE_URI, 1, new HttpStatusException(BASE_URI, 404, null));
+      RetryingReader reader = new RetryingReader(flakyReader, POLICY);
+
+      assertThrows(HttpStatusException.class, () -> reader.read("hello", ReadingPurpose.MEANING));
+      assertEquals(1, flakyReader.attempts());
+    }
+
+    @Test
+    void serverErrorShouldBeRetried() throws IOException {
+      FlakyReader flakyReader =
+          new FlakyReader(BASE_URI, 1, new HttpStatusException(BASE_URI, 503, Duration.ZERO));
+      RetryingReader reader = new RetryingReader(flakyReader, POLICY);
+
+      reader.read("hello", ReadingPurpose.MEANING);
+
+      assertEquals(2, flakyReader.attempts());
+    }
+
+    @Test
+    void retryAfterLongerThanMaxDelayShouldNotBeWaitedOut() {
+      FlakyReader flakyReader =
+          new FlakyReader(
+              BASE_URI, 1, new HttpStatusException(BASE_URI, 429, Duration.ofMinutes(5)));
+      RetryingReader reader = new RetryingReader(flakyReader, POLICY);
+
+      assertThrows(HttpStatusException.class, () -> reader.read("hello", ReadingPurpose.MEANING));
+      assertEquals(1, flakyReader.attempts());
+    }
+  }
+
+  @Nested
+  class WhenReadAsync {
+    @Test
+    void transientFailureShouldBeRetried() throws ExecutionException, InterruptedException {
+      FlakyReader flakyReader =
+          new FlakyReader(BASE_URI, 2, new HttpTimeoutException("request timed out"));
+      RetryingReader reader = new RetryingReader(flakyReader, POLICY);
+
+      ReaderResponse response = reader.readAsync("hello", ReadingPurpose.MEANING).get();
+
+      assertEquals(BASE_URI + "/hello", response.link());
+      assertEquals(3, flakyReader.attempts());
+    }
+
+    @Test
+    void lastFailureShouldBeReported() {
+      FlakyReader flakyReader =
+          new FlakyReader(BASE_URI, 5, new HttpTimeoutException("request timed out"));
+      RetryingReader reader = new RetryingReader(flakyReader, POLICY);
+
+      ExecutionException exception =
+          assertThrows(
+              ExecutionException.class,
+              () -> reader.readAsync("hello", ReadingPurpose.MEANING).get());
+
+      assertEquals(HttpTimeoutException.class, exception.getCause().getClass());
+      assertEquals(3, flakyReader.attempts());
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package io.github.khshourov.dictionaryscraper.readers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.khshourov.dictionaryscraper.archives.WarcArchive;
+import io.github.khshourov.dictionaryscraper.archives.WarcWriter;
+import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
+import io.github.khshourov.dictionaryscraper.interfaces.Reader;
+import io.github.khshourov.dictionaryscraper.mocks.FlakyReader;
+import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WarcReplayReaderTest {
+  private static final String BASE_URI = "https://example.com";
+
+  @TempDir Path directory;
+
+  private Path file;
+  private FlakyReader flakyReader;
+
+  @BeforeEach
+  void init() {
+    file = directory.resolve("session.warc");
+    flakyReader = new FlakyReader(BASE_URI, 0, null);
+  }
+
+  @Nested
+  class WhenReplay {
+    @Test
+    void recordedPagesShouldBeReplayedWithoutReading()
+        throws IOException, ExecutionException, InterruptedException {
+      ReaderResponse meaning;
+      ReaderResponse pronunciation;
+      try (WarcRecordingReader reader =
+          new WarcRecordingReader(flakyReader, new WarcWriter(file))) {
+        meaning = reader.read("hello", ReadingPurpose.MEANING);
+        pronunciation = reader.readAsync("hello", ReadingPurpose.PRONUNCIATION).get();
+      }
+
+      try (WarcReplayReader reader = new WarcReplayReader(new WarcArchive(file), flakyReader)) {
+        assertEquals(meaning.link(), reader.read("hello", ReadingPurpose.MEANING).link());
+        assertEquals(meaning.data(), reader.read("hello", ReadingPurpose.MEANING).data());
+        assertEquals(
+            pronunciation.data(),
+            reader.readAsync("hello", ReadingPurpose.PRONUNCIATION).get().data());
+      }
+      assertEquals(2, flakyReader.attempts());
+    }
+
+    @Test
+    void recordedHeadersShouldBeReplayed() throws IOException {
+      try (WarcWriter writer = new WarcWriter(file)) {
+        writer.writeResponse(
+            flakyReader.linkOf("hello", ReadingPurpose.MEANING),
+            200,
+            Map.of("ETag", List.of("\"v1\""), "Content-Encoding", List.of("gzip")),
+            StandardCharsets.UTF_8.encode("<html>héllo</html>"));
+      }
+
+      try (WarcReplayReader reader = new WarcReplayReader(new WarcArchive(file), flakyReader)) {
+        ReaderResponse response = reader.read("hello", ReadingPurpose.MEANING);
+
+        assertEquals("<html>héllo</html>", response.data());
+        assertEquals(List.of("\"v1\""), response.headers().get("ETag"));
+        assertNull(response.headers().get("Content-Encoding"));
+      }
+    }
+
+    @Test
+    void sessionsShouldBeAppendedToTheSameArchive() throws IOException {
+      for (String word : List.of("hello", "world")) {
+        try (WarcRecordingReader reader =
+            new WarcRecordingReader(flakyReader, new WarcWriter(file))) {
+          reader.read(word, ReadingPurpose.MEANING);
+        }
+      }
+
+      try (WarcArchive archive = new WarcArchive(file)) {
+        assertEquals(2, archive.size());
+      }
+      assertEquals(1, count(Files.readString(file), "WARC-Type: warcinfo"));
+    }
+
+    @Test
+    void revalidatedPageShouldBeRecordedAsNotModified() throws IOException {
+      Reader revalidatingReader =
+          new FlakyReader(BASE_URI, 0, null) {
+            @Override
+            public ReaderResponse read(String word, ReadingPurpose purpose) throws IOException {
+              ReaderResponse response = super.read(word, purpose);
+              return new ReaderResponse(response.link(), response.data(), true);
+            }
+          };
+      try (WarcRecordingReader reader =
+          new WarcRecordingReader(revalidatingReader, new WarcWriter(file))) {
+        reader.read("hello", ReadingPurpose.MEANING);
+        reader.read("world", ReadingPurpose.PRONUNCIATION);
+      }
+
+      assertEquals(2, count(Files.readString(file), "HTTP/1.1 304 Not Modified\r\n"));
+      try (WarcReplayReader reader = new WarcReplayReader(new WarcArchive(file), flakyReader)) {
+        assertTrue(reader.read("hello", ReadingPurpose.MEANING).revalidated());
+      }
+    }
+
+    @Test
+    void freshPageShouldBeRecordedAsOk() throws IOException {
+      try (WarcRecordingReader reader =
+          new WarcRecordingReader(flakyReader, new WarcWriter(file))) {
+        reader.read("hello", ReadingPurpose.MEANING);
+      }
+
+      assertEquals(1, count(Files.readString(file), "HTTP/1.1 200 OK\r\n"));
+      try (WarcReplayReader reader = new WarcReplayReader(new WarcArchive(file), flakyReader)) {
+        assertFalse(reader.read("hello", ReadingPurpose.MEANING).revalidated());
+      }
+    }
+
+    @Test
+    void truncatedPageShouldNotBeRecorded() throws IOException {
+      Reader truncatingReader =
+          new FlakyReader(BASE_URI, 0, null) {
+            @Override
+            public ReaderResponse read(String word, ReadingPurpose purpose) throws IOException {
+              ReaderResponse response = super.read(word, purpose);
+              return new ReaderResponse(response.link(), response.body(), false, true, Map.of());
+            }
+          };
+      try (WarcRecordingReader reader =
+          new WarcRecordingReader(truncatingReader, new WarcWriter(file))) {
+        reader.read("hello", ReadingPurpose.MEANING);
+      }
+
+      try (WarcArchive archive = new WarcArchive(file)) {
+        assertEquals(0, archive.size());
+      }
+    }
+
+    @Test
+    void pageMissingFromArchiveShouldFail() throws IOException {
+      new WarcWriter(file).close();
+
+      try (WarcReplayReader reader = new WarcReplayReader(new WarcArchive(file), flakyReader)) {
+        Exception exception =
+            assertThrows(IOException.class, () -> reader.read("hello", ReadingPurpose.MEANING));
+        assertEquals(
+            "https://example.com/meaning/hello is not in the archive", exception.getMessage());
+      }
+    }
+  }
+
+  @Nested
+  class WhenClose {
+    @Test
+    void recordingReaderShouldCloseTheWriter() throws IOException {
+      WarcWriter writer = new WarcWriter(file);
+      new WarcRecordingReader(flakyReader, writer).close();
+
+      assertThrows(
+          IOException.class,
+          () ->
+              writer.writeResponse(
+                  BASE_URI, 200, Map.of(), StandardCharsets.UTF_8.encode("<html></html>")));
+    }
+
+    @Test
+    void replayReaderShouldCloseTheArchive() throws IOException {
+      try (WarcRecordingReader reader =
+          new WarcRecordingReader(flakyReader, new WarcWriter(file))) {
+        reader.read("hello", ReadingPurpose.MEANING);
+      }
+      WarcArchive archive = new WarcArchive(file);
+      new WarcReplayReader(archive, flakyReader).close();
+
+      assertThrows(IOException.class, () -> archive.bodyOf(BASE_URI + "/meaning/hello"));
+    }
+  }
+
+  private static int count(String text, String part) {
+    return text.split(part, -1).length - 1;
+  }
+}
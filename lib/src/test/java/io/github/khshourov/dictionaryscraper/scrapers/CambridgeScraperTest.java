@@ -1,18 +1,23 @@
 package io.github.khshourov.dictionaryscraper.scrapers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import com.sun.net.httpserver.HttpServer;
 import io.github.khshourov.dictionaryscraper.enums.BaseSource;
+import io.github.khshourov.dictionaryscraper.enums.MeaningExtraction;
 import io.github.khshourov.dictionaryscraper.enums.ReadingPurpose;
 import io.github.khshourov.dictionaryscraper.enums.Region;
 import io.github.khshourov.dictionaryscraper.interfaces.DictionaryScraper;
 import io.github.khshourov.dictionaryscraper.interfaces.Reader;
 import io.github.khshourov.dictionaryscraper.interfaces.Scraper;
 import io.github.khshourov.dictionaryscraper.interfaces.Source;
+import io.github.khshourov.dictionaryscraper.mocks.ControlledReader;
 import io.github.khshourov.dictionaryscraper.mocks.MockCambridgeReader;
 import io.github.khshourov.dictionaryscraper.mocks.TimeoutReader;
 import io.github.khshourov.dictionaryscraper.models.CategoryMeaningEntry;
@@ -21,11 +26,20 @@ import io.github.khshourov.dictionaryscraper.models.DictionaryWord;
 import io.github.khshourov.dictionaryscraper.models.IpaInfo;
 import io.github.khshourov.dictionaryscraper.models.ReaderResponse;
 import io.github.khshourov.dictionaryscraper.models.WordMeaning;
+import io.github.khshourov.dictionaryscraper.readers.CambridgeReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -357,6 +371,430 @@ class CambridgeScraperTest {
     }
   }
 
+  @Nested
+  class WhenScrapeAsync {
+    private static final String SOURCE_DOMAIN = "https://dictionary.cambridge.org";
+    private static final String VALID_WORD = "hello";
+
+    @BeforeEach
+    void init() {
+      scraper.setReader(new MockCambridgeReader(SOURCE_DOMAIN));
+    }
+
+    @ParameterizedTest
+    @MethodSource("validWords")
+    void scrapeAsyncShouldReturnSameDataAsScrape(String word)
+        throws IOException, ExecutionException, InterruptedException {
+      DictionaryEntry expectedDictionaryEntry = scraper.scrape(word);
+
+      DictionaryEntry actualDictionaryEntry = scraper.scrapeAsync(word).get();
+
+      assertNotNull(actualDictionaryEntry);
+      assertEquals(expectedDictionaryEntry, actualDictionaryEntry);
+    }
+
+    @Test
+    void scrapeAsyncShouldReturnNullForNonsensicalWord()
+        throws ExecutionException, InterruptedException {
+      assertNull(scraper.scrapeAsync("prisencolinensinainciusol").get());
+    }
+
+    @Test
+    void afterCleaningWordShouldNotBeEmpty() {
+      String invalidWord = "123 456";
+      Exception exception =
+          assertThrows(IllegalArgumentException.class, () -> scraper.scrapeAsync(invalidWord));
+      assertEquals(String.format("`%s` is not valid word", invalidWord), exception.getMessage());
+    }
+
+    @Test
+    void timeoutShouldCompleteExceptionally() {
+      scraper.setReader(new TimeoutReader("timeout/reader"));
+
+      Exception exception =
+          assertThrows(ExecutionException.class, () -> scraper.scrapeAsync(VALID_WORD).get());
+      assertInstanceOf(IOException.class, exception.getCause());
+      assertEquals("Read timeout", exception.getCause().getMessage());
+    }
+
+    @Test
+    void pronunciationAndMeaningShouldBeReadConcurrently() {
+      ControlledReader reader = new ControlledReader(SOURCE_DOMAIN);
+      scraper.setReader(reader);
+
+      scraper.scrapeAsync(VALID_WORD);
+
+      assertNotNull(reader.pending(ReadingPurpose.PRONUNCIATION));
+      assertNotNull(reader.pending(ReadingPurpose.MEANING));
+    }
+
+    @Test
+    void meaningReadShouldBeCancelledIfPronunciationIsNotFound()
+        throws ExecutionException, InterruptedException {
+      ControlledReader reader = new ControlledReader(SOURCE_DOMAIN);
+      scraper.setReader(reader);
+
+      CompletableFuture<DictionaryEntry> dictionaryEntry = scraper.scrapeAsync(VALID_WORD);
+      reader
+          .pending(ReadingPurpose.PRONUNCIATION)
+          .complete(new ReaderResponse(SOURCE_DOMAIN, "<html><body></body></html>"));
+
+      assertNull(dictionaryEntry.get());
+      assertTrue(reader.pending(ReadingPurpose.MEANING).isCancelled());
+    }
+
+    @Test
+    void meaningReadShouldBeCancelledIfPronunciationFails() {
+      ControlledReader reader = new ControlledReader(SOURCE_DOMAIN);
+      scraper.setReader(reader);
+
+      CompletableFuture<DictionaryEntry> dictionaryEntry = scraper.scrapeAsync(VALID_WORD);
+      reader
+          .pending(ReadingPurpose.PRONUNCIATION)
+          .completeExceptionally(new IOException("Read timeout"));
+
+      assertThrows(ExecutionException.class, dictionaryEntry::get);
+      assertTrue(reader.pending(ReadingPurpose.MEANING).isCancelled());
+    }
+
+    @Test
+    void cancellingScrapeShouldCancelBothReads() {
+      ControlledReader reader = new ControlledReader(SOURCE_DOMAIN);
+      scraper.setReader(reader);
+
+      scraper.scrapeAsync(VALID_WORD).cancel(true);
+
+      assertTrue(reader.pending(ReadingPurpose.PRONUNCIATION).isCancelled());
+      assertTrue(reader.pending(ReadingPurpose.MEANING).isCancelled());
+    }
+
+    @Test
+    void scrapeShouldFailAndCancelReadsOnceDeadlinePasses() {
+      ControlledReader reader = new ControlledReader(SOURCE_DOMAIN);
+      scraper.setReader(reader);
+      scraper.setScrapeDeadline(Duration.ofMillis(50));
+
+      Exception exception =
+          assertThrows(ExecutionException.class, () -> scraper.scrapeAsync(VALID_WORD).get());
+      assertInstanceOf(HttpTimeoutException.class, exception.getCause());
+      assertTrue(reader.pending(ReadingPurpose.PRONUNCIATION).isCancelled());
+      assertTrue(reader.pending(ReadingPurpose.MEANING).isCancelled());
+    }
+
+    @Test
+    void revalidatedPagesShouldNotBeExtractedAgain()
+        throws IOException, ExecutionException, InterruptedException {
+      scraper.setReader(
+          new MockCambridgeReader(SOURCE_DOMAIN) {
+            @Override
+            public boolean revalidates() {
+              return true;
+            }
+          });
+      DictionaryEntry expectedDictionaryEntry = scraper.scrape(VALID_WORD);
+
+      ControlledReader reader =
+          new ControlledReader(SOURCE_DOMAIN) {
+            @Override
+            public boolean revalidates() {
+              return true;
+            }
+          };
+      scraper.setReader(reader);
+
+      CompletableFuture<DictionaryEntry> dictionaryEntry = scraper.scrapeAsync(VALID_WORD);
+      // A revalidated page is known to be unchanged, so its data is not looked at again.
+      reader
+          .pending(ReadingPurpose.PRONUNCIATION)
+          .complete(new ReaderResponse(expectedDictionaryEntry.sourceLinks().get(0), "", true));
+      reader
+          .pending(ReadingPurpose.MEANING)
+          .complete(new ReaderResponse(expectedDictionaryEntry.sourceLinks().get(1), "", true));
+
+      assertEquals(expectedDictionaryEntry, dictionaryEntry.get());
+    }
+
+    @Test
+    void pagesShouldBeExtractedAgainUnlessReaderRevalidates()
+        throws IOException, ExecutionException, InterruptedException {
+      DictionaryEntry dictionaryEntry = scraper.scrape(VALID_WORD);
+
+      ControlledReader reader = new ControlledReader(SOURCE_DOMAIN);
+      scraper.setReader(reader);
+
+      CompletableFuture<DictionaryEntry> revalidatedEntry = scraper.scrapeAsync(VALID_WORD);
+      // Nothing is remembered for a reader that doesn't revalidate, so the page is parsed again.
+      reader
+          .pending(ReadingPurpose.PRONUNCIATION)
+          .complete(new ReaderResponse(dictionaryEntry.sourceLinks().get(0), "", true));
+
+      assertNull(revalidatedEntry.get());
+    }
+
+    @Test
+    void extractedPronunciationsShouldNotBeModifiable() throws IOException {
+      List<IpaInfo> ipaInfos = scraper.scrape(VALID_WORD).ipaListings().get(Region.UK);
+
+      assertThrows(UnsupportedOperationException.class, () -> ipaInfos.add(ipaInfos.get(0)));
+    }
+
+    @Test
+    void extractedMeaningsShouldNotBeModifiable() throws IOException {
+      List<WordMeaning> meanings = scraper.scrape(VALID_WORD).meanings();
+      List<String> examples = meanings.get(0).entries().get(0).examples();
+
+      assertThrows(UnsupportedOperationException.class, () -> meanings.add(meanings.get(0)));
+      assertThrows(UnsupportedOperationException.class, () -> examples.add(""));
+    }
+
+    static Stream<String> validWords() {
+      return Stream.of("hello", "hello-us", "present");
+    }
+  }
+
+  @Nested
+  class WhenExtractUkSection {
+    private static final String SOURCE_DOMAIN = "https://dictionary.cambridge.org";
+    private static final String SECTIONS =
+        "<html><body><div class=\"pr dictionary\"><div class=\"di-body\">"
+            + "<div class=\"pr entry-body__el\"><div class=\"pos-header\">"
+            + "<span class=\"posgram\">noun</span></div></div></div></div>"
+            + "<div class=\"pr dictionary\"><div class=\"di-body\">"
+            + "<div class=\"pr entry-body__el\"><div class=\"pos-header\">"
+            + "<span class=\"posgram\">verb</span></div></div></div></div></body></html>";
+
+    @BeforeEach
+    void init() {
+      scraper.setReader(new MockCambridgeReader(SOURCE_DOMAIN));
+    }
+
+    @ParameterizedTest
+    @MethodSource("validWords")
+    void ukSectionShouldReturnSameDataAsFullPage(String word) throws IOException {
+      DictionaryEntry expectedDictionaryEntry = scraper.scrape(word);
+
+      scraper.setMeaningExtraction(MeaningExtraction.UK_SECTION);
+
+      assertEquals(expectedDictionaryEntry, scraper.scrape(word));
+    }
+
+    @Test
+    void dictionariesAfterUkSectionShouldBeIgnored() {
+      scraper.setMeaningExtraction(MeaningExtraction.UK_SECTION);
+
+      assertEquals(
+          List.of(new WordMeaning("noun", List.of())),
+          scraper.extractMeanings(new ReaderResponse("meaning/sections", SECTIONS)));
+    }
+
+    @Test
+    void pageCutShortAtOtherDictionariesShouldReturnSameMeanings() throws IOException {
+      MockCambridgeReader reader = new MockCambridgeReader(SOURCE_DOMAIN);
+      ReaderResponse page = reader.read("hello-dictionaries", ReadingPurpose.MEANING);
+      String data = page.data();
+      ReaderResponse truncatedPage =
+          new ReaderResponse(
+              page.link(),
+              data.substring(0, data.indexOf(CambridgeReader.OTHER_DICTIONARY_MARKERS.get(0))));
+
+      List<WordMeaning> meanings = scraper.extractMeanings(page);
+
+      assertEquals(meanings, scraper.extractMeanings(truncatedPage));
+      assertEquals(scraper.extractMeanings(reader.read("hello", ReadingPurpose.MEANING)), meanings);
+    }
+
+    @Test
+    void pageWithoutUkSectionShouldBeRejected() {
+      scraper.setMeaningExtraction(MeaningExtraction.UK_SECTION);
+
+      Exception exception =
+          assertThrows(
+              IllegalArgumentException.class,
+              () ->
+                  scraper.extractMeanings(
+                      new ReaderResponse("meaning/empty", "<html><body></body></html>")));
+      assertEquals("No UK dictionary section found", exception.getMessage());
+    }
+
+    @Test
+    void meaningExtractionCanNotBeNull() {
+      Exception exception =
+          assertThrows(IllegalArgumentException.class, () -> scraper.setMeaningExtraction(null));
+      assertEquals("meaningExtraction can not be null", exception.getMessage());
+    }
+
+    static Stream<String> validWords() {
+      return Stream.of("hello", "hello-us", "present");
+    }
+  }
+
+  @Nested
+  class WhenStreamPronunciations {
+    private static final String AUDIO_DOMAIN = "https://dictionary.cambridge.org";
+    private static final String UK_REGION =
+        "<div class=\"region-block\"><span class=\"pron-info\" data-pron-region=\"UK\">"
+            + "<span class=\"soundfile\"><audio>"
+            + "<source type=\"audio/mpeg\" src=\"/media/uk/word.mp3\"></audio></span>"
+            + "<span class=\"pron\" data-title=\"Written pronunciation\">/wɜːd/</span>"
+            + "</span></div>";
+    private static final String US_REGION =
+        "<div class=\"region-block\"><span class=\"pron-info\" data-pron-region=\"US\">"
+            + "<span class=\"soundfile\"><audio>"
+            + "<source type=\"audio/mpeg\" src=\"/media/us/word.mp3\"></audio></span>"
+            + "<span class=\"pron\" data-title=\"Written pronunciation\">/wɝːd/</span>"
+            + "</span></div>";
+
+    @Test
+    void blocksCrossingElementBoundariesShouldBeExtracted() {
+      String page =
+          "<html><body><div class=\"entry\"><p>before</p><div class=\"entry-body\">"
+              + "<div class=\"pron-block\"><div class=\"posgram\"><span class=\"ti\">no"
+              + "<b>u</b>n</span></div>"
+              + UK_REGION.replace("/wɜːd/", "/w<b>ɜː</b>d/")
+              + "</div><p>between</p></div><div class=\"entry-body\">"
+              + "<div class=\"pron-block\"><div class=\"posgram\"><span class=\"ti\">verb"
+              + "</span></div>"
+              + US_REGION
+              + "</div></div></div><p>after</p></body></html>";
+
+      assertEquals(
+          Map.of(
+              Region.UK,
+              List.of(new IpaInfo("noun", "/wɜːd/", AUDIO_DOMAIN + "/media/uk/word.mp3")),
+              Region.US,
+              List.of(new IpaInfo("verb", "/wɝːd/", AUDIO_DOMAIN + "/media/us/word.mp3"))),
+          scraper.streamIpaListings(new ReaderResponse("pronunciation/word", page)));
+    }
+
+    @Test
+    void pageWithoutPronunciationBlockShouldHaveNoListings() {
+      String page =
+          "<html><body><div class=\"entry\"><p>no pronunciations</p>"
+              + UK_REGION
+              + "</div></body></html>";
+
+      assertEquals(
+          Map.of(), scraper.streamIpaListings(new ReaderResponse("pronunciation/word", page)));
+    }
+
+    @Test
+    void pageStoppingEarlyShouldKeepListingsParsedSoFar() {
+      String page =
+          "<html><body><div class=\"entry\"><div class=\"pron-block\">"
+              + UK_REGION
+              + US_REGION.substring(0, US_REGION.indexOf("<span class=\"pron\""));
+
+      assertEquals(
+          Map.of(
+              Region.UK,
+              List.of(new IpaInfo("", "/wɜːd/", AUDIO_DOMAIN + "/media/uk/word.mp3"))),
+          scraper.streamIpaListings(new ReaderResponse("pronunciation/word", page)));
+    }
+  }
+
+  @Nested
+  class WhenWarmUp {
+    private static final String SOURCE_DOMAIN = "https://dictionary.cambridge.org";
+
+    @Test
+    void bundledSamplesShouldBeExtracted()
+        throws IOException, ExecutionException, InterruptedException {
+      scraper.setReader(new MockCambridgeReader(SOURCE_DOMAIN));
+      DictionaryEntry expectedDictionaryEntry = scraper.scrape("hello");
+
+      scraper.warmUp(true).get();
+
+      assertEquals(expectedDictionaryEntry, scraper.scrape("hello"));
+    }
+
+    @Test
+    void unreachableSourceShouldFailWarmUp() {
+      scraper.setReader(
+          new MockCambridgeReader(SOURCE_DOMAIN) {
+            @Override
+            public CompletableFuture<Void> warmUp() {
+              return CompletableFuture.failedFuture(new IOException("Connection refused"));
+            }
+          });
+
+      ExecutionException exception =
+          assertThrows(ExecutionException.class, () -> scraper.warmUp(true).get());
+      assertInstanceOf(IOException.class, exception.getCause());
+    }
+  }
+
+  @Nested
+  class WhenReadThroughDefaultReader {
+    private static final String PAGES = "/io/github/khshourov/dictionaryscraper/cambridge/";
+
+    private HttpServer server;
+    private String baseUri;
+
+    @BeforeEach
+    void init() throws IOException {
+      server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+      server.createContext(
+          "/",
+          exchange -> {
+            byte[] page =
+                exchange.getRequestURI().getPath().startsWith("/pronunciation/")
+                    ? pageOf("pronunciation/hello.html")
+                    : pageOf("meaning/hello-dictionaries.html");
+            exchange.sendResponseHeaders(200, page.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+              body.write(page);
+            }
+          });
+      server.start();
+      baseUri = String.format("http://127.0.0.1:%d", server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+      server.stop(0);
+    }
+
+    @Test
+    void meaningPageShouldBeReadOnlyUpToOtherDictionaries() throws IOException {
+      try (CambridgeReader reader = CambridgeScraper.newDefaultReader(baseUri)) {
+        ReaderResponse response = reader.read("hello", ReadingPurpose.MEANING);
+
+        assertTrue(response.truncated());
+        assertTrue(
+            response.body().remaining() < pageOf("meaning/hello-dictionaries.html").length);
+      }
+    }
+
+    @Test
+    void cutShortPagesShouldBeScrapedAsWholePages() throws IOException {
+      try (CambridgeReader defaultReader = CambridgeScraper.newDefaultReader(baseUri);
+          CambridgeReader wholePageReader = new CambridgeReader(baseUri)) {
+        scraper.setReader(defaultReader);
+        DictionaryEntry dictionaryEntry = scraper.scrape("hello");
+
+        scraper.setReader(wholePageReader);
+
+        assertEquals(scraper.scrape("hello"), dictionaryEntry);
+      }
+    }
+
+    private static byte[] pageOf(String name) throws IOException {
+      try (InputStream page = CambridgeScraperTest.class.getResourceAsStream(PAGES + name)) {
+        return page.readAllBytes();
+      }
+    }
+  }
+
+  @Nested
+  class WhenConstruct {
+    @Test
+    void rateLimitersCanNotBeNull() {
+      Exception exception =
+          assertThrows(IllegalArgumentException.class, () -> new CambridgeScraper(null));
+      assertEquals("rateLimiters can not be null", exception.getMessage());
+    }
+  }
+
   @Nested
   class WhenSetReader {
     @Test
@@ -404,7 +842,8 @@ class CambridgeScraperTest {
           arguments("Abc", "abc"),
           arguments("Abc's word", "abcsword"),
           arguments("1love!", "love"),
-          arguments("Amélie", "amlie"),
+          arguments("Amélie", "amelie"),
+          arguments("Straße", "strasse"),
           arguments(null, ""));
     }
   }
@@ -0,0 +1,50 @@
+package io.github.khshourov.dictionaryscraper.text;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import io.github.khshourov.dictionaryscraper.models.WordKey;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class WordNormalizerTest {
+  @ParameterizedTest
+  @MethodSource("words")
+  void normalizeShouldKeepLettersInLowerCase(String givenWord, String expected) {
+    assertEquals(new WordKey(expected), WordNormalizer.normalize(givenWord));
+  }
+
+  @Test
+  void canonicalWordShouldBeUsedAsItIs() {
+    String word = "hello";
+
+    assertSame(word, WordNormalizer.normalize(word).value());
+  }
+
+  @Test
+  void wordWithoutLettersShouldHaveEmptyKey() {
+    assertSame(WordKey.EMPTY, WordNormalizer.normalize("123 456!"));
+    assertSame(WordKey.EMPTY, WordNormalizer.normalize(""));
+    assertSame(WordKey.EMPTY, WordNormalizer.normalize(null));
+  }
+
+  static Stream<Arguments> words() {
+    return Stream.of(
+        arguments("Abc's word", "abcsword"),
+        arguments("1love!", "love"),
+        arguments("Amélie", "amelie"),
+        arguments("NAÏVE café", "naivecafe"),
+        arguments("Ångström", "angstrom"),
+        arguments("Straße", "strasse"),
+        arguments("Æsop Œuvre Øre", "aesopoeuvreore"),
+        arguments("Łódź", "lodz"),
+        arguments("café", "cafe"),
+        arguments("Привет", "привет"),
+        arguments("Москва 2024!", "москва"),
+        arguments("東京", "東京"));
+  }
+}